@@ -22,7 +22,7 @@ import taskbook.model.ReadOnlyUserPrefs;
 import taskbook.model.TaskBook;
 import taskbook.model.UserPrefs;
 import taskbook.model.util.SampleDataUtil;
-import taskbook.storage.JsonTaskBookStorage;
+import taskbook.storage.ConvertingTaskBookStorage;
 import taskbook.storage.JsonUserPrefsStorage;
 import taskbook.storage.Storage;
 import taskbook.storage.StorageManager;
@@ -56,7 +56,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        TaskBookStorage taskBookStorage = new JsonTaskBookStorage(userPrefs.getTaskBookFilePath());
+        TaskBookStorage taskBookStorage = initTaskBookStorage(userPrefs);
         storage = new StorageManager(taskBookStorage, userPrefsStorage);
 
         initLogging(config);
@@ -68,6 +68,14 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns a {@code TaskBookStorage} for the data file format chosen in {@code userPrefs}.
+     */
+    private TaskBookStorage initTaskBookStorage(ReadOnlyUserPrefs userPrefs) {
+        return ConvertingTaskBookStorage.create(userPrefs.getTaskBookFormat(), userPrefs.getTaskBookFilePath(),
+                userPrefs.isTaskBookPrettyPrinted());
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s task book and {@code userPrefs}. <br>
      * The data from the sample task book will be used instead if {@code storage}'s task book is not found,
@@ -174,6 +182,12 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping task book ] =============================");
+        logic.flushSaves();
+        try {
+            storage.close();
+        } catch (IOException e) {
+            logger.severe("Failed to close the task book storage " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -1,6 +1,7 @@
 package taskbook.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import taskbook.commons.core.GuiSettings;
@@ -25,6 +26,18 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is given the error message of every save of the TaskBook that failed.
+     * Saves are written in the background after the commands are executed, so the handler is called on a
+     * background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
+    /**
+     * Waits until the TaskBook has been saved after every command executed so far.
+     */
+    void flushSaves();
+
     /**
      * Returns the TaskBook.
      *
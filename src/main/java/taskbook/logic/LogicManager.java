@@ -1,7 +1,7 @@
 package taskbook.logic;
 
-import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -17,6 +17,7 @@ import taskbook.model.ReadOnlyTaskBook;
 import taskbook.model.person.Person;
 import taskbook.model.task.Task;
 import taskbook.storage.Storage;
+import taskbook.storage.TaskBookSaver;
 
 /**
  * The main LogicManager of the app.
@@ -24,20 +25,31 @@ import taskbook.storage.Storage;
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
 
+    /** A modification count that no task book has, marking the task book as not yet saved. */
+    private static final long UNSAVED = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
     private final Model model;
-    private final Storage storage;
+    private final TaskBookSaver taskBookSaver;
     private final TaskBookParser taskBookParser;
     private final CommandHistory commandHistory;
+    /** The modification count of the task book when it was last saved, or {@code UNSAVED} if that save failed. */
+    private volatile long savedModificationCount;
+    private volatile Consumer<String> saveFailureHandler = message -> {};
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
-        this.storage = storage;
+        taskBookSaver = new TaskBookSaver(storage);
         taskBookParser = new TaskBookParser();
         commandHistory = new CommandHistoryManager();
+        savedModificationCount = model.getTaskBookModificationCount();
+        taskBookSaver.setFailureHandler(ioe -> {
+            savedModificationCount = UNSAVED;
+            saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe);
+        });
     }
 
     @Override
@@ -50,15 +62,25 @@ public class LogicManager implements Logic {
         Command command = taskBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveTaskBook(model.getTaskBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        long modificationCount = model.getTaskBookModificationCount();
+        if (modificationCount != savedModificationCount) {
+            savedModificationCount = modificationCount;
+            taskBookSaver.save(model.getTaskBookSnapshot());
         }
 
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        saveFailureHandler = handler;
+    }
+
+    @Override
+    public void flushSaves() {
+        taskBookSaver.flush();
+    }
+
     @Override
     public ReadOnlyTaskBook getTaskBook() {
         return model.getTaskBook();
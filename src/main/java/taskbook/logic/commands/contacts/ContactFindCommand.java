@@ -43,7 +43,8 @@ public class ContactFindCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        model.updateFilteredPersonListPredicate(predicate);
+        // The query is looked up in the person index first, so that only matching persons are checked by the predicate.
+        model.updateFilteredPersonListPredicate(model.getPersonQueryPredicate(query).and(predicate));
         return new CommandResult(String.format(MESSAGE_SUCCESS + "\n"
                 + model.getFilteredPersonList().size() + " persons listed.\n"
                 + "Query: " + query));
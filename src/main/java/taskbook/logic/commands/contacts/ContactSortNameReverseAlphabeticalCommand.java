@@ -15,7 +15,7 @@ public class ContactSortNameReverseAlphabeticalCommand extends ContactSortComman
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        model.updateSortedPersonList(super.getComparator());
+        model.updateSortedPersonListByName(true);
         return new CommandResult(String.format(MESSAGE_SORT_TASK_SUCCESS + super.messageSortType));
     }
 
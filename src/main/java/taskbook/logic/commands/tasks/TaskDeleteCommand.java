@@ -13,6 +13,7 @@ import taskbook.logic.parser.CliSyntax;
 import taskbook.logic.parser.tasks.TaskCategoryParser;
 import taskbook.model.Model;
 import taskbook.model.task.Task;
+import taskbook.model.task.TaskBatch;
 
 /**
  * Deletes a task identified using it's displayed index from the task book.
@@ -25,13 +26,15 @@ public class TaskDeleteCommand extends Command {
             TaskCategoryParser.CATEGORY_WORD + " " + COMMAND_WORD
             + ": Deletes the task identified by the index number.\n"
             + "\n"
-            + "Parameters: " + CliSyntax.PREFIX_INDEX + "INDEX (must be a positive integer)\n"
+            + "Parameters: " + CliSyntax.PREFIX_INDEX + "INDEXES (positive integers, separated by commas, "
+            + "or ranges such as 1-3)\n"
             + "Example: " + TaskCategoryParser.CATEGORY_WORD + " "
-            + COMMAND_WORD + " " + CliSyntax.PREFIX_INDEX + "1";
+            + COMMAND_WORD + " " + CliSyntax.PREFIX_INDEX + "1-3,5";
 
     public static final String MESSAGE_DELETE_TASK_SUCCESS = "Task deleted: %1$s";
+    public static final String MESSAGE_DELETE_TASKS_SUCCESS = "%1$d tasks deleted";
 
-    private final Index targetIndex;
+    private final List<Index> targetIndexes;
 
     /**
      * Creates a TaskDeleteCommand to delete a task with the specified {@code Index index}.
@@ -39,7 +42,16 @@ public class TaskDeleteCommand extends Command {
      * @param targetIndex Index of the Task in the task book.
      */
     public TaskDeleteCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(List.of(targetIndex));
+    }
+
+    /**
+     * Creates a TaskDeleteCommand to delete the tasks with the specified {@code Index indexes}, all at once.
+     *
+     * @param targetIndexes Distinct indexes of the Tasks in the task book.
+     */
+    public TaskDeleteCommand(List<Index> targetIndexes) {
+        this.targetIndexes = List.copyOf(targetIndexes);
     }
 
     @Override
@@ -47,14 +59,24 @@ public class TaskDeleteCommand extends Command {
         requireNonNull(model);
         List<Task> lastShownList = model.getSortedTaskList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
+        for (Index targetIndex : targetIndexes) {
+            if (targetIndex.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
+            }
         }
 
-        Task taskToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deleteTask(taskToDelete);
+        TaskBatch batch = new TaskBatch();
+        Task taskToDelete = null;
+        for (Index targetIndex : targetIndexes) {
+            taskToDelete = lastShownList.get(targetIndex.getZeroBased());
+            batch.delete(taskToDelete);
+        }
+        model.applyTaskBatch(batch);
         model.commitTaskBook();
-        return new CommandResult(String.format(MESSAGE_DELETE_TASK_SUCCESS, taskToDelete));
+        if (targetIndexes.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_DELETE_TASK_SUCCESS, taskToDelete));
+        }
+        return new CommandResult(String.format(MESSAGE_DELETE_TASKS_SUCCESS, targetIndexes.size()));
     }
 
     @Override
@@ -68,6 +90,6 @@ public class TaskDeleteCommand extends Command {
         }
 
         TaskDeleteCommand otherCommand = (TaskDeleteCommand) other;
-        return targetIndex.equals(otherCommand.targetIndex);
+        return targetIndexes.equals(otherCommand.targetIndexes);
     }
 }
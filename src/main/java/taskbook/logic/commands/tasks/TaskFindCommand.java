@@ -1,10 +1,17 @@
 package taskbook.logic.commands.tasks;
 
 import static java.util.Objects.requireNonNull;
+import static taskbook.logic.parser.CliSyntax.PREFIX_AFTER;
 import static taskbook.logic.parser.CliSyntax.PREFIX_ASSIGNMENT;
+import static taskbook.logic.parser.CliSyntax.PREFIX_BEFORE;
 import static taskbook.logic.parser.CliSyntax.PREFIX_DONE;
 import static taskbook.logic.parser.CliSyntax.PREFIX_QUERY;
+import static taskbook.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import taskbook.logic.commands.Command;
@@ -12,7 +19,9 @@ import taskbook.logic.commands.CommandResult;
 import taskbook.logic.commands.exceptions.CommandException;
 import taskbook.logic.parser.tasks.TaskCategoryParser;
 import taskbook.model.Model;
+import taskbook.model.tag.Tag;
 import taskbook.model.task.Task;
+import taskbook.model.task.enums.Assignment;
 
 /**
  * Finds all tasks matching a given query exactly in name or description.
@@ -23,31 +32,63 @@ public class TaskFindCommand extends Command {
     public static final String MESSAGE_SUCCESS = "Displaying matching tasks.";
     public static final String MESSAGE_USAGE =
             TaskCategoryParser.CATEGORY_WORD + " " + COMMAND_WORD
-            + " <" + PREFIX_QUERY + "QUERY " + PREFIX_ASSIGNMENT + "ASSIGNMENT " + PREFIX_DONE + "DONE>: "
+            + " <" + PREFIX_QUERY + "QUERY " + PREFIX_ASSIGNMENT + "ASSIGNMENT " + PREFIX_DONE + "DONE "
+            + PREFIX_AFTER + "DATE " + PREFIX_BEFORE + "DATE " + PREFIX_TAG + "TAG...>: "
             + "Searches all task descriptions and names that contain the given query.\n"
             + "Parameters:\n"
             + PREFIX_QUERY + "QUERY\n"
             + PREFIX_ASSIGNMENT + "ASSIGNMENT\n"
             + PREFIX_DONE + "DONE\n"
+            + PREFIX_AFTER + "DATE\n"
+            + PREFIX_BEFORE + "DATE\n"
+            + PREFIX_TAG + "TAG...\n"
             + "Only tasks with exact matches with QUERY will be displayed. Can be multiple words. Case insensitive.\n"
             + "ASSIGNMENT is either FROM or TO for Assigned by or Assigned to respectively.\n"
             + "DONE is either X or O for done or not done respectively.\n"
+            + "Only deadlines and events dated on or after " + PREFIX_AFTER + "DATE and on or before "
+            + PREFIX_BEFORE + "DATE will be displayed.\n"
+            + "Only tasks with every TAG will be displayed.\n"
             + "Parameters can be in any ordering, but at least one must be present.";
     private Predicate<Task> predicate;
     private String query;
     private String assignment;
     private String done;
+    private LocalDate after;
+    private LocalDate before;
+    private Set<Tag> tags;
 
     /**
      * Creates a TaskFindCommand to search for tasks with the specified {@code Predicate<Task> query}.
      * @param query
      */
     public TaskFindCommand(Predicate<Task> predicate, String query, String asssignment, String done) {
+        this(predicate, query, asssignment, done, null, null);
+    }
+
+    /**
+     * Creates a TaskFindCommand to search for tasks with the specified {@code Predicate<Task> query} that are dated
+     * from {@code after} to {@code before}, both inclusive. A null date leaves that end of the range open.
+     */
+    public TaskFindCommand(Predicate<Task> predicate, String query, String asssignment, String done,
+                           LocalDate after, LocalDate before) {
+        this(predicate, query, asssignment, done, after, before, Collections.emptySet());
+    }
+
+    /**
+     * Creates a TaskFindCommand to search for tasks with the specified {@code Predicate<Task> query} that are dated
+     * from {@code after} to {@code before}, both inclusive, and tagged with all of {@code tags}.
+     */
+    public TaskFindCommand(Predicate<Task> predicate, String query, String asssignment, String done,
+                           LocalDate after, LocalDate before, Set<Tag> tags) {
         requireNonNull(predicate);
+        requireNonNull(tags);
         this.predicate = predicate;
         this.query = query;
         this.assignment = asssignment;
         this.done = done;
+        this.after = after;
+        this.before = before;
+        this.tags = tags;
     }
 
     public String getFilters() {
@@ -58,6 +99,17 @@ public class TaskFindCommand extends Command {
         if (assignment != null) {
             builder.append("Assignment: " + assignment + "\n");
         }
+        if (after != null) {
+            builder.append("After: " + after + "\n");
+        }
+        if (before != null) {
+            builder.append("Before: " + before + "\n");
+        }
+        if (!tags.isEmpty()) {
+            builder.append("Tags: ");
+            tags.forEach(builder::append);
+            builder.append("\n");
+        }
         if (done != null) {
             builder.append(done.equalsIgnoreCase("x") ? "Tasks are done." : "Task are not done.");
         }
@@ -66,7 +118,19 @@ public class TaskFindCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        model.updateFilteredTaskListPredicate(predicate);
+        // The query is looked up in the task index first, so that only matching tasks are checked by the predicate.
+        Predicate<Task> filter = query == null ? predicate : model.getTaskQueryPredicate(query).and(predicate);
+        // Likewise, the date range is looked up in the date index of the task book.
+        if (after != null || before != null) {
+            filter = model.getTaskDatePredicate(after, before).and(filter);
+        }
+        // And the done status, assignment and tags in its bitmap index.
+        if (done != null || assignment != null || !tags.isEmpty()) {
+            Boolean isDone = done == null ? null : done.equalsIgnoreCase("X");
+            Assignment parsedAssignment = assignment == null ? null : Assignment.valueOf(assignment.toUpperCase());
+            filter = model.getTaskFilterPredicate(isDone, parsedAssignment, tags).and(filter);
+        }
+        model.updateFilteredTaskListPredicate(filter);
         return new CommandResult(String.format(MESSAGE_SUCCESS + "\n"
                                 + model.getFilteredTaskList().size() + " tasks listed.\n"
                                 + getFilters()));
@@ -99,6 +163,8 @@ public class TaskFindCommand extends Command {
         boolean sameQuery = isSameQuery(command);
         boolean sameAssignment = isSameAssignment(command);
         boolean sameDone = isSameDoneStatus(command);
-        return sameQuery && sameAssignment && sameDone;
+        boolean sameDates = Objects.equals(after, command.after) && Objects.equals(before, command.before);
+        boolean sameTags = tags.equals(command.tags);
+        return sameQuery && sameAssignment && sameDone && sameDates && sameTags;
     }
 }
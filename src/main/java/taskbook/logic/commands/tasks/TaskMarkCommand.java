@@ -14,6 +14,7 @@ import taskbook.logic.parser.tasks.TaskCategoryParser;
 import taskbook.model.Model;
 import taskbook.model.task.EditTaskDescriptor;
 import taskbook.model.task.Task;
+import taskbook.model.task.TaskBatch;
 
 /**
  * Marks the completion status of an existing task in the task book.
@@ -25,13 +26,15 @@ public class TaskMarkCommand extends Command {
     public static final String MESSAGE_USAGE =
             TaskCategoryParser.CATEGORY_WORD + " " + COMMAND_WORD
                     + ": Marks the task identified by the index number as done.\n"
-                    + "Parameters: " + CliSyntax.PREFIX_INDEX + "INDEX (must be a positive integer)\n"
+                    + "Parameters: " + CliSyntax.PREFIX_INDEX + "INDEXES (positive integers, separated by commas, "
+                    + "or ranges such as 1-3)\n"
                     + "Example: " + TaskCategoryParser.CATEGORY_WORD + " "
-                    + COMMAND_WORD + " " + CliSyntax.PREFIX_INDEX + "1";
+                    + COMMAND_WORD + " " + CliSyntax.PREFIX_INDEX + "1-3,5";
 
     public static final String MESSAGE_MARK_TASK_SUCCESS = "Task marked: %1$s";
+    public static final String MESSAGE_MARK_TASKS_SUCCESS = "%1$d tasks marked";
 
-    private final Index targetIndex;
+    private final List<Index> targetIndexes;
 
     /**
      * Creates a TaskMarkCommand to mark a task with the specified {@code Index index}.
@@ -39,7 +42,16 @@ public class TaskMarkCommand extends Command {
      * @param targetIndex Index of the Task in the task book.
      */
     public TaskMarkCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(List.of(targetIndex));
+    }
+
+    /**
+     * Creates a TaskMarkCommand to mark the tasks with the specified {@code Index indexes}, all at once.
+     *
+     * @param targetIndexes Distinct indexes of the Tasks in the task book.
+     */
+    public TaskMarkCommand(List<Index> targetIndexes) {
+        this.targetIndexes = List.copyOf(targetIndexes);
     }
 
     @Override
@@ -48,18 +60,28 @@ public class TaskMarkCommand extends Command {
 
         List<Task> lastShownList = model.getSortedTaskList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
+        for (Index targetIndex : targetIndexes) {
+            if (targetIndex.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
+            }
         }
 
         EditTaskDescriptor editTaskDescriptor = new EditTaskDescriptor();
         editTaskDescriptor.setIsDone(true);
-        Task taskToMark = lastShownList.get(targetIndex.getZeroBased());
-        Task markedTask = taskToMark.createEditedCopy(editTaskDescriptor);
-        model.setTask(taskToMark, markedTask);
+        TaskBatch batch = new TaskBatch();
+        Task markedTask = null;
+        for (Index targetIndex : targetIndexes) {
+            Task taskToMark = lastShownList.get(targetIndex.getZeroBased());
+            markedTask = taskToMark.createEditedCopy(editTaskDescriptor);
+            batch.set(taskToMark, markedTask);
+        }
+        model.applyTaskBatch(batch);
         model.updateFilteredTaskListPredicate(Model.PREDICATE_SHOW_ALL_TASKS);
         model.commitTaskBook();
-        return new CommandResult(String.format(MESSAGE_MARK_TASK_SUCCESS, markedTask));
+        if (targetIndexes.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_MARK_TASK_SUCCESS, markedTask));
+        }
+        return new CommandResult(String.format(MESSAGE_MARK_TASKS_SUCCESS, targetIndexes.size()));
     }
 
     @Override
@@ -73,6 +95,6 @@ public class TaskMarkCommand extends Command {
         }
 
         TaskMarkCommand otherCommand = (TaskMarkCommand) other;
-        return targetIndex.equals(otherCommand.targetIndex);
+        return targetIndexes.equals(otherCommand.targetIndexes);
     }
 }
@@ -17,7 +17,7 @@ public class TaskSortDateChronologicalCommand extends TaskSortCommand {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        model.updateSortedTaskList(super.getComparator());
+        model.updateSortedTaskListByDate(false);
         return new CommandResult(String.format(MESSAGE_SORT_TASK_SUCCESS + super.messageSortType));
     }
 
@@ -17,7 +17,7 @@ public class TaskSortDateReverseChronologicalCommand extends TaskSortCommand {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        model.updateSortedTaskList(super.getComparator());
+        model.updateSortedTaskListByDate(true);
         return new CommandResult(String.format(MESSAGE_SORT_TASK_SUCCESS + super.messageSortType));
     }
 
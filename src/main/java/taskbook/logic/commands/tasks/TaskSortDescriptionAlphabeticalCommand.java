@@ -15,7 +15,7 @@ public class TaskSortDescriptionAlphabeticalCommand extends TaskSortCommand {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        model.updateSortedTaskList(super.getComparator());
+        model.updateSortedTaskListByDescription(false);
         return new CommandResult(String.format(MESSAGE_SORT_TASK_SUCCESS + super.messageSortType));
     }
 
@@ -14,6 +14,7 @@ import taskbook.logic.parser.tasks.TaskCategoryParser;
 import taskbook.model.Model;
 import taskbook.model.task.EditTaskDescriptor;
 import taskbook.model.task.Task;
+import taskbook.model.task.TaskBatch;
 
 /**
  * Unmarks the completion status of an existing task in the task book.
@@ -25,21 +26,32 @@ public class TaskUnmarkCommand extends Command {
     public static final String MESSAGE_USAGE =
             TaskCategoryParser.CATEGORY_WORD + " " + COMMAND_WORD
                     + ": Marks the task identified by the index number as undone.\n"
-                    + "Parameters: " + CliSyntax.PREFIX_INDEX + "INDEX (must be a positive integer)\n"
+                    + "Parameters: " + CliSyntax.PREFIX_INDEX + "INDEXES (positive integers, separated by commas, "
+                    + "or ranges such as 1-3)\n"
                     + "Example: " + TaskCategoryParser.CATEGORY_WORD + " "
-                    + COMMAND_WORD + " " + CliSyntax.PREFIX_INDEX + "1";
+                    + COMMAND_WORD + " " + CliSyntax.PREFIX_INDEX + "1-3,5";
 
     public static final String MESSAGE_UNMARK_TASK_SUCCESS = "Task unmarked: %1$s";
+    public static final String MESSAGE_UNMARK_TASKS_SUCCESS = "%1$d tasks unmarked";
 
-    private final Index targetIndex;
+    private final List<Index> targetIndexes;
 
     /**
-     * Creates a TaskUnmarkCommand to mark a task with the specified {@code Index index}.
+     * Creates a TaskUnmarkCommand to unmark a task with the specified {@code Index index}.
      *
      * @param targetIndex Index of the Task in the task book.
      */
     public TaskUnmarkCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(List.of(targetIndex));
+    }
+
+    /**
+     * Creates a TaskUnmarkCommand to unmark the tasks with the specified {@code Index indexes}, all at once.
+     *
+     * @param targetIndexes Distinct indexes of the Tasks in the task book.
+     */
+    public TaskUnmarkCommand(List<Index> targetIndexes) {
+        this.targetIndexes = List.copyOf(targetIndexes);
     }
 
     @Override
@@ -48,18 +60,28 @@ public class TaskUnmarkCommand extends Command {
 
         List<Task> lastShownList = model.getSortedTaskList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
+        for (Index targetIndex : targetIndexes) {
+            if (targetIndex.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
+            }
         }
 
         EditTaskDescriptor editTaskDescriptor = new EditTaskDescriptor();
         editTaskDescriptor.setIsDone(false);
-        Task taskToUnmark = lastShownList.get(targetIndex.getZeroBased());
-        Task unmarkedTask = taskToUnmark.createEditedCopy(editTaskDescriptor);
-        model.setTask(taskToUnmark, unmarkedTask);
+        TaskBatch batch = new TaskBatch();
+        Task unmarkedTask = null;
+        for (Index targetIndex : targetIndexes) {
+            Task taskToUnmark = lastShownList.get(targetIndex.getZeroBased());
+            unmarkedTask = taskToUnmark.createEditedCopy(editTaskDescriptor);
+            batch.set(taskToUnmark, unmarkedTask);
+        }
+        model.applyTaskBatch(batch);
         model.updateFilteredTaskListPredicate(Model.PREDICATE_SHOW_ALL_TASKS);
         model.commitTaskBook();
-        return new CommandResult(String.format(MESSAGE_UNMARK_TASK_SUCCESS, unmarkedTask));
+        if (targetIndexes.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_UNMARK_TASK_SUCCESS, unmarkedTask));
+        }
+        return new CommandResult(String.format(MESSAGE_UNMARK_TASKS_SUCCESS, targetIndexes.size()));
     }
 
     @Override
@@ -73,6 +95,6 @@ public class TaskUnmarkCommand extends Command {
         }
 
         TaskUnmarkCommand otherCommand = (TaskUnmarkCommand) other;
-        return targetIndex.equals(otherCommand.targetIndex);
+        return targetIndexes.equals(otherCommand.targetIndexes);
     }
 }
@@ -21,4 +21,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_QUERY = new Prefix("q/");
     public static final Prefix PREFIX_ASSIGNMENT = new Prefix("a/");
     public static final Prefix PREFIX_DONE = new Prefix("x/");
+    public static final Prefix PREFIX_AFTER = new Prefix("af/");
+    public static final Prefix PREFIX_BEFORE = new Prefix("bf/");
 }
@@ -3,8 +3,11 @@ package taskbook.logic.parser;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import taskbook.commons.core.index.Index;
@@ -15,6 +18,7 @@ import taskbook.model.person.Email;
 import taskbook.model.person.Name;
 import taskbook.model.person.Phone;
 import taskbook.model.tag.Tag;
+import taskbook.model.tag.TagSet;
 import taskbook.model.task.Description;
 
 /**
@@ -23,6 +27,13 @@ import taskbook.model.task.Description;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE =
+            "Index ranges should be written as START-END, where START is not greater than END.";
+
+    /** Limits the number of indexes in a list, so that a range such as 1-2000000000 is not expanded. */
+    public static final int MAX_INDEX_COUNT = 100000;
+    public static final String MESSAGE_TOO_MANY_INDEXES = "At most " + MAX_INDEX_COUNT
+            + " indexes can be given at once.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -37,6 +48,41 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code oneBasedIndexes}, a comma separated list of indexes and ranges of indexes such as
+     * {@code 1-300,305}, into the {@code Index}es it contains, in the order they are first listed. Indexes that are
+     * listed more than once are only returned once, and whitespace around the indexes is ignored.
+     * @throws ParseException if any of the indexes or ranges is invalid, or there are too many indexes.
+     */
+    public static List<Index> parseIndexes(String oneBasedIndexes) throws ParseException {
+        requireNonNull(oneBasedIndexes);
+        List<Index> indexes = new ArrayList<>();
+        BitSet seen = new BitSet();
+        for (String part : oneBasedIndexes.split(",", -1)) {
+            String[] bounds = part.split("-", -1);
+            if (bounds.length > 2) {
+                throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+            }
+
+            int start = parseIndex(bounds[0]).getOneBased();
+            int end = bounds.length == 1 ? start : parseIndex(bounds[1]).getOneBased();
+            if (start > end) {
+                throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+            }
+            for (int oneBased = start; oneBased <= end; oneBased++) {
+                if (seen.get(oneBased)) {
+                    continue;
+                }
+                if (indexes.size() == MAX_INDEX_COUNT) {
+                    throw new ParseException(MESSAGE_TOO_MANY_INDEXES);
+                }
+                seen.set(oneBased);
+                indexes.add(Index.fromOneBased(oneBased));
+            }
+        }
+        return indexes;
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -53,7 +99,7 @@ public class ParserUtil {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
         assert trimmedName.length() > 0;
-        return new Name(trimmedName);
+        return Name.of(trimmedName);
     }
 
     /**
@@ -113,11 +159,11 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
-     * Parses {@code Collection<String> tags} into a {@code Set<Tag>}.
+     * Parses {@code Collection<String> tags} into an immutable {@code Set<Tag>}.
      */
     public static Set<Tag> parseTags(Collection<String> tags) throws ParseException {
         requireNonNull(tags);
@@ -125,7 +171,7 @@ public class ParserUtil {
         for (String tagName : tags) {
             tagSet.add(parseTag(tagName));
         }
-        return tagSet;
+        return TagSet.of(tagSet);
     }
 
     /**
@@ -1,5 +1,6 @@
 package taskbook.logic.parser.tasks;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import taskbook.commons.core.Messages;
@@ -34,8 +35,8 @@ public class TaskDeleteCommandParser implements Parser<TaskDeleteCommand> {
                     TaskDeleteCommand.MESSAGE_USAGE));
         }
 
-        Index index = ParserUtil.parseIndex(argMultimap.getValue(CliSyntax.PREFIX_INDEX).get());
-        return new TaskDeleteCommand(index);
+        List<Index> indexes = ParserUtil.parseIndexes(argMultimap.getValue(CliSyntax.PREFIX_INDEX).get());
+        return new TaskDeleteCommand(indexes);
     }
 
     /**
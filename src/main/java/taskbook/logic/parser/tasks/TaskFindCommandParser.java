@@ -1,5 +1,7 @@
 package taskbook.logic.parser.tasks;
 
+import java.time.LocalDate;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -9,8 +11,10 @@ import taskbook.logic.parser.ArgumentMultimap;
 import taskbook.logic.parser.ArgumentTokenizer;
 import taskbook.logic.parser.CliSyntax;
 import taskbook.logic.parser.Parser;
+import taskbook.logic.parser.ParserUtil;
 import taskbook.logic.parser.Prefix;
 import taskbook.logic.parser.exceptions.ParseException;
+import taskbook.model.tag.Tag;
 import taskbook.model.task.Task;
 import taskbook.model.task.enums.Assignment;
 
@@ -26,7 +30,8 @@ public class TaskFindCommandParser implements Parser<TaskFindCommand> {
     @Override
     public TaskFindCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, CliSyntax.PREFIX_QUERY,
-                CliSyntax.PREFIX_ASSIGNMENT, CliSyntax.PREFIX_DONE);
+                CliSyntax.PREFIX_ASSIGNMENT, CliSyntax.PREFIX_DONE, CliSyntax.PREFIX_AFTER, CliSyntax.PREFIX_BEFORE,
+                CliSyntax.PREFIX_TAG);
 
         if (areAllTaskFindPrefixesAbsent(argMultimap)) {
             throw new ParseException(String.format(
@@ -44,7 +49,11 @@ public class TaskFindCommandParser implements Parser<TaskFindCommand> {
         boolean isQueryAbsent = !arePrefixesPresent(argMultimap, CliSyntax.PREFIX_QUERY);
         boolean isAssignmentAbsent = !arePrefixesPresent(argMultimap, CliSyntax.PREFIX_ASSIGNMENT);
         boolean isDoneStatusAbsent = !arePrefixesPresent(argMultimap, CliSyntax.PREFIX_DONE);
-        return isQueryAbsent && isAssignmentAbsent && isDoneStatusAbsent && !argMultimap.getPreamble().isEmpty();
+        boolean isDateRangeAbsent = !arePrefixesPresent(argMultimap, CliSyntax.PREFIX_AFTER)
+                && !arePrefixesPresent(argMultimap, CliSyntax.PREFIX_BEFORE);
+        boolean areTagsAbsent = !arePrefixesPresent(argMultimap, CliSyntax.PREFIX_TAG);
+        return isQueryAbsent && isAssignmentAbsent && isDoneStatusAbsent && isDateRangeAbsent && areTagsAbsent
+                && !argMultimap.getPreamble().isEmpty();
     }
 
     private boolean isDone(String query) throws ParseException {
@@ -103,6 +112,54 @@ public class TaskFindCommandParser implements Parser<TaskFindCommand> {
 
     private TaskFindCommand afterCheckQuery(ArgumentMultimap argMultimap,
                                             Predicate<Task> predicate) throws ParseException {
+        if (arePrefixesPresent(argMultimap, CliSyntax.PREFIX_AFTER)
+                || arePrefixesPresent(argMultimap, CliSyntax.PREFIX_BEFORE)) {
+            return checkDateRange(argMultimap, predicate);
+        } else {
+            return afterCheckDateRange(argMultimap, predicate, null, null);
+        }
+    }
+
+    private TaskFindCommand checkDateRange(ArgumentMultimap argMultimap,
+                                           Predicate<Task> predicate) throws ParseException {
+        LocalDate after = getDate(argMultimap, CliSyntax.PREFIX_AFTER);
+        LocalDate before = getDate(argMultimap, CliSyntax.PREFIX_BEFORE);
+        if (after != null && before != null && after.isAfter(before)) {
+            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                    "The " + CliSyntax.PREFIX_AFTER + " date must not be later than the "
+                            + CliSyntax.PREFIX_BEFORE + " date"));
+        }
+
+        Predicate<Task> dateRangePredicate = (t) -> t.isDateInRange(after, before);
+        if (predicate == null) {
+            return afterCheckDateRange(argMultimap, dateRangePredicate, after, before);
+        } else {
+            return afterCheckDateRange(argMultimap, predicate.and(dateRangePredicate), after, before);
+        }
+    }
+
+    private TaskFindCommand afterCheckDateRange(ArgumentMultimap argMultimap, Predicate<Task> predicate,
+                                                LocalDate after, LocalDate before) throws ParseException {
+        if (arePrefixesPresent(argMultimap, CliSyntax.PREFIX_TAG)) {
+            return checkTags(argMultimap, predicate, after, before);
+        } else {
+            return afterCheckTags(argMultimap, predicate, after, before, ParserUtil.parseTags(Set.of()));
+        }
+    }
+
+    private TaskFindCommand checkTags(ArgumentMultimap argMultimap, Predicate<Task> predicate,
+                                      LocalDate after, LocalDate before) throws ParseException {
+        Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(CliSyntax.PREFIX_TAG));
+        if (predicate == null) {
+            return afterCheckTags(argMultimap, (t) -> t.getTags().containsAll(tags), after, before, tags);
+        } else {
+            return afterCheckTags(argMultimap, predicate.and((t) -> t.getTags().containsAll(tags)),
+                    after, before, tags);
+        }
+    }
+
+    private TaskFindCommand afterCheckTags(ArgumentMultimap argMultimap, Predicate<Task> predicate,
+                                           LocalDate after, LocalDate before, Set<Tag> tags) throws ParseException {
         if (predicate == null) {
             throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
                     "Find arguments are empty.\n",
@@ -111,7 +168,8 @@ public class TaskFindCommandParser implements Parser<TaskFindCommand> {
         return new TaskFindCommand(predicate,
                 argMultimap.getValue(CliSyntax.PREFIX_QUERY).orElseGet(() -> null),
                 argMultimap.getValue(CliSyntax.PREFIX_ASSIGNMENT).orElseGet(() -> null),
-                argMultimap.getValue(CliSyntax.PREFIX_DONE).orElseGet(() -> null));
+                argMultimap.getValue(CliSyntax.PREFIX_DONE).orElseGet(() -> null),
+                after, before, tags);
     }
 
     private boolean getIsDone(ArgumentMultimap argMultimap) throws ParseException {
@@ -125,6 +183,11 @@ public class TaskFindCommandParser implements Parser<TaskFindCommand> {
                         TaskFindCommand.MESSAGE_USAGE)));
     }
 
+    private LocalDate getDate(ArgumentMultimap argMultimap, Prefix prefix) throws ParseException {
+        String date = argMultimap.getValue(prefix).orElse(null);
+        return date == null ? null : ParserUtil.parseDate(date);
+    }
+
     private Assignment getAssignment(ArgumentMultimap argMultimap) throws ParseException {
         return Assignment.parseAssignment(argMultimap.getValue(CliSyntax.PREFIX_ASSIGNMENT)
                 .orElseThrow(() -> new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
@@ -1,5 +1,6 @@
 package taskbook.logic.parser.tasks;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import taskbook.commons.core.Messages;
@@ -35,8 +36,8 @@ public class TaskMarkCommandParser implements Parser<TaskMarkCommand> {
                     TaskMarkCommand.MESSAGE_USAGE));
         }
 
-        Index index = ParserUtil.parseIndex(argMultimap.getValue(CliSyntax.PREFIX_INDEX).get());
-        return new TaskMarkCommand(index);
+        List<Index> indexes = ParserUtil.parseIndexes(argMultimap.getValue(CliSyntax.PREFIX_INDEX).get());
+        return new TaskMarkCommand(indexes);
     }
 
     /**
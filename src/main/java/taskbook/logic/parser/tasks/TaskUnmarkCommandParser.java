@@ -1,5 +1,6 @@
 package taskbook.logic.parser.tasks;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import taskbook.commons.core.Messages;
@@ -35,8 +36,8 @@ public class TaskUnmarkCommandParser implements Parser<TaskUnmarkCommand> {
                     TaskUnmarkCommand.MESSAGE_USAGE));
         }
 
-        Index index = ParserUtil.parseIndex(argMultimap.getValue(CliSyntax.PREFIX_INDEX).get());
-        return new TaskUnmarkCommand(index);
+        List<Index> indexes = ParserUtil.parseIndexes(argMultimap.getValue(CliSyntax.PREFIX_INDEX).get());
+        return new TaskUnmarkCommand(indexes);
     }
 
     /**
@@ -1,14 +1,19 @@
 package taskbook.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.Comparator;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import taskbook.commons.core.GuiSettings;
 import taskbook.model.person.Name;
 import taskbook.model.person.Person;
+import taskbook.model.tag.Tag;
 import taskbook.model.task.Task;
+import taskbook.model.task.TaskBatch;
+import taskbook.model.task.enums.Assignment;
 
 /**
  * The API of the Model component.
@@ -86,6 +91,18 @@ public interface Model {
     /** Returns the TaskBook */
     ReadOnlyTaskBook getTaskBook();
 
+    /**
+     * Returns an immutable snapshot of the current TaskBook, which may be read from any thread.
+     * @see TaskBook#snapshot()
+     */
+    ReadOnlyTaskBook getTaskBookSnapshot();
+
+    /**
+     * Returns a count that changes whenever the TaskBook is changed, including by undo and redo.
+     * @see TaskBook#getModificationCount()
+     */
+    long getTaskBookModificationCount();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the task book.
      */
@@ -120,6 +137,13 @@ public interface Model {
      */
     void setTask(Task target, Task editedTask);
 
+    /**
+     * Applies all additions, edits and deletions of tasks in {@code batch} at once, so the task lists are updated
+     * and listeners notified only once. Edited and deleted tasks must exist in the task book, and the task book must
+     * not contain duplicate tasks afterwards, or none of the batch is applied.
+     */
+    void applyTaskBatch(TaskBatch batch);
+
     /**
      * Returns true if the person can be deleted.
      */
@@ -168,6 +192,12 @@ public interface Model {
      */
     void resetSortedPersonList();
 
+    /**
+     * Sorts the sorted person list by name in alphabetical order, or in reverse if {@code isReversed}.
+     * The order is kept by the task book as persons are added and edited, so persons are not compared to sort them.
+     */
+    void updateSortedPersonListByName(boolean isReversed);
+
     /** Returns an unmodifiable view of the filtered task list */
     ObservableList<Task> getFilteredTaskList();
 
@@ -177,6 +207,35 @@ public interface Model {
      */
     void updateFilteredTaskListPredicate(Predicate<Task> predicate);
 
+    /**
+     * Returns a predicate that is true for persons in the task book that contain {@code query}, which is answered
+     * from an index instead of checking every person.
+     * @see Person#isQueryInPerson(String)
+     */
+    Predicate<Person> getPersonQueryPredicate(String query);
+
+    /**
+     * Returns a predicate that is true for tasks in the task book that contain {@code query}, which is answered from
+     * an index instead of checking every task.
+     * @see Task#isQueryInTask(String)
+     */
+    Predicate<Task> getTaskQueryPredicate(String query);
+
+    /**
+     * Returns a predicate that is true for tasks in the task book dated from {@code from} to {@code to}, both
+     * inclusive, which is answered from an index instead of checking every task. A null bound leaves that end of the
+     * range open.
+     * @see Task#isDateInRange(LocalDate, LocalDate)
+     */
+    Predicate<Task> getTaskDatePredicate(LocalDate from, LocalDate to);
+
+    /**
+     * Returns a predicate that is true for tasks in the task book with the done status {@code isDone} and the
+     * assignment {@code assignment}, that are tagged with all of {@code tags}, which is answered from an index
+     * instead of checking every task. A null done status or assignment matches any task.
+     */
+    Predicate<Task> getTaskFilterPredicate(Boolean isDone, Assignment assignment, Set<Tag> tags);
+
     /** Returns an unmodifiable view of the sorted task list */
     ObservableList<Task> getSortedTaskList();
 
@@ -191,4 +250,17 @@ public interface Model {
      * Updates the comparator of the sorted task list to be null, which sorts tasks by the time they were added.
      */
     void resetSortedTaskList();
+
+    /**
+     * Sorts the sorted task list by description in alphabetical order, or in reverse if {@code isReversed}.
+     * The order is kept by the task book as tasks are added and edited, so tasks are not compared to sort them.
+     */
+    void updateSortedTaskListByDescription(boolean isReversed);
+
+    /**
+     * Sorts the sorted task list by date in chronological order, or in reverse if {@code isReversed}, with tasks
+     * without a date at the end. The order is kept by the task book as tasks are added and edited, so tasks are not
+     * compared to sort them.
+     */
+    void updateSortedTaskListByDate(boolean isReversed);
 }
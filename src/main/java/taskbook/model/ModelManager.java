@@ -4,18 +4,23 @@ import static java.util.Objects.requireNonNull;
 import static taskbook.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.Comparator;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import taskbook.commons.core.GuiSettings;
 import taskbook.commons.core.LogsCenter;
 import taskbook.model.person.Name;
 import taskbook.model.person.Person;
+import taskbook.model.tag.Tag;
 import taskbook.model.task.Task;
+import taskbook.model.task.TaskBatch;
+import taskbook.model.task.enums.Assignment;
+import taskbook.model.util.OrderedList;
 
 /**
  * Represents the in-memory model of the task book data.
@@ -26,9 +31,9 @@ public class ModelManager implements Model {
     private final VersionedTaskBook versionedTaskBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
-    private final SortedList<Person> sortedPersons;
+    private final OrderedList<Person> sortedPersons;
     private final FilteredList<Task> filteredTasks;
-    private final SortedList<Task> sortedTasks;
+    private final OrderedList<Task> sortedTasks;
 
     /**
      * Initializes a ModelManager with the given taskBook and userPrefs.
@@ -38,12 +43,12 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with task book: " + taskBook + " and user prefs " + userPrefs);
 
-        versionedTaskBook = new VersionedTaskBook(new TaskBook(taskBook));
         this.userPrefs = new UserPrefs(userPrefs);
+        versionedTaskBook = new VersionedTaskBook(new TaskBook(taskBook), userPrefs.getUndoMode());
         filteredPersons = new FilteredList<>(versionedTaskBook.getPersonList());
-        sortedPersons = new SortedList<>(filteredPersons);
+        sortedPersons = new OrderedList<>(filteredPersons);
         filteredTasks = new FilteredList<>(versionedTaskBook.getTaskList());
-        sortedTasks = new SortedList<>(filteredTasks);
+        sortedTasks = new OrderedList<>(filteredTasks);
     }
 
     public ModelManager() {
@@ -122,6 +127,16 @@ public class ModelManager implements Model {
         return versionedTaskBook;
     }
 
+    @Override
+    public ReadOnlyTaskBook getTaskBookSnapshot() {
+        return versionedTaskBook.snapshot();
+    }
+
+    @Override
+    public long getTaskBookModificationCount() {
+        return versionedTaskBook.getModificationCount();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -185,6 +200,13 @@ public class ModelManager implements Model {
         versionedTaskBook.setTask(target, editedTask);
     }
 
+    @Override
+    public void applyTaskBatch(TaskBatch batch) {
+        requireNonNull(batch);
+
+        versionedTaskBook.applyTaskBatch(batch);
+    }
+
     //=========== Filtered Person & Task List Accessors =============================================================
 
     /**
@@ -218,6 +240,11 @@ public class ModelManager implements Model {
         sortedPersons.setComparator(null);
     }
 
+    @Override
+    public void updateSortedPersonListByName(boolean isReversed) {
+        sortedPersons.setOrdering(versionedTaskBook.getPersonNameOrdering(isReversed));
+    }
+
     /**
      * Returns an unmodifiable view of the list of {@code Task} backed by the internal list of
      * {@code TaskBook}
@@ -233,6 +260,29 @@ public class ModelManager implements Model {
         filteredTasks.setPredicate(predicate);
     }
 
+    @Override
+    public Predicate<Person> getPersonQueryPredicate(String query) {
+        requireNonNull(query);
+        return versionedTaskBook.getPersonQueryPredicate(query);
+    }
+
+    @Override
+    public Predicate<Task> getTaskQueryPredicate(String query) {
+        requireNonNull(query);
+        return versionedTaskBook.getTaskQueryPredicate(query);
+    }
+
+    @Override
+    public Predicate<Task> getTaskDatePredicate(LocalDate from, LocalDate to) {
+        return versionedTaskBook.getTaskDatePredicate(from, to);
+    }
+
+    @Override
+    public Predicate<Task> getTaskFilterPredicate(Boolean isDone, Assignment assignment, Set<Tag> tags) {
+        requireNonNull(tags);
+        return versionedTaskBook.getTaskFilterPredicate(isDone, assignment, tags);
+    }
+
 
     /**
      * Returns an unmodifiable view of the sorted list of {@code Task} backed by the internal list of
@@ -254,6 +304,16 @@ public class ModelManager implements Model {
         sortedTasks.setComparator(null);
     }
 
+    @Override
+    public void updateSortedTaskListByDescription(boolean isReversed) {
+        sortedTasks.setOrdering(versionedTaskBook.getTaskDescriptionOrdering(isReversed));
+    }
+
+    @Override
+    public void updateSortedTaskListByDate(boolean isReversed) {
+        sortedTasks.setOrdering(versionedTaskBook.getTaskDateOrdering(isReversed));
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
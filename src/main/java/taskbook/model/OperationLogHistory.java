@@ -0,0 +1,223 @@
+package taskbook.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+import taskbook.model.person.Person;
+import taskbook.model.task.Task;
+
+/**
+ * History that keeps only the changes made to the task book between commits.
+ * Changes are recorded from the person and task lists as they happen, including changes that are propagated from
+ * one list to the other, so committing, undoing and redoing only cost as much as the changes themselves.
+ */
+class OperationLogHistory implements TaskBookHistory {
+
+    private static final RangeReplacer<Person> PERSONS = TaskBook::replacePersons;
+    private static final RangeReplacer<Task> TASKS = TaskBook::replaceTasks;
+
+    private final int capacity;
+    /** Changes made by each commit, oldest first. */
+    private List<List<Edit<?>>> steps;
+    /** Number of steps that are currently applied to the task book. */
+    private int pointer;
+    private List<Edit<?>> pendingEdits;
+    private boolean isReplaying;
+
+    /**
+     * Creates an empty history with the given {@code capacity} that records changes made to {@code taskBook}.
+     */
+    OperationLogHistory(int capacity, TaskBook taskBook) {
+        this(capacity, taskBook, new ArrayList<>(), 0, new ArrayList<>());
+    }
+
+    private OperationLogHistory(int capacity, TaskBook taskBook, List<List<Edit<?>>> steps, int pointer,
+            List<Edit<?>> pendingEdits) {
+        this.capacity = capacity;
+        this.steps = steps;
+        this.pointer = pointer;
+        this.pendingEdits = pendingEdits;
+        taskBook.getPersonList().addListener(recorder(PERSONS));
+        taskBook.getTaskList().addListener(recorder(TASKS));
+    }
+
+    private <E> ListChangeListener<E> recorder(RangeReplacer<E> target) {
+        return change -> {
+            if (isReplaying) {
+                return;
+            }
+
+            while (change.next()) {
+                List<E> removed = new ArrayList<>(change.getRemoved());
+                List<E> added = new ArrayList<>(change.getAddedSubList());
+                // Setting an element to an equal element is not a change worth undoing.
+                if (!removed.equals(added)) {
+                    pendingEdits.add(new Edit<>(target, change.getFrom(), removed, added));
+                }
+            }
+        };
+    }
+
+    private void pruneFutureStepsIfRequired() {
+        if (pointer == steps.size()) {
+            return;
+        }
+
+        steps = new ArrayList<>(steps.subList(0, pointer));
+    }
+
+    private void pruneToCapacityIfRequired() {
+        if (steps.size() <= capacity * 2) {
+            return;
+        }
+
+        steps = new ArrayList<>(steps.subList(steps.size() - capacity, steps.size()));
+    }
+
+    /**
+     * Reverts the changes made since the last commit, undo or redo.
+     */
+    private void revertPendingEdits(TaskBook taskBook) {
+        List<Edit<?>> edits = pendingEdits;
+        pendingEdits = new ArrayList<>();
+        undoEdits(taskBook, edits);
+    }
+
+    private void undoEdits(TaskBook taskBook, List<Edit<?>> edits) {
+        isReplaying = true;
+        try {
+            for (int i = edits.size() - 1; i >= 0; i--) {
+                edits.get(i).undo(taskBook);
+            }
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    private void redoEdits(TaskBook taskBook, List<Edit<?>> edits) {
+        isReplaying = true;
+        try {
+            for (Edit<?> edit : edits) {
+                edit.redo(taskBook);
+            }
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    @Override
+    public void commit(TaskBook taskBook) {
+        if (pendingEdits.isEmpty()) {
+            return;
+        }
+
+        pruneFutureStepsIfRequired();
+        steps.add(Collections.unmodifiableList(pendingEdits));
+        pendingEdits = new ArrayList<>();
+        pruneToCapacityIfRequired();
+
+        pointer = steps.size();
+    }
+
+    @Override
+    public boolean canUndo() {
+        return pointer > 0;
+    }
+
+    @Override
+    public void undo(TaskBook taskBook) {
+        revertPendingEdits(taskBook);
+        pointer--;
+        undoEdits(taskBook, steps.get(pointer));
+    }
+
+    @Override
+    public boolean canRedo() {
+        return pointer < steps.size();
+    }
+
+    @Override
+    public void redo(TaskBook taskBook) {
+        revertPendingEdits(taskBook);
+        redoEdits(taskBook, steps.get(pointer));
+        pointer++;
+    }
+
+    @Override
+    public TaskBookHistory copyFor(TaskBook taskBook) {
+        return new OperationLogHistory(capacity, taskBook, new ArrayList<>(steps), pointer,
+                new ArrayList<>(pendingEdits));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OperationLogHistory // instanceof handles nulls
+                && steps.equals(((OperationLogHistory) other).steps)
+                && pointer == ((OperationLogHistory) other).pointer);
+    }
+
+    @Override
+    public int hashCode() {
+        return steps.hashCode() * 31 + pointer;
+    }
+
+    /**
+     * Replaces a range of one of the lists in a {@code TaskBook}.
+     */
+    @FunctionalInterface
+    private interface RangeReplacer<E> {
+        void replace(TaskBook taskBook, int from, int to, List<E> replacement);
+    }
+
+    /**
+     * A change to one of the lists in a {@code TaskBook}: {@code removed} was replaced by {@code added} at
+     * position {@code from}.
+     */
+    private static final class Edit<E> {
+        private final RangeReplacer<E> target;
+        private final int from;
+        private final List<E> removed;
+        private final List<E> added;
+
+        Edit(RangeReplacer<E> target, int from, List<E> removed, List<E> added) {
+            this.target = target;
+            this.from = from;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        void undo(TaskBook taskBook) {
+            target.replace(taskBook, from, from + added.size(), removed);
+        }
+
+        void redo(TaskBook taskBook) {
+            target.replace(taskBook, from, from + removed.size(), added);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof Edit)) {
+                return false;
+            }
+
+            Edit<?> otherEdit = (Edit<?>) other;
+            return target == otherEdit.target
+                    && from == otherEdit.from
+                    && removed.equals(otherEdit.removed)
+                    && added.equals(otherEdit.added);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, removed, added);
+        }
+    }
+}
@@ -13,4 +13,11 @@ public interface ReadOnlyUserPrefs {
 
     Path getTaskBookFilePath();
 
+    UndoMode getUndoMode();
+
+    /** Returns true if the task book data file is pretty printed, or false if it is kept compact. */
+    boolean isTaskBookPrettyPrinted();
+
+    TaskBookFormat getTaskBookFormat();
+
 }
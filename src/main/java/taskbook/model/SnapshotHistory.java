@@ -0,0 +1,125 @@
+package taskbook.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * History that keeps a {@code TaskBookSnapshot} of the whole task book for every commit.
+ * Snapshots share unchanged storage, so neither committing nor undoing and redoing copies the whole task book.
+ */
+class SnapshotHistory implements TaskBookHistory {
+
+    private final int capacity;
+    private List<TaskBookSnapshot> taskBookStateList;
+    private int pointer;
+
+    /**
+     * Creates a history with the given {@code capacity}, whose only state is the current state of {@code taskBook}.
+     */
+    SnapshotHistory(int capacity, TaskBook taskBook) {
+        this.capacity = capacity;
+        taskBookStateList = new ArrayList<>();
+        taskBookStateList.add(taskBook.snapshot());
+        pointer = 0;
+    }
+
+    private SnapshotHistory(SnapshotHistory toBeCopied) {
+        capacity = toBeCopied.capacity;
+        taskBookStateList = new ArrayList<>(toBeCopied.taskBookStateList);
+        pointer = toBeCopied.pointer;
+    }
+
+    /**
+     * Returns true if the given state matches the newest state in the version history.
+     * Ensure that commits that with no state change do not clog the version history.
+     */
+    private boolean isDuplicateCommit(TaskBookSnapshot state) {
+        TaskBookSnapshot newestState = taskBookStateList.get(pointer);
+        return newestState.equals(state);
+    }
+
+    private void pruneFutureStatesIfRequired() {
+        if (pointer == taskBookStateList.size() - 1) {
+            return;
+        }
+
+        List<TaskBookSnapshot> prunedList = new ArrayList<>(capacity);
+        for (int i = 0; i <= pointer; i++) {
+            TaskBookSnapshot state = taskBookStateList.get(i);
+            prunedList.add(state);
+        }
+
+        taskBookStateList = prunedList;
+    }
+
+    private void pruneToCapacityIfRequired() {
+        assert taskBookStateList != null;
+
+        if (taskBookStateList.size() <= capacity * 2) {
+            return;
+        }
+
+        List<TaskBookSnapshot> prunedList = new ArrayList<>(capacity);
+        for (int i = 0; i < capacity; i++) {
+            TaskBookSnapshot state = taskBookStateList.get(capacity + i + 1);
+            prunedList.add(state);
+        }
+
+        taskBookStateList = prunedList;
+    }
+
+    @Override
+    public void commit(TaskBook taskBook) {
+        TaskBookSnapshot state = taskBook.snapshot();
+        if (isDuplicateCommit(state)) {
+            return;
+        }
+
+        pruneFutureStatesIfRequired();
+        taskBookStateList.add(state);
+        pruneToCapacityIfRequired();
+
+        // Set the pointer to point to the newest command.
+        pointer = taskBookStateList.size() - 1;
+    }
+
+    @Override
+    public boolean canUndo() {
+        return pointer - 1 >= 0;
+    }
+
+    @Override
+    public void undo(TaskBook taskBook) {
+        pointer--;
+        taskBook.restore(taskBookStateList.get(pointer));
+    }
+
+    @Override
+    public boolean canRedo() {
+        return pointer + 1 < taskBookStateList.size();
+    }
+
+    @Override
+    public void redo(TaskBook taskBook) {
+        pointer++;
+        taskBook.restore(taskBookStateList.get(pointer));
+    }
+
+    @Override
+    public TaskBookHistory copyFor(TaskBook taskBook) {
+        return new SnapshotHistory(this);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SnapshotHistory // instanceof handles nulls
+                && taskBookStateList.equals(((SnapshotHistory) other).taskBookStateList)
+                && pointer == ((SnapshotHistory) other).pointer);
+    }
+
+    @Override
+    public int hashCode() {
+        return taskBookStateList.hashCode() * 31 + pointer;
+    }
+}
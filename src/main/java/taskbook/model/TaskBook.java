@@ -2,27 +2,38 @@ package taskbook.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import taskbook.logic.commands.exceptions.CommandException;
 import taskbook.model.person.Name;
 import taskbook.model.person.Person;
 import taskbook.model.person.UniquePersonList;
+import taskbook.model.tag.Tag;
 import taskbook.model.task.EditTaskDescriptor;
 import taskbook.model.task.Task;
+import taskbook.model.task.TaskBatch;
 import taskbook.model.task.TaskList;
+import taskbook.model.task.enums.Assignment;
+import taskbook.model.util.OrderedList.Ordering;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Task books and their snapshots with different contents are usually told apart in constant time by the content
+ * fingerprints of their lists, see {@link taskbook.model.util.SnapshotList}.
  */
 public class TaskBook implements ReadOnlyTaskBook {
 
     private final UniquePersonList persons;
     private final TaskList tasks;
+    private long modificationCount;
 
     /**
      * Creates a new TaskBook
@@ -30,6 +41,9 @@ public class TaskBook implements ReadOnlyTaskBook {
     public TaskBook() {
         this.persons = new UniquePersonList();
         this.tasks = new TaskList();
+        ListChangeListener<Object> countModification = change -> modificationCount++;
+        getPersonList().addListener(countModification);
+        getTaskList().addListener(countModification);
     }
 
     /**
@@ -64,10 +78,49 @@ public class TaskBook implements ReadOnlyTaskBook {
     public void resetData(ReadOnlyTaskBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof TaskBookSnapshot) {
+            restore((TaskBookSnapshot) newData);
+            return;
+        }
+
         setPersons(newData.getPersonList());
         setTasks(newData.getTaskList());
     }
 
+    /**
+     * Replaces the persons from position {@code from} (inclusive) to {@code to} (exclusive) with {@code replacement}.
+     */
+    void replacePersons(int from, int to, List<Person> replacement) {
+        persons.replaceRange(from, to, replacement);
+    }
+
+    /**
+     * Replaces the tasks from position {@code from} (inclusive) to {@code to} (exclusive) with {@code replacement}.
+     */
+    void replaceTasks(int from, int to, List<Task> replacement) {
+        tasks.replaceRange(from, to, replacement);
+    }
+
+    //// snapshot operations
+
+    /**
+     * Returns an immutable snapshot of the current data of this {@code TaskBook}.
+     * Taking a snapshot does not copy the persons and tasks; see {@link TaskBookSnapshot}.
+     */
+    public TaskBookSnapshot snapshot() {
+        return new TaskBookSnapshot(persons.snapshot(), tasks.snapshot());
+    }
+
+    /**
+     * Replaces the existing data of this {@code TaskBook} with the data in {@code snapshot}.
+     */
+    public void restore(TaskBookSnapshot snapshot) {
+        requireNonNull(snapshot);
+
+        persons.restore(snapshot.getPersons());
+        tasks.restore(snapshot.getTasks());
+    }
+
     //// person-level operations
 
     /**
@@ -117,11 +170,8 @@ public class TaskBook implements ReadOnlyTaskBook {
             return;
         }
 
-        for (Task task : tasks) {
-            if (!task.getName().equals(name)) {
-                continue;
-            }
-
+        TaskBatch batch = new TaskBatch();
+        for (Task task : tasks.getTasksFor(name)) {
             EditTaskDescriptor descriptor = new EditTaskDescriptor();
             descriptor.setName(editedName);
             Task editedTask;
@@ -133,8 +183,9 @@ public class TaskBook implements ReadOnlyTaskBook {
                 Logger.getGlobal().warning(logMessage);
                 continue;
             }
-            tasks.setTask(task, editedTask);
+            batch.set(task, editedTask);
         }
+        tasks.applyBatch(batch);
     }
 
     /**
@@ -152,15 +203,7 @@ public class TaskBook implements ReadOnlyTaskBook {
             return false;
         }
 
-        Name name = key.getName();
-
-        for (Task task : tasks) {
-            if (task.getName().equals(name)) {
-                return false;
-            }
-        }
-
-        return true;
+        return !tasks.hasTasksFor(key.getName());
     }
 
     /**
@@ -185,6 +228,67 @@ public class TaskBook implements ReadOnlyTaskBook {
         return tasks.contains(task);
     }
 
+    /**
+     * Returns the positions of the persons in the task book when they are ordered by name alphabetically, or in
+     * reverse if {@code isReversed}.
+     * @see UniquePersonList#getNameOrdering(boolean)
+     */
+    public Ordering<Person> getPersonNameOrdering(boolean isReversed) {
+        return persons.getNameOrdering(isReversed);
+    }
+
+    /**
+     * Returns the positions of the tasks in the task book when they are ordered by description alphabetically, or
+     * in reverse if {@code isReversed}.
+     * @see TaskList#getDescriptionOrdering(boolean)
+     */
+    public Ordering<Task> getTaskDescriptionOrdering(boolean isReversed) {
+        return tasks.getDescriptionOrdering(isReversed);
+    }
+
+    /**
+     * Returns the positions of the tasks in the task book when they are ordered by date, or in reverse if
+     * {@code isReversed}, with tasks without a date last.
+     * @see TaskList#getDateOrdering(boolean)
+     */
+    public Ordering<Task> getTaskDateOrdering(boolean isReversed) {
+        return tasks.getDateOrdering(isReversed);
+    }
+
+    /**
+     * Returns a predicate that is true for the persons in the task book that contain {@code query}.
+     * @see Person#isQueryInPerson(String)
+     */
+    public Predicate<Person> getPersonQueryPredicate(String query) {
+        return persons.getQueryPredicate(query);
+    }
+
+    /**
+     * Returns a predicate that is true for the tasks in the task book that contain {@code query}.
+     * @see Task#isQueryInTask(String)
+     */
+    public Predicate<Task> getTaskQueryPredicate(String query) {
+        return tasks.getQueryPredicate(query);
+    }
+
+    /**
+     * Returns a predicate that is true for the tasks in the task book dated from {@code from} to {@code to}, both
+     * inclusive. A null bound leaves that end of the range open.
+     * @see Task#isDateInRange(LocalDate, LocalDate)
+     */
+    public Predicate<Task> getTaskDatePredicate(LocalDate from, LocalDate to) {
+        return tasks.getDatePredicate(from, to);
+    }
+
+    /**
+     * Returns a predicate that is true for the tasks in the task book with the done status {@code isDone} and the
+     * assignment {@code assignment}, that are tagged with all of {@code tags}. A null done status or assignment
+     * matches any task.
+     */
+    public Predicate<Task> getTaskFilterPredicate(Boolean isDone, Assignment assignment, Set<Tag> tags) {
+        return tasks.getFilterPredicate(isDone, assignment, tags);
+    }
+
     /**
      * Adds a task to the task book.
      * The task must not already exist in the task book.
@@ -212,6 +316,14 @@ public class TaskBook implements ReadOnlyTaskBook {
         tasks.remove(t);
     }
 
+    /**
+     * Applies all additions, edits and deletions of tasks in {@code batch} at once, or none of them if any is invalid.
+     * @see TaskList#applyBatch(TaskBatch)
+     */
+    public void applyTaskBatch(TaskBatch batch) {
+        tasks.applyBatch(batch);
+    }
+
     //// util methods
 
     @Override
@@ -220,6 +332,14 @@ public class TaskBook implements ReadOnlyTaskBook {
         // TODO: refine later
     }
 
+    /**
+     * Returns the number of times the persons or tasks have been changed, so that callers can tell whether the task
+     * book has changed since they last looked at it without comparing its contents.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public ObservableList<Person> getPersonList() {
         return persons.asUnmodifiableObservableList();
@@ -0,0 +1,17 @@
+package taskbook.model;
+
+/**
+ * Represents the format in which the task book data file is saved.
+ * A data file in any of the formats can be read whatever format is chosen, and is converted to the chosen format
+ * the next time the task book is saved.
+ */
+public enum TaskBookFormat {
+    /** A json snapshot with a journal of the changes saved since. */
+    JSON,
+    /** A compact binary snapshot, which is smaller and faster to read and write. */
+    BINARY,
+    /** A json persons file, with the tasks split into shards by assignee that are only rewritten when they change. */
+    SHARDED,
+    /** An embedded SQL database next to the data file, into which the data file is imported when it is first read. */
+    SQL
+}
@@ -0,0 +1,32 @@
+package taskbook.model;
+
+/**
+ * Version history of a {@code TaskBook}, used by {@code VersionedTaskBook} to undo and redo changes.
+ */
+interface TaskBookHistory {
+
+    /**
+     * Records the current state of {@code taskBook} as the newest state in the history.
+     * Does nothing if the state has not changed since the last commit.
+     */
+    void commit(TaskBook taskBook);
+
+    boolean canUndo();
+
+    /**
+     * Reverts {@code taskBook} to the previous state in the history.
+     */
+    void undo(TaskBook taskBook);
+
+    boolean canRedo();
+
+    /**
+     * Reverts {@code taskBook} to a previously undone state in the history.
+     */
+    void redo(TaskBook taskBook);
+
+    /**
+     * Returns a copy of this history for {@code taskBook}.
+     */
+    TaskBookHistory copyFor(TaskBook taskBook);
+}
@@ -0,0 +1,78 @@
+package taskbook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import taskbook.model.person.Person;
+import taskbook.model.task.Task;
+import taskbook.model.util.SnapshotList.Snapshot;
+
+/**
+ * Immutable state of a {@code TaskBook} at the time the snapshot was taken.
+ * Snapshots share unchanged storage with each other and with the task book they were taken from.
+ */
+public class TaskBookSnapshot implements ReadOnlyTaskBook {
+
+    private final Snapshot<Person> persons;
+    private final Snapshot<Task> tasks;
+
+    /**
+     * Every field must be present and not null.
+     */
+    TaskBookSnapshot(Snapshot<Person> persons, Snapshot<Task> tasks) {
+        requireNonNull(persons);
+        requireNonNull(tasks);
+        this.persons = persons;
+        this.tasks = tasks;
+    }
+
+    Snapshot<Person> getPersons() {
+        return persons;
+    }
+
+    Snapshot<Task> getTasks() {
+        return tasks;
+    }
+
+    /**
+     * Returns the range of the persons of {@code earlier} that was replaced to give the persons of this snapshot,
+     * or null if they are the same. See {@link Snapshot#changedRangeSince(Snapshot)}.
+     */
+    public int[] getChangedPersonRange(TaskBookSnapshot earlier) {
+        return persons.changedRangeSince(earlier.persons);
+    }
+
+    /**
+     * Returns the range of the tasks of {@code earlier} that was replaced to give the tasks of this snapshot,
+     * or null if they are the same. See {@link Snapshot#changedRangeSince(Snapshot)}.
+     */
+    public int[] getChangedTaskRange(TaskBookSnapshot earlier) {
+        return tasks.changedRangeSince(earlier.tasks);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+    }
+
+    @Override
+    public ObservableList<Task> getTaskList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(tasks));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TaskBookSnapshot // instanceof handles nulls
+                && persons.equals(((TaskBookSnapshot) other).persons)
+                && tasks.equals(((TaskBookSnapshot) other).tasks));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(persons, tasks);
+    }
+}
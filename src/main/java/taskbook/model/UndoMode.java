@@ -0,0 +1,27 @@
+package taskbook.model;
+
+/**
+ * Represents how {@code VersionedTaskBook} keeps the history used for undo and redo.
+ */
+public enum UndoMode {
+    /** Keeps a snapshot of the whole task book for every commit. */
+    SNAPSHOT(15, 100),
+    /** Keeps only the changes made between commits, which are reverted or replayed to undo or redo. */
+    OPERATION_LOG(1000, 10000);
+
+    private final int defaultCapacity;
+    private final int maximumCapacity;
+
+    UndoMode(int defaultCapacity, int maximumCapacity) {
+        this.defaultCapacity = defaultCapacity;
+        this.maximumCapacity = maximumCapacity;
+    }
+
+    public int getDefaultCapacity() {
+        return defaultCapacity;
+    }
+
+    public int getMaximumCapacity() {
+        return maximumCapacity;
+    }
+}
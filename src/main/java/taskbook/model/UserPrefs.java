@@ -15,6 +15,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path taskBookFilePath = Paths.get("data" , "taskbook.json");
+    private UndoMode undoMode = UndoMode.SNAPSHOT;
+    private boolean isTaskBookPrettyPrinted = true;
+    private TaskBookFormat taskBookFormat = TaskBookFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +39,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setTaskBookFilePath(newUserPrefs.getTaskBookFilePath());
+        setUndoMode(newUserPrefs.getUndoMode());
+        setTaskBookPrettyPrinted(newUserPrefs.isTaskBookPrettyPrinted());
+        setTaskBookFormat(newUserPrefs.getTaskBookFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +62,32 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.taskBookFilePath = taskBookFilePath;
     }
 
+    public UndoMode getUndoMode() {
+        return undoMode;
+    }
+
+    public void setUndoMode(UndoMode undoMode) {
+        requireNonNull(undoMode);
+        this.undoMode = undoMode;
+    }
+
+    public boolean isTaskBookPrettyPrinted() {
+        return isTaskBookPrettyPrinted;
+    }
+
+    public void setTaskBookPrettyPrinted(boolean isTaskBookPrettyPrinted) {
+        this.isTaskBookPrettyPrinted = isTaskBookPrettyPrinted;
+    }
+
+    public TaskBookFormat getTaskBookFormat() {
+        return taskBookFormat;
+    }
+
+    public void setTaskBookFormat(TaskBookFormat taskBookFormat) {
+        requireNonNull(taskBookFormat);
+        this.taskBookFormat = taskBookFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +100,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && taskBookFilePath.equals(o.taskBookFilePath);
+                && taskBookFilePath.equals(o.taskBookFilePath)
+                && undoMode == o.undoMode
+                && isTaskBookPrettyPrinted == o.isTaskBookPrettyPrinted
+                && taskBookFormat == o.taskBookFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, taskBookFilePath);
+        return Objects.hash(guiSettings, taskBookFilePath, undoMode, isTaskBookPrettyPrinted, taskBookFormat);
     }
 
     @Override
@@ -81,6 +116,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + taskBookFilePath);
+        sb.append("\nUndo mode : " + undoMode);
+        sb.append("\nPretty print data file : " + isTaskBookPrettyPrinted);
+        sb.append("\nData file format : " + taskBookFormat);
         return sb.toString();
     }
 
@@ -1,133 +1,85 @@
 package taskbook.model;
 
-import java.util.ArrayList;
+import static java.util.Objects.requireNonNull;
 
 /**
  * TaskBook with version history.
+ * How the history is kept is determined by the {@link UndoMode} the VersionedTaskBook is created with.
  */
 public class VersionedTaskBook extends TaskBook {
 
-    private static final int DEFAULT_CAPACITY = 15;
-    private static final int MAXIMUM_CAPACITY = 100;
-    private final int capacity;
-    private ArrayList<TaskBook> taskBookStateList;
-    private int pointer;
+    private final TaskBookHistory history;
 
     /**
-     * Creates a VersionedTaskBook with the given {@code capacity} and {@code initialState}.
+     * Creates a VersionedTaskBook with the given {@code capacity}, {@code initialState} and {@code undoMode}.
      * Defensively creates a copy of the {@code initialState}.
      */
-    public VersionedTaskBook(int capacity, TaskBook initialState) {
+    public VersionedTaskBook(int capacity, TaskBook initialState, UndoMode undoMode) {
         super(initialState);
+        requireNonNull(undoMode);
 
         // Defensively ensure that the capacity does not ensure a certain threshold.
-        if (capacity > MAXIMUM_CAPACITY) {
-            capacity = MAXIMUM_CAPACITY;
+        if (capacity > undoMode.getMaximumCapacity()) {
+            capacity = undoMode.getMaximumCapacity();
         }
 
-        this.capacity = capacity;
-        taskBookStateList = new ArrayList<>();
-        taskBookStateList.add(new TaskBook(initialState));
-        pointer = 0;
+        if (undoMode == UndoMode.OPERATION_LOG) {
+            history = new OperationLogHistory(capacity, this);
+        } else {
+            history = new SnapshotHistory(capacity, this);
+        }
     }
 
     /**
-     * Creates a VersionedTaskBook with the default capacity and the given {@code initialState}.
+     * Creates a VersionedTaskBook that keeps snapshots, with the given {@code capacity} and {@code initialState}.
      */
-    public VersionedTaskBook(TaskBook initialState) {
-        this(DEFAULT_CAPACITY, initialState);
+    public VersionedTaskBook(int capacity, TaskBook initialState) {
+        this(capacity, initialState, UndoMode.SNAPSHOT);
     }
 
     /**
-     * Creates a VersionedTaskBook with the default capacity and TaskBook as the initial state.
+     * Creates a VersionedTaskBook with the default capacity of {@code undoMode} and the given {@code initialState}.
      */
-    public VersionedTaskBook() {
-        this(new TaskBook());
+    public VersionedTaskBook(TaskBook initialState, UndoMode undoMode) {
+        this(undoMode.getDefaultCapacity(), initialState, undoMode);
     }
 
     /**
-     * Creates a VersionedTaskBook with the equal to the given {@code toBeCopied}.
+     * Creates a VersionedTaskBook that keeps snapshots, with the default capacity and the given {@code initialState}.
      */
-    public VersionedTaskBook(VersionedTaskBook toBeCopied) {
-        capacity = toBeCopied.capacity;
-        taskBookStateList = new ArrayList<>();
-        pointer = toBeCopied.pointer;
-
-        taskBookStateList.addAll(toBeCopied.taskBookStateList);
+    public VersionedTaskBook(TaskBook initialState) {
+        this(initialState, UndoMode.SNAPSHOT);
     }
 
     /**
-     * Returns true if the given state matches the newest state in the version history.
-     * Ensure that commits that with no state change do not clog the version history.
+     * Creates a VersionedTaskBook with the default capacity and TaskBook as the initial state.
      */
-    private boolean isDuplicateCommit() {
-        TaskBook newestState = taskBookStateList.get(pointer);
-        return newestState.equals(this);
-    }
-
-    private void pruneFutureStatesIfRequired() {
-        if (pointer == taskBookStateList.size() - 1) {
-            return;
-        }
-
-        ArrayList<TaskBook> prunedList = new ArrayList<>(capacity);
-        for (int i = 0; i <= pointer; i++) {
-            TaskBook state = taskBookStateList.get(i);
-            prunedList.add(state);
-        }
-
-        taskBookStateList = prunedList;
+    public VersionedTaskBook() {
+        this(new TaskBook());
     }
 
-    private void pruneToCapacityIfRequired() {
-        assert taskBookStateList != null;
-
-        if (taskBookStateList.size() <= capacity * 2) {
-            return;
-        }
-
-        ArrayList<TaskBook> prunedList = new ArrayList<>(capacity);
-        for (int i = 0; i < capacity; i++) {
-            TaskBook state = taskBookStateList.get(capacity + i + 1);
-            prunedList.add(state);
-        }
-
-        taskBookStateList = prunedList;
+    /**
+     * Creates a VersionedTaskBook with the equal to the given {@code toBeCopied}.
+     */
+    public VersionedTaskBook(VersionedTaskBook toBeCopied) {
+        history = toBeCopied.history.copyFor(this);
     }
 
     /**
-     * Commits a copy of the given state into the version history.
+     * Commits the current state into the version history.
      * If the state of the TaskBook is the same, nothing is added to the version history.
      * After committing, all states in the "future" are removed.
      * In other words, after committing, an immediate redo always does nothing.
      */
     public void commit() {
-        assert taskBookStateList != null;
-
-        if (isDuplicateCommit()) {
-            return;
-        }
-
-        pruneFutureStatesIfRequired();
-        // Defensively commit a copy of the state instead.
-        TaskBook copy = new TaskBook(this);
-        taskBookStateList.add(copy);
-        pruneToCapacityIfRequired();
-
-        // Set the pointer to point to the newest command.
-        pointer = taskBookStateList.size() - 1;
-    }
-    private void setPointedAsCurrentData() {
-        TaskBook pointedState = taskBookStateList.get(pointer);
-        TaskBook copy = new TaskBook(pointedState);
-        resetData(copy);
+        history.commit(this);
     }
 
     /**
      * Returns true if an undo operation is valid.
      */
     public boolean canUndo() {
-        return pointer - 1 >= 0;
+        return history.canUndo();
     }
 
     /**
@@ -135,21 +87,18 @@ public class VersionedTaskBook extends TaskBook {
      * Does nothing if there is no state to revert to.
      */
     public void undo() {
-        assert taskBookStateList != null;
-
         if (!canUndo()) {
             return;
         }
 
-        pointer--;
-        setPointedAsCurrentData();
+        history.undo(this);
     }
 
     /**
      * Returns true if a redo operation is valid.
      */
     public boolean canRedo() {
-        return pointer + 1 < taskBookStateList.size();
+        return history.canRedo();
     }
 
     /**
@@ -157,14 +106,11 @@ public class VersionedTaskBook extends TaskBook {
      * Does nothing if there is no state to revert to.
      */
     public void redo() {
-        assert taskBookStateList != null;
-
         if (!canRedo()) {
             return;
         }
 
-        pointer++;
-        setPointedAsCurrentData();
+        history.redo(this);
     }
 
     /**
@@ -178,7 +124,7 @@ public class VersionedTaskBook extends TaskBook {
 
     /**
      * Returns true if the given {@code other} is equivalent.
-     * They are equivalent iff they share the same state list and pointer position.
+     * They are equivalent iff they share the same version history and position in it.
      * Capacity is ignored.
      */
     public boolean isEquivalentTo(VersionedTaskBook other) {
@@ -188,6 +134,6 @@ public class VersionedTaskBook extends TaskBook {
             return true;
         }
 
-        return taskBookStateList.equals(other.taskBookStateList) && pointer == other.pointer;
+        return history.equals(other.history);
     }
 }
@@ -3,6 +3,7 @@ package taskbook.model.person;
 import static java.util.Objects.requireNonNull;
 
 import taskbook.commons.util.AppUtil;
+import taskbook.model.util.ValidationUtil;
 
 /**
  * Represents a Person's address in the task book.
@@ -37,7 +38,7 @@ public class Address {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX) || test.equals(NO_ADDRESS_PROVIDED);
+        return ValidationUtil.isSingleLineNonBlank(test) || test.equals(NO_ADDRESS_PROVIDED);
     }
 
     @Override
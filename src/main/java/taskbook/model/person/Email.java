@@ -3,6 +3,7 @@ package taskbook.model.person;
 import static java.util.Objects.requireNonNull;
 
 import taskbook.commons.util.AppUtil;
+import taskbook.model.util.ValidationUtil;
 
 /**
  * Represents a Person's email in the task book.
@@ -51,7 +52,7 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX) || test.equals(NO_EMAIL_PROVIDED);
+        return ValidationUtil.isEmailAddress(test) || test.equals(NO_EMAIL_PROVIDED);
     }
 
     @Override
@@ -3,6 +3,8 @@ package taskbook.model.person;
 import static java.util.Objects.requireNonNull;
 
 import taskbook.commons.util.AppUtil;
+import taskbook.model.util.Interner;
+import taskbook.model.util.ValidationUtil;
 
 
 /**
@@ -22,6 +24,12 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Interner<Name> POOL = new Interner<>();
+
+    static {
+        POOL.intern(SELF);
+    }
+
     public final String fullName;
 
     /**
@@ -35,11 +43,22 @@ public class Name {
         fullName = name;
     }
 
+    /**
+     * Returns the canonical {@code Name} with the given name.
+     * Names created this way share a single instance for each name, such as the name of a person and the names on
+     * all tasks assigned to or from that person.
+     *
+     * @param name A valid name.
+     */
+    public static Name of(String name) {
+        return POOL.intern(new Name(name));
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWithSpaces(test);
     }
 
     /**
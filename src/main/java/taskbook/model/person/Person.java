@@ -2,20 +2,27 @@ package taskbook.model.person;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import taskbook.commons.util.CollectionUtil;
 import taskbook.model.tag.Tag;
+import taskbook.model.tag.TagSet;
+import taskbook.model.util.IdGenerator;
 
 /**
  * Represents a Person in the task book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * Every person has a positive id, which is unique among the persons created while the application runs and is saved
+ * with the person. The id is not part of the equality of persons.
  */
 public class Person {
 
+    private static final IdGenerator ID_GENERATOR = new IdGenerator();
+
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -23,7 +30,7 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
 
     /**
      * Every field must be present and not null.
@@ -34,7 +41,43 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
+        this.id = ID_GENERATOR.next();
+    }
+
+    /**
+     * Copies {@code source} with the id {@code id}, which must be positive.
+     */
+    private Person(Person source, long id) {
+        requireNonNull(source);
+        if (id <= 0) {
+            throw new IllegalArgumentException("Person ids must be positive");
+        }
+        ID_GENERATOR.reserve(id);
+        this.name = source.name;
+        this.phone = source.phone;
+        this.email = source.email;
+        this.address = source.address;
+        this.tags = source.tags;
+        this.id = id;
+    }
+
+    /**
+     * Returns this person with the id {@code id}, which is a copy of this person unless it already has that id.
+     */
+    public Person withId(long id) {
+        return id == this.id ? this : new Person(this, id);
+    }
+
+    /**
+     * Returns a copy of this person with an id that no other person has.
+     */
+    public Person withNewId() {
+        return withId(ID_GENERATOR.next());
+    }
+
+    public long getId() {
+        return id;
     }
 
     public Name getName() {
@@ -58,7 +101,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
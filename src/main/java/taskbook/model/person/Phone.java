@@ -3,6 +3,7 @@ package taskbook.model.person;
 import static java.util.Objects.requireNonNull;
 
 import taskbook.commons.util.AppUtil;
+import taskbook.model.util.ValidationUtil;
 
 /**
  * Represents a Person's phone number in the task book.
@@ -34,7 +35,7 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX) || test.equals(NO_PHONE_PROVIDED);
+        return ValidationUtil.isDigits(test, 3) || test.equals(NO_PHONE_PROVIDED);
     }
 
     @Override
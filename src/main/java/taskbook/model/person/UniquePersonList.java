@@ -2,14 +2,25 @@ package taskbook.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import taskbook.commons.util.CollectionUtil;
 import taskbook.model.person.exceptions.DuplicatePersonException;
 import taskbook.model.person.exceptions.PersonNotFoundException;
+import taskbook.model.util.LongIntMap;
+import taskbook.model.util.OrderedList.Ordering;
+import taskbook.model.util.PositionIndex;
+import taskbook.model.util.RangeIndex;
+import taskbook.model.util.SnapshotList;
+import taskbook.model.util.SnapshotList.Snapshot;
+import taskbook.model.util.TextIndex;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,22 +29,35 @@ import taskbook.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are additionally indexed by name, which is the identity field used by {@code Person#isSamePerson(Person)},
+ * by the text of their names for queries, see {@link TextIndex}, and in alphabetical order of their names, see
+ * {@link RangeIndex}. The positions of persons in the list are indexed
+ * by their ids, which are unique in the list. Persons that are added with the id of another person in the list are
+ * stored as copies with a new id.
+ * The list can be snapshotted and restored cheaply, see {@link SnapshotList}.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final SnapshotList<Person> internalList = new SnapshotList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Person> nameIndex = new HashMap<>();
+    private final PositionIndex<Person> positionIndex = new PositionIndex<>(internalList, Person::getId);
+    private final TextIndex<Person> searchIndex = new TextIndex<>(internalList, person ->
+            List.of(person.getName().fullName), Person::isQueryInPerson);
+    private final RangeIndex<String, Person> alphabeticalIndex =
+            new RangeIndex<>(internalList, person -> person.getName().fullName);
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameIndex.containsKey(toCheck.getName());
     }
 
     /**
@@ -41,7 +65,25 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public Person find(Name name) {
         requireNonNull(name);
-        return internalList.stream().filter(person -> person.getName().equals(name)).findAny().orElse(null);
+        return nameIndex.get(name);
+    }
+
+    /**
+     * Returns a predicate that is true for the persons in the list that contain {@code query}.
+     * @see Person#isQueryInPerson(String)
+     */
+    public Predicate<Person> getQueryPredicate(String query) {
+        requireNonNull(query);
+        return searchIndex.matching(query);
+    }
+
+    /**
+     * Returns the positions of the persons in the list when they are ordered by name alphabetically, or in reverse
+     * if {@code isReversed}, for putting a view of the persons in that order without comparing them.
+     * Equivalent to ordering by {@code Person#compareByNameAlphabeticalTo(Person)}, but kept by an index.
+     */
+    public Ordering<Person> getNameOrdering(boolean isReversed) {
+        return alphabeticalIndex.ordering(isReversed);
     }
 
     /**
@@ -53,7 +95,13 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+
+        Person person = positionIndex.containsKey(toAdd.getId()) ? toAdd.withNewId() : toAdd;
+        searchIndex.add(person);
+        alphabeticalIndex.add(person);
+        internalList.add(person);
+        nameIndex.put(person.getName(), person);
+        positionIndex.put(person.getId(), internalList.size() - 1);
     }
 
     /**
@@ -64,7 +112,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         CollectionUtil.requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -73,7 +121,17 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        int owner = positionIndex.get(editedPerson.getId());
+        Person person = owner == PositionIndex.NO_POSITION || owner == index ? editedPerson : editedPerson.withNewId();
+        searchIndex.remove(internalList.get(index));
+        alphabeticalIndex.remove(internalList.get(index));
+        searchIndex.add(person);
+        alphabeticalIndex.add(person);
+        Person replaced = internalList.set(index, person);
+        nameIndex.remove(target.getName());
+        nameIndex.put(person.getName(), person);
+        positionIndex.remove(replaced.getId());
+        positionIndex.put(person.getId(), index);
     }
 
     /**
@@ -82,14 +140,27 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positionOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        searchIndex.remove(internalList.get(index));
+        alphabeticalIndex.remove(internalList.get(index));
+        Person removed = internalList.remove(index);
+        nameIndex.remove(toRemove.getName());
+        positionIndex.remove(removed.getId());
+        positionIndex.shiftAfterRemoval(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        searchIndex.invalidate();
+        alphabeticalIndex.invalidate();
         internalList.setAll(replacement.internalList);
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
+        positionIndex.clear();
+        positionIndex.putRange(0, internalList.size());
     }
 
     /**
@@ -98,11 +169,88 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         CollectionUtil.requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        List<Person> uniquePersons = withUniqueIds(persons);
+        Map<Name, Person> replacementIndex = indexPersons(uniquePersons);
+        if (replacementIndex == null) {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        searchIndex.invalidate();
+        alphabeticalIndex.invalidate();
+        internalList.setAll(uniquePersons);
+        nameIndex.clear();
+        nameIndex.putAll(replacementIndex);
+        positionIndex.clear();
+        positionIndex.putRange(0, internalList.size());
+    }
+
+    /**
+     * Replaces the persons from position {@code from} (inclusive) to {@code to} (exclusive) with {@code replacement}.
+     * The list must not contain duplicate persons or persons with the same id after the replacement.
+     */
+    public void replaceRange(int from, int to, List<Person> replacement) {
+        CollectionUtil.requireAllNonNull(replacement);
+        Map<Name, Person> replacementIndex = indexPersons(replacement);
+        if (replacementIndex == null) {
+            throw new DuplicatePersonException();
+        }
+
+        List<Person> removed = new ArrayList<>(internalList.subList(from, to));
+        for (Name name : replacementIndex.keySet()) {
+            Person existing = nameIndex.get(name);
+            if (existing == null) {
+                continue;
+            }
+            int position = positionIndex.get(existing.getId());
+            if (position < from || position >= to) {
+                throw new DuplicatePersonException();
+            }
+        }
+        LongIntMap ids = new LongIntMap();
+        for (Person person : replacement) {
+            int owner = positionIndex.get(person.getId());
+            boolean isOwnedOutsideRange = owner != PositionIndex.NO_POSITION && (owner < from || owner >= to);
+            if (ids.containsKey(person.getId()) || isOwnedOutsideRange) {
+                throw new DuplicatePersonException();
+            }
+            ids.put(person.getId(), 0);
+        }
+
+        removed.forEach(person -> nameIndex.remove(person.getName()));
+        removed.forEach(person -> positionIndex.remove(person.getId()));
+        removed.forEach(searchIndex::remove);
+        removed.forEach(alphabeticalIndex::remove);
+        replacement.forEach(searchIndex::add);
+        replacement.forEach(alphabeticalIndex::add);
+        internalList.replaceRange(from, to, replacement);
+        nameIndex.putAll(replacementIndex);
+        // Persons after the replaced range only move if the range changed in size.
+        int end = removed.size() == replacement.size() ? from + replacement.size() : internalList.size();
+        positionIndex.putRange(from, end);
+    }
+
+    /**
+     * Returns an immutable snapshot of the persons in the list.
+     */
+    public Snapshot<Person> snapshot() {
+        return internalList.snapshot();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code snapshot}, which must have been taken from a
+     * {@code UniquePersonList}.
+     */
+    public void restore(Snapshot<Person> snapshot) {
+        requireNonNull(snapshot);
+        searchIndex.invalidate();
+        alphabeticalIndex.invalidate();
+        internalList.restore(snapshot);
+        nameIndex.clear();
+        for (Person person : internalList) {
+            nameIndex.put(person.getName(), person);
+        }
+        positionIndex.clear();
+        positionIndex.putRange(0, internalList.size());
     }
 
     /**
@@ -121,6 +269,7 @@ public class UniquePersonList implements Iterable<Person> {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniquePersonList // instanceof handles nulls
+                        && internalList.getFingerprint() == ((UniquePersonList) other).internalList.getFingerprint()
                         && internalList.equals(((UniquePersonList) other).internalList));
     }
 
@@ -130,16 +279,44 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person in the list that equals {@code target}, or -1 if there is none.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
+    private int positionOf(Person target) {
+        Person stored = nameIndex.get(target.getName());
+        return stored != null && stored.equals(target) ? positionIndex.get(stored.getId()) : -1;
+    }
+
+    /**
+     * Returns {@code persons}, with copies that have new ids in place of persons that have the id of an earlier
+     * person.
+     */
+    private static List<Person> withUniqueIds(List<Person> persons) {
+        LongIntMap ids = new LongIntMap();
+        List<Person> uniquePersons = persons;
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            if (ids.containsKey(person.getId())) {
+                if (uniquePersons == persons) {
+                    uniquePersons = new ArrayList<>(persons);
                 }
+                person = person.withNewId();
+                uniquePersons.set(i, person);
+            }
+            ids.put(person.getId(), i);
+        }
+        return uniquePersons;
+    }
+
+    /**
+     * Returns a name index of {@code persons}, or null if {@code persons} contains duplicate persons.
+     */
+    private static Map<Name, Person> indexPersons(List<Person> persons) {
+        Map<Name, Person> index = new HashMap<>(persons.size() * 2);
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getName(), person) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
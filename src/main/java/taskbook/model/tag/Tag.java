@@ -3,6 +3,8 @@ package taskbook.model.tag;
 import static java.util.Objects.requireNonNull;
 
 import taskbook.commons.util.AppUtil;
+import taskbook.model.util.Interner;
+import taskbook.model.util.ValidationUtil;
 
 /**
  * Represents a Tag in the task book.
@@ -13,6 +15,8 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Interner<Tag> POOL = new Interner<>();
+
     public final String tagName;
 
     /**
@@ -26,11 +30,28 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the canonical {@code Tag} with the given name.
+     * Tags created this way share a single instance for each name.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return intern(new Tag(tagName));
+    }
+
+    /**
+     * Returns the canonical {@code Tag} that is equal to {@code tag}.
+     */
+    public static Tag intern(Tag tag) {
+        return POOL.intern(tag);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumeric(test);
     }
 
     @Override
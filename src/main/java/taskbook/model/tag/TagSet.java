@@ -0,0 +1,149 @@
+package taskbook.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import taskbook.model.util.Interner;
+
+/**
+ * An immutable set of tags, which throws {@code UnsupportedOperationException} if modification is attempted.
+ * Tags are kept in a sorted array instead of a hash table, and equal tag sets share a single instance, since many
+ * persons and tasks have the same few tags.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(new Tag[0]);
+
+    private static final Comparator<Tag> TAG_ORDER = Comparator.comparing(tag -> tag.tagName);
+    private static final Interner<TagSet> POOL = new Interner<>();
+
+    private final Tag[] tags;
+    private final int hash;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+        int hash = 0;
+        for (Tag tag : tags) {
+            hash += tag.hashCode();
+        }
+        this.hash = hash;
+    }
+
+    /**
+     * Returns the canonical immutable set of {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        Tag[] sortedTags = tags.toArray(new Tag[0]);
+        Arrays.sort(sortedTags, TAG_ORDER);
+        int count = 0;
+        for (Tag tag : sortedTags) {
+            requireNonNull(tag);
+            if (count == 0 || !sortedTags[count - 1].equals(tag)) {
+                sortedTags[count++] = Tag.intern(tag);
+            }
+        }
+        return POOL.intern(new TagSet(Arrays.copyOf(sortedTags, count)));
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        if (!(other instanceof Tag)) {
+            return false;
+        }
+        return Arrays.binarySearch(tags, (Tag) other, TAG_ORDER) >= 0;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < tags.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return tags[next++];
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (other instanceof TagSet) {
+            return hash == ((TagSet) other).hash && Arrays.equals(tags, ((TagSet) other).tags);
+        }
+
+        return other instanceof Set && super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
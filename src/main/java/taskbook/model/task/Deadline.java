@@ -51,6 +51,11 @@ public class Deadline extends Task {
         this.date = date;
     }
 
+    private Deadline(Deadline source, long id) {
+        super(source, id);
+        this.date = source.date;
+    }
+
     @Override
     public String getStatus() {
         return isDone() ? "[X]  [D]" : "[  ]  [D]";
@@ -89,7 +94,12 @@ public class Deadline extends Task {
         LocalDate date = descriptor.getDate().orElse(getDate());
         Set<Tag> tags = descriptor.getTags().orElse(getTags());
 
-        return new Deadline(name, assignment, description, isDone, date, tags);
+        return new Deadline(name, assignment, description, isDone, date, tags).withId(getId());
+    }
+
+    @Override
+    public Deadline withId(long id) {
+        return id == getId() ? this : new Deadline(this, id);
     }
 
     @Override
@@ -2,7 +2,10 @@ package taskbook.model.task;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Locale;
+
 import taskbook.commons.util.AppUtil;
+import taskbook.model.util.ValidationUtil;
 
 /**
  * Represents a Task's description in the task book.
@@ -23,6 +26,9 @@ public class Description {
 
     public final String description;
 
+    /** Description in lower case, which orders descriptions the same way as comparing them ignoring case. */
+    private final String sortKey;
+
     /**
      * Constructs a {@code Description}.
      *
@@ -32,13 +38,22 @@ public class Description {
         requireNonNull(description);
         AppUtil.checkArgument(isValidDescription(description), MESSAGE_CONSTRAINTS);
         this.description = description;
+        this.sortKey = description.toLowerCase(Locale.ROOT);
     }
 
     /**
      * Returns true if a given string is a valid description.
      */
     public static boolean isValidDescription(String test) {
-        return test.matches(VALIDATION_REGEX) && test.trim().length() > 0;
+        return ValidationUtil.isNonBlankAscii(test);
+    }
+
+    /**
+     * Returns the key that orders descriptions alphabetically ignoring case, which is worked out once when the
+     * description is created instead of on every comparison.
+     */
+    public String getSortKey() {
+        return sortKey;
     }
 
     @Override
@@ -81,6 +96,6 @@ public class Description {
      * @return 1 if this description is alphabetically first, -1 otherwise.
      */
     public int compareByAlphabeticalTo(Description other) {
-        return this.description.compareToIgnoreCase(other.description);
+        return sortKey.compareTo(other.sortKey);
     }
 }
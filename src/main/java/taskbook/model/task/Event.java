@@ -51,6 +51,11 @@ public class Event extends Task {
         this.date = date;
     }
 
+    private Event(Event source, long id) {
+        super(source, id);
+        this.date = source.date;
+    }
+
     @Override
     public String getStatus() {
         return isDone() ? "[X]  [E]" : "[  ]  [E]";
@@ -89,7 +94,12 @@ public class Event extends Task {
         LocalDate date = descriptor.getDate().orElse(getDate());
         Set<Tag> tags = descriptor.getTags().orElse(getTags());
 
-        return new Event(name, assignment, description, isDone, date, tags);
+        return new Event(name, assignment, description, isDone, date, tags).withId(getId());
+    }
+
+    @Override
+    public Event withId(long id) {
+        return id == getId() ? this : new Event(this, id);
     }
 
     @Override
@@ -3,8 +3,6 @@ package taskbook.model.task;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -13,19 +11,27 @@ import taskbook.logic.commands.exceptions.CommandException;
 import taskbook.model.person.Name;
 import taskbook.model.person.Person;
 import taskbook.model.tag.Tag;
+import taskbook.model.tag.TagSet;
 import taskbook.model.task.enums.Assignment;
+import taskbook.model.util.IdGenerator;
 
 /**
  * Represents a Task in the task book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * Every task has a positive id, which is unique among the tasks created while the application runs, is kept by
+ * edited copies of the task and is saved with it. The id is not part of the equality of tasks.
  */
 public abstract class Task {
 
+    private static final IdGenerator ID_GENERATOR = new IdGenerator();
+
+    private final long id;
     private final Name name;
     private final Assignment assignment;
     private final Description description;
     private final boolean isDone;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
 
     /**
      * Every field must be present and not null.
@@ -36,6 +42,8 @@ public abstract class Task {
         this.assignment = assignment;
         this.description = description;
         this.isDone = isDone;
+        this.tags = TagSet.EMPTY;
+        this.id = ID_GENERATOR.next();
     }
 
     /**
@@ -47,6 +55,8 @@ public abstract class Task {
         this.assignment = assignment;
         this.description = description;
         this.isDone = isDone;
+        this.tags = TagSet.EMPTY;
+        this.id = ID_GENERATOR.next();
     }
 
     /**
@@ -58,7 +68,8 @@ public abstract class Task {
         this.assignment = assignment;
         this.description = description;
         this.isDone = isDone;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
+        this.id = ID_GENERATOR.next();
     }
 
     /**
@@ -70,7 +81,29 @@ public abstract class Task {
         this.assignment = assignment;
         this.description = description;
         this.isDone = isDone;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
+        this.id = ID_GENERATOR.next();
+    }
+
+    /**
+     * Copies {@code source} with the id {@code id}, which must be positive.
+     */
+    protected Task(Task source, long id) {
+        requireNonNull(source);
+        if (id <= 0) {
+            throw new IllegalArgumentException("Task ids must be positive");
+        }
+        ID_GENERATOR.reserve(id);
+        this.name = source.name;
+        this.assignment = source.assignment;
+        this.description = source.description;
+        this.isDone = source.isDone;
+        this.tags = source.tags;
+        this.id = id;
+    }
+
+    public long getId() {
+        return id;
     }
 
     public Name getName() {
@@ -102,7 +135,7 @@ public abstract class Task {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -138,6 +171,18 @@ public abstract class Task {
      */
     public abstract Task createEditedCopy(EditTaskDescriptor descriptor) throws CommandException;
 
+    /**
+     * Returns this task with the id {@code id}, which is a copy of this task unless it already has that id.
+     */
+    public abstract Task withId(long id);
+
+    /**
+     * Returns a copy of this task with an id that no other task has.
+     */
+    public Task withNewId() {
+        return withId(ID_GENERATOR.next());
+    }
+
     /**
      * Returns true if both tasks have the data and status fields.
      * This defines a stronger notion of equality between two tasks.
@@ -208,6 +253,19 @@ public abstract class Task {
         return getDescription().isQueryInDescription(query);
     }
 
+    /**
+     * Checks if the task is dated from {@code from} to {@code to}, both inclusive.
+     * A null bound leaves that end of the range open. Tasks without a date are never in range.
+     * @param from earliest date, or null.
+     * @param to latest date, or null.
+     * @return true if the task has a date within the range, false otherwise.
+     */
+    public boolean isDateInRange(LocalDate from, LocalDate to) {
+        return hasDate()
+                && (from == null || !getDate().isBefore(from))
+                && (to == null || !getDate().isAfter(to));
+    }
+
     /**
      * Checks if the task is of a particular assignment
      * @param query input assignment.
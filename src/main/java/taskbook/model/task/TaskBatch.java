@@ -0,0 +1,79 @@
+package taskbook.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import taskbook.commons.util.CollectionUtil;
+
+/**
+ * A batch of additions, edits and deletions of tasks that is applied to a task list all at once, see
+ * {@link TaskList#applyBatch(TaskBatch)}.
+ *
+ * Edits and deletions refer to tasks that are in the list before the batch is applied, and every task can be edited
+ * or deleted at most once in a batch. Added tasks are appended to the list in the order they were added to the batch.
+ */
+public class TaskBatch {
+
+    private final List<Task> additions = new ArrayList<>();
+    private final List<Task> targets = new ArrayList<>();
+    /** Replacement of each target, or null if the target is deleted. */
+    private final List<Task> replacements = new ArrayList<>();
+
+    /**
+     * Adds {@code task} to the list when the batch is applied.
+     */
+    public TaskBatch add(Task task) {
+        requireNonNull(task);
+        additions.add(task);
+        return this;
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedTask} when the batch is applied.
+     */
+    public TaskBatch set(Task target, Task editedTask) {
+        CollectionUtil.requireAllNonNull(target, editedTask);
+        targets.add(target);
+        replacements.add(editedTask);
+        return this;
+    }
+
+    /**
+     * Removes {@code target} from the list when the batch is applied.
+     */
+    public TaskBatch delete(Task target) {
+        requireNonNull(target);
+        targets.add(target);
+        replacements.add(null);
+        return this;
+    }
+
+    /**
+     * Returns true if the batch does not change any tasks.
+     */
+    public boolean isEmpty() {
+        return additions.isEmpty() && targets.isEmpty();
+    }
+
+    /**
+     * Returns the number of additions, edits and deletions in the batch.
+     */
+    public int size() {
+        return additions.size() + targets.size();
+    }
+
+    List<Task> getAdditions() {
+        return Collections.unmodifiableList(additions);
+    }
+
+    List<Task> getTargets() {
+        return Collections.unmodifiableList(targets);
+    }
+
+    List<Task> getReplacements() {
+        return Collections.unmodifiableList(replacements);
+    }
+}
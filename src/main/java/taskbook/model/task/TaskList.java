@@ -2,15 +2,39 @@ package taskbook.model.task;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import taskbook.commons.util.CollectionUtil;
+import taskbook.model.person.Name;
+import taskbook.model.tag.Tag;
+import taskbook.model.task.enums.Assignment;
 import taskbook.model.task.exceptions.DuplicateTaskException;
 import taskbook.model.task.exceptions.TaskNotFoundException;
+import taskbook.model.util.BitmapIndex;
+import taskbook.model.util.LongIntMap;
+import taskbook.model.util.OrderedList.Ordering;
+import taskbook.model.util.PositionIndex;
+import taskbook.model.util.RangeIndex;
+import taskbook.model.util.SnapshotList;
+import taskbook.model.util.SnapshotList.Snapshot;
+import taskbook.model.util.TextIndex;
 
 /**
  * A list of tasks that enforces uniqueness between its elements and does not allow nulls.
@@ -19,15 +43,33 @@ import taskbook.model.task.exceptions.TaskNotFoundException;
  * unique in terms of identity in the TaskList.
  * However, the removal of a task uses Task#equals(Object) to ensure that the exact task is removed.
  *
+ * Tasks are additionally indexed by their identity fields, the position of their ids in the list and the person they
+ * are assigned to or from, so that lookups do not need to scan the list. The ids of the tasks in the list are unique,
+ * and tasks that are added with the id of another task in the list are stored as copies with a new id.
+ * The list can be snapshotted and restored cheaply, see {@link SnapshotList}, and searched by text, by date and by
+ * done status, assignment and tags without scanning every task, see {@link TextIndex}, {@link RangeIndex} and
+ * {@link BitmapIndex}. The tasks are also kept in order of their descriptions and dates, so that views of the list
+ * can be sorted without comparing the tasks.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Task#isSameTask(Task)
  */
 public class TaskList implements Iterable<Task> {
 
-    private final ObservableList<Task> internalList = FXCollections.observableArrayList();
+    private final SnapshotList<Task> internalList = new SnapshotList<>();
     private final ObservableList<Task> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<TaskKey, Task> identityIndex = new HashMap<>();
+    private final PositionIndex<Task> positionIndex = new PositionIndex<>(internalList, Task::getId);
+    private final Map<Name, Set<Task>> assigneeIndex = new HashMap<>();
+    private final TextIndex<Task> searchIndex = new TextIndex<>(internalList, task ->
+            List.of(task.getName().fullName, task.getDescription().description), Task::isQueryInTask);
+    private final RangeIndex<LocalDate, Task> dateIndex = new RangeIndex<>(internalList, Task::getDate);
+    private final RangeIndex<String, Task> descriptionIndex =
+            new RangeIndex<>(internalList, task -> task.getDescription().getSortKey());
+    /** Done status, assignment and tags of tasks, which are of different types and so never equal each other. */
+    private final BitmapIndex<Task> attributeIndex = new BitmapIndex<>(internalList, TaskList::attributesOf);
     private Comparator<Task> comparator;
 
     /**
@@ -35,7 +77,78 @@ public class TaskList implements Iterable<Task> {
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+        return identityIndex.containsKey(TaskKey.of(toCheck));
+    }
+
+    /**
+     * Returns true if any task in the list is assigned to or from {@code name}.
+     */
+    public boolean hasTasksFor(Name name) {
+        requireNonNull(name);
+        return assigneeIndex.containsKey(name);
+    }
+
+    /**
+     * Returns the tasks assigned to or from {@code name}.
+     * The returned list is a copy, so the task list may be modified while iterating over it.
+     */
+    public List<Task> getTasksFor(Name name) {
+        requireNonNull(name);
+        Set<Task> assignedTasks = assigneeIndex.get(name);
+        return assignedTasks == null ? Collections.emptyList() : new ArrayList<>(assignedTasks);
+    }
+
+    /**
+     * Returns a predicate that is true for the tasks in the list that contain {@code query}.
+     * Equivalent to {@code task -> task.isQueryInTask(query)}, but answered from an index of the tasks.
+     */
+    public Predicate<Task> getQueryPredicate(String query) {
+        requireNonNull(query);
+        return searchIndex.matching(query);
+    }
+
+    /**
+     * Returns a predicate that is true for the tasks in the list dated from {@code from} to {@code to}, both
+     * inclusive. A null bound leaves that end of the range open.
+     * Equivalent to {@code task -> task.isDateInRange(from, to)}, but answered from an index of the tasks.
+     */
+    public Predicate<Task> getDatePredicate(LocalDate from, LocalDate to) {
+        return dateIndex.matching(from, to);
+    }
+
+    /**
+     * Returns a predicate that is true for the tasks in the list with the done status {@code isDone} and the
+     * assignment {@code assignment}, that are tagged with all of {@code tags}. A null done status or assignment
+     * matches any task.
+     */
+    public Predicate<Task> getFilterPredicate(Boolean isDone, Assignment assignment, Collection<Tag> tags) {
+        return attributeIndex.matching(attributesOf(isDone, assignment, tags));
+    }
+
+    /**
+     * Returns the positions of the tasks in the list when they are ordered by description alphabetically ignoring
+     * case, or in reverse if {@code isReversed}, for putting a view of the tasks in that order without comparing them.
+     * Equivalent to ordering by {@code Task#compareByDescriptionAlphabeticalTo(Task)}, but kept by an index.
+     */
+    public Ordering<Task> getDescriptionOrdering(boolean isReversed) {
+        return descriptionIndex.ordering(isReversed);
+    }
+
+    /**
+     * Returns the positions of the tasks in the list when they are ordered by date, or in reverse if
+     * {@code isReversed}, with tasks without a date last. Equivalent to ordering by
+     * {@code Task#compareByChronologicalDateTo(Task)}, but kept by an index.
+     */
+    public Ordering<Task> getDateOrdering(boolean isReversed) {
+        return dateIndex.ordering(isReversed);
+    }
+
+    /**
+     * Returns the dated tasks in the list from {@code from} to {@code to}, both inclusive, in chronological order.
+     * A null bound leaves that end of the range open.
+     */
+    public List<Task> getTasksBetween(LocalDate from, LocalDate to) {
+        return dateIndex.find(from, to);
     }
 
     /**
@@ -47,7 +160,14 @@ public class TaskList implements Iterable<Task> {
         if (contains(toAdd)) {
             throw new DuplicateTaskException();
         }
-        internalList.add(toAdd);
+
+        Task task = positionIndex.containsKey(toAdd.getId()) ? toAdd.withNewId() : toAdd;
+        searchIndex.add(task);
+        dateIndex.add(task);
+        descriptionIndex.add(task);
+        attributeIndex.add(task);
+        internalList.add(task);
+        index(task, internalList.size() - 1);
     }
 
     /**
@@ -58,7 +178,7 @@ public class TaskList implements Iterable<Task> {
     public void setTask(Task target, Task editedTask) {
         CollectionUtil.requireAllNonNull(target, editedTask);
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new TaskNotFoundException();
         }
@@ -67,7 +187,19 @@ public class TaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
-        internalList.set(index, editedTask);
+        int owner = positionIndex.get(editedTask.getId());
+        Task task = owner == PositionIndex.NO_POSITION || owner == index ? editedTask : editedTask.withNewId();
+        searchIndex.remove(internalList.get(index));
+        searchIndex.add(task);
+        dateIndex.remove(internalList.get(index));
+        descriptionIndex.remove(internalList.get(index));
+        dateIndex.add(task);
+        descriptionIndex.add(task);
+        attributeIndex.remove(internalList.get(index));
+        attributeIndex.add(task);
+        Task replaced = internalList.set(index, task);
+        unindex(replaced);
+        index(task, index);
     }
 
     /**
@@ -76,14 +208,28 @@ public class TaskList implements Iterable<Task> {
      */
     public void remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positionOf(toRemove);
+        if (index == -1) {
             throw new TaskNotFoundException();
         }
+
+        searchIndex.remove(internalList.get(index));
+        dateIndex.remove(internalList.get(index));
+        descriptionIndex.remove(internalList.get(index));
+        attributeIndex.remove(internalList.get(index));
+        Task removed = internalList.remove(index);
+        unindex(removed);
+        positionIndex.shiftAfterRemoval(index);
     }
 
     public void setTasks(TaskList replacement) {
         requireNonNull(replacement);
+        searchIndex.invalidate();
+        dateIndex.invalidate();
+        descriptionIndex.invalidate();
+        attributeIndex.invalidate();
         internalList.setAll(replacement.internalList);
+        reindex();
     }
 
     /**
@@ -96,7 +242,126 @@ public class TaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
-        internalList.setAll(tasks);
+        searchIndex.invalidate();
+        dateIndex.invalidate();
+        descriptionIndex.invalidate();
+        attributeIndex.invalidate();
+        internalList.setAll(withUniqueIds(tasks));
+        reindex();
+    }
+
+    /**
+     * Applies all additions, edits and deletions in {@code batch} as a single replacement of the part of the list
+     * they touch, so listeners are notified of a single change.
+     * Every task that is edited or deleted must exist in the list, and the list must not contain duplicate tasks
+     * after the batch is applied. Otherwise, none of the batch is applied.
+     * Like {@link #add(Task)} and {@link #setTask(Task, Task)}, tasks with the id of another task are stored as copies
+     * with a new id.
+     */
+    public void applyBatch(TaskBatch batch) {
+        requireNonNull(batch);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // Replacements by position, where null deletes the task at that position.
+        NavigableMap<Integer, Task> changes = new TreeMap<>();
+        List<Task> targets = batch.getTargets();
+        for (int i = 0; i < targets.size(); i++) {
+            int position = positionOf(targets.get(i));
+            if (position == -1 || changes.containsKey(position)) {
+                throw new TaskNotFoundException();
+            }
+            changes.put(position, batch.getReplacements().get(i));
+        }
+
+        int from = changes.isEmpty() ? internalList.size() : changes.firstKey();
+        int to = batch.getAdditions().isEmpty() ? changes.lastKey() + 1 : internalList.size();
+        LongIntMap batchIds = new LongIntMap();
+        List<Task> replacement = new ArrayList<>(to - from + batch.getAdditions().size());
+        for (int position = from; position < to; position++) {
+            if (!changes.containsKey(position)) {
+                replacement.add(internalList.get(position));
+            } else if (changes.get(position) != null) {
+                replacement.add(withIdFreeAt(changes.get(position), position, batchIds));
+            }
+        }
+        for (Task task : batch.getAdditions()) {
+            replacement.add(withIdFreeAt(task, -1, batchIds));
+        }
+        replaceRange(from, to, replacement);
+    }
+
+    /**
+     * Returns {@code task}, or a copy of it with a new id if its id is used by a task other than the one at
+     * {@code position} or by another task in the same batch.
+     */
+    private Task withIdFreeAt(Task task, int position, LongIntMap batchIds) {
+        int owner = positionIndex.get(task.getId());
+        boolean isIdFree = (owner == PositionIndex.NO_POSITION || owner == position)
+                && !batchIds.containsKey(task.getId());
+        Task stored = isIdFree ? task : task.withNewId();
+        batchIds.put(stored.getId(), 0);
+        return stored;
+    }
+
+    /**
+     * Replaces the tasks from position {@code from} (inclusive) to {@code to} (exclusive) with {@code replacement}.
+     * The list must not contain duplicate tasks or tasks with the same id after the replacement.
+     */
+    public void replaceRange(int from, int to, List<Task> replacement) {
+        CollectionUtil.requireAllNonNull(replacement);
+        List<Task> removed = new ArrayList<>(internalList.subList(from, to));
+        removed.forEach(this::unindex);
+
+        Set<TaskKey> keys = new HashSet<>(replacement.size() * 2);
+        LongIntMap ids = new LongIntMap();
+        for (Task task : replacement) {
+            TaskKey key = TaskKey.of(task);
+            boolean isDuplicateId = positionIndex.containsKey(task.getId()) || ids.containsKey(task.getId());
+            ids.put(task.getId(), 0);
+            if (identityIndex.containsKey(key) || !keys.add(key) || isDuplicateId) {
+                for (int i = 0; i < removed.size(); i++) {
+                    index(removed.get(i), from + i);
+                }
+                throw new DuplicateTaskException();
+            }
+        }
+
+        removed.forEach(searchIndex::remove);
+        replacement.forEach(searchIndex::add);
+        removed.forEach(dateIndex::remove);
+        replacement.forEach(dateIndex::add);
+        removed.forEach(descriptionIndex::remove);
+        replacement.forEach(descriptionIndex::add);
+        removed.forEach(attributeIndex::remove);
+        replacement.forEach(attributeIndex::add);
+        internalList.replaceRange(from, to, replacement);
+        // Tasks after the replaced range only move if the range changed in size.
+        int end = removed.size() == replacement.size() ? from + replacement.size() : internalList.size();
+        for (int i = from; i < end; i++) {
+            index(internalList.get(i), i);
+        }
+    }
+
+    /**
+     * Returns an immutable snapshot of the tasks in the list.
+     */
+    public Snapshot<Task> snapshot() {
+        return internalList.snapshot();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code snapshot}, which must have been taken from a {@code TaskList}.
+     */
+    public void restore(Snapshot<Task> snapshot) {
+        requireNonNull(snapshot);
+        searchIndex.invalidate();
+        dateIndex.invalidate();
+        descriptionIndex.invalidate();
+        attributeIndex.invalidate();
+        internalList.restore(snapshot);
+        reindex();
     }
 
     /**
@@ -115,6 +380,7 @@ public class TaskList implements Iterable<Task> {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof TaskList // instanceof handles nulls
+                        && internalList.getFingerprint() == ((TaskList) other).internalList.getFingerprint()
                         && internalList.equals(((TaskList) other).internalList));
     }
 
@@ -124,16 +390,147 @@ public class TaskList implements Iterable<Task> {
     }
 
     /**
-     * Returns true if {@code tasks} contains only unique tasks.
+     * Adds {@code task}, which is stored at {@code position} of the list, to all indexes.
+     */
+    private void index(Task task, int position) {
+        identityIndex.put(TaskKey.of(task), task);
+        positionIndex.put(task.getId(), position);
+        assigneeIndex.computeIfAbsent(task.getName(), unused -> new LinkedHashSet<>()).add(task);
+    }
+
+    /**
+     * Removes {@code task} from all indexes.
+     */
+    private void unindex(Task task) {
+        identityIndex.remove(TaskKey.of(task));
+        positionIndex.remove(task.getId());
+        Set<Task> assignedTasks = assigneeIndex.get(task.getName());
+        assignedTasks.remove(task);
+        if (assignedTasks.isEmpty()) {
+            assigneeIndex.remove(task.getName());
+        }
+    }
+
+    /**
+     * Returns the position of the task in the list that equals {@code target}, or -1 if there is none.
+     * The task is looked up by the id of {@code target}, or by its identity fields if {@code target} is an equal
+     * task with a different id.
+     */
+    private int positionOf(Task target) {
+        int position = positionIndex.get(target.getId());
+        if (position != PositionIndex.NO_POSITION && internalList.get(position).equals(target)) {
+            return position;
+        }
+
+        Task stored = identityIndex.get(TaskKey.of(target));
+        return stored != null && stored.equals(target) ? positionIndex.get(stored.getId()) : -1;
+    }
+
+    /**
+     * Rebuilds all indexes from the contents of the list.
+     */
+    private void reindex() {
+        identityIndex.clear();
+        positionIndex.clear();
+        assigneeIndex.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            index(internalList.get(i), i);
+        }
+    }
+
+    private static Collection<?> attributesOf(Task task) {
+        return attributesOf(task.isDone(), task.getAssignment(), task.getTags());
+    }
+
+    private static Collection<?> attributesOf(Boolean isDone, Assignment assignment, Collection<Tag> tags) {
+        List<Object> attributes = new ArrayList<>(tags.size() + 2);
+        if (isDone != null) {
+            attributes.add(isDone);
+        }
+        if (assignment != null) {
+            attributes.add(assignment);
+        }
+        attributes.addAll(tags);
+        return attributes;
+    }
+
+    /**
+     * Returns {@code tasks}, with copies that have new ids in place of tasks that have the id of an earlier task.
      */
-    private boolean areTasksUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
+    private static List<Task> withUniqueIds(List<Task> tasks) {
+        LongIntMap ids = new LongIntMap();
+        List<Task> uniqueTasks = tasks;
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            if (ids.containsKey(task.getId())) {
+                if (uniqueTasks == tasks) {
+                    uniqueTasks = new ArrayList<>(tasks);
                 }
+                task = task.withNewId();
+                uniqueTasks.set(i, task);
+            }
+            ids.put(task.getId(), i);
+        }
+        return uniqueTasks;
+    }
+
+    /**
+     * Returns true if {@code tasks} contains only unique tasks.
+     */
+    private static boolean areTasksUnique(List<Task> tasks) {
+        Set<TaskKey> keys = new HashSet<>(tasks.size() * 2);
+        for (Task task : tasks) {
+            if (!keys.add(TaskKey.of(task))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Hash key over the fields used by {@code Task#isSameTask(Task)}.
+     * Two tasks have equal keys if and only if they are the same task.
+     */
+    private static final class TaskKey {
+        private final Class<? extends Task> type;
+        private final Name name;
+        private final Assignment assignment;
+        private final Description description;
+        private final LocalDate date;
+
+        private TaskKey(Task task) {
+            type = task.getClass();
+            name = task.getName();
+            assignment = task.getAssignment();
+            description = task.getDescription();
+            date = task.getDate();
+        }
+
+        static TaskKey of(Task task) {
+            return new TaskKey(task);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof TaskKey)) {
+                return false;
+            }
+
+            TaskKey otherKey = (TaskKey) other;
+            return type.equals(otherKey.type)
+                    && name.equals(otherKey.name)
+                    && assignment.equals(otherKey.assignment)
+                    && description.equals(otherKey.description)
+                    && Objects.equals(date, otherKey.date);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, name, assignment, description, date);
+        }
+    }
 }
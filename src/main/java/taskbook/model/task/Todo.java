@@ -49,6 +49,10 @@ public class Todo extends Task {
         super(name, assignment, description, isDone, tags);
     }
 
+    private Todo(Todo source, long id) {
+        super(source, id);
+    }
+
     @Override
     public String getStatus() {
         return isDone() ? "[X]  [T]" : "[  ]  [T]";
@@ -91,7 +95,12 @@ public class Todo extends Task {
         Boolean isDone = descriptor.getIsDone().orElse(isDone());
         Set<Tag> tags = descriptor.getTags().orElse(getTags());
 
-        return new Todo(name, assignment, description, isDone, tags);
+        return new Todo(name, assignment, description, isDone, tags).withId(getId());
+    }
+
+    @Override
+    public Todo withId(long id) {
+        return id == getId() ? this : new Todo(this, id);
     }
 
     @Override
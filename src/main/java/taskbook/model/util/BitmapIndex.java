@@ -0,0 +1,169 @@
+package taskbook.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Index of a collection of elements by the attributes they have, which answers which elements have all of a set of
+ * attributes without checking every element.
+ *
+ * Every element is given an ordinal when it is indexed, which stays the same until the index is rebuilt, and every
+ * attribute keeps a bitmap of the ordinals of the elements that have it. Elements with all of a set of attributes
+ * are found by intersecting the bitmaps of the attributes.
+ * The index is built from its source on the first query, and again after {@link #invalidate()}, so replacing the
+ * whole collection does not cost more than it did before the index was added.
+ */
+public class BitmapIndex<T> {
+
+    /** Removed elements are purged from the bitmaps once they outnumber the elements in the index. */
+    private static final int MINIMUM_PURGE_THRESHOLD = 64;
+
+    private final Iterable<T> source;
+    private final Function<T, Collection<?>> attributesOf;
+
+    private final Map<T, Integer> ordinals = new IdentityHashMap<>();
+    private final Map<Object, BitSet> bitmaps = new HashMap<>();
+    private int nextOrdinal;
+    private boolean isStale = true;
+    private long generation;
+
+    /**
+     * Creates an index over the elements of {@code source}, which have the attributes given by {@code attributesOf}.
+     * Attributes are compared with {@code equals}.
+     */
+    public BitmapIndex(Iterable<T> source, Function<T, Collection<?>> attributesOf) {
+        this.source = requireNonNull(source);
+        this.attributesOf = requireNonNull(attributesOf);
+    }
+
+    /**
+     * Adds {@code element} to the index.
+     * Must be called before listeners of the source are told about the element, so that predicates returned by
+     * {@link #matching(Collection)} already see it.
+     */
+    public void add(T element) {
+        requireNonNull(element);
+        generation++;
+        if (!isStale) {
+            insert(element);
+        }
+    }
+
+    /**
+     * Removes {@code element}, which must be the same instance that was added, from the index.
+     */
+    public void remove(T element) {
+        requireNonNull(element);
+        generation++;
+        if (isStale) {
+            return;
+        }
+
+        Integer ordinal = ordinals.remove(element);
+        if (ordinal == null) {
+            return;
+        }
+        for (Object attribute : attributesOf.apply(element)) {
+            BitSet bitmap = bitmaps.get(attribute);
+            if (bitmap == null) {
+                continue;
+            }
+            bitmap.clear(ordinal);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(attribute);
+            }
+        }
+        if (nextOrdinal - ordinals.size() > Math.max(ordinals.size(), MINIMUM_PURGE_THRESHOLD)) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Discards the index, which is rebuilt from the source on the next query.
+     */
+    public void invalidate() {
+        generation++;
+        isStale = true;
+        ordinals.clear();
+        bitmaps.clear();
+        nextOrdinal = 0;
+    }
+
+    /**
+     * Returns a predicate that is true for the elements in the source that have all of {@code attributes}.
+     * The matches are looked up once and looked up again only after the index changes, so testing an element only
+     * tests its bit in the intersection of the bitmaps.
+     */
+    public Predicate<T> matching(Collection<?> attributes) {
+        List<Object> required = new ArrayList<>(requireNonNull(attributes));
+        return new Predicate<>() {
+            private BitSet matches;
+            private long matchesGeneration;
+
+            @Override
+            public boolean test(T element) {
+                if (matches == null || matchesGeneration != generation) {
+                    ensureBuilt();
+                    matches = intersection(required);
+                    matchesGeneration = generation;
+                }
+                Integer ordinal = ordinals.get(element);
+                return ordinal != null && matches.get(ordinal);
+            }
+        };
+    }
+
+    private void ensureBuilt() {
+        if (!isStale) {
+            return;
+        }
+
+        isStale = false;
+        for (T element : source) {
+            insert(element);
+        }
+    }
+
+    private void insert(T element) {
+        int ordinal = nextOrdinal++;
+        ordinals.put(element, ordinal);
+        for (Object attribute : attributesOf.apply(element)) {
+            bitmaps.computeIfAbsent(attribute, unused -> new BitSet()).set(ordinal);
+        }
+    }
+
+    /**
+     * Returns the ordinals of the elements that have all of {@code attributes}.
+     */
+    private BitSet intersection(Collection<?> attributes) {
+        BitSet intersection = null;
+        for (Object attribute : attributes) {
+            BitSet bitmap = bitmaps.get(attribute);
+            if (bitmap == null) {
+                return new BitSet();
+            }
+            if (intersection == null) {
+                intersection = (BitSet) bitmap.clone();
+            } else {
+                intersection.and(bitmap);
+            }
+        }
+
+        if (intersection == null) {
+            intersection = new BitSet();
+            for (int ordinal : ordinals.values()) {
+                intersection.set(ordinal);
+            }
+        }
+        return intersection;
+    }
+}
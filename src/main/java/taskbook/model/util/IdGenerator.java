@@ -0,0 +1,27 @@
+package taskbook.model.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Source of positive {@code long} ids that are unique within the running application.
+ * Ids that were given out by an earlier run, such as ids read from storage, can be reserved so that they are never
+ * given out again.
+ */
+public class IdGenerator {
+
+    private final AtomicLong lastId = new AtomicLong();
+
+    /**
+     * Returns an id that has not been given out or reserved before.
+     */
+    public long next() {
+        return lastId.incrementAndGet();
+    }
+
+    /**
+     * Ensures that {@code id} and every id before it are never given out by {@link #next()}.
+     */
+    public void reserve(long id) {
+        lastId.accumulateAndGet(id, Math::max);
+    }
+}
@@ -0,0 +1,130 @@
+package taskbook.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Pool of immutable values, which returns a single canonical instance for all values that are equal.
+ * Values are only weakly held, so canonical instances that are no longer used elsewhere are garbage collected.
+ *
+ * The pool is a {@code ConcurrentHashMap}, so threads that intern values at the same time, such as the workers of
+ * {@code ParallelConverter}, do not wait for each other. Canonical instances are held by weak references, which are
+ * found by the value they refer to, and removed from the pool once their value has been garbage collected.
+ */
+public class Interner<T> {
+
+    private final ConcurrentMap<Key<T>, Entry<T>> pool = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> collected = new ReferenceQueue<>();
+
+    /**
+     * Returns the canonical instance that is equal to {@code value}.
+     * {@code value} becomes the canonical instance if there is none yet.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        removeCollected();
+        while (true) {
+            Entry<T> entry = pool.get(new Lookup<>(value));
+            T canonical = entry == null ? null : entry.get();
+            if (canonical != null) {
+                return canonical;
+            }
+
+            Entry<T> added = new Entry<>(value, collected);
+            Entry<T> existing = pool.putIfAbsent(added, added);
+            canonical = existing == null ? value : existing.get();
+            if (canonical != null) {
+                return canonical;
+            }
+            // The canonical instance that another thread added was collected in the meantime.
+        }
+    }
+
+    private void removeCollected() {
+        for (Reference<? extends T> entry = collected.poll(); entry != null; entry = collected.poll()) {
+            pool.remove(entry);
+        }
+    }
+
+    /**
+     * Key of the pool, which is equal to other keys that refer to equal values.
+     */
+    private interface Key<T> {
+        /**
+         * Returns the value the key refers to, or null if it was garbage collected.
+         */
+        T value();
+
+        /**
+         * Returns true if {@code key} and {@code other} are the same key, or keys that refer to equal values.
+         */
+        static boolean isEqual(Key<?> key, Object other) {
+            if (key == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Object value = key.value();
+            return value != null && value.equals(((Key<?>) other).value());
+        }
+    }
+
+    /**
+     * Weak reference to a canonical instance, which is both the key and the value of its entry in the pool.
+     */
+    private static class Entry<T> extends WeakReference<T> implements Key<T> {
+        private final int hash;
+
+        Entry(T value, ReferenceQueue<T> queue) {
+            super(value, queue);
+            hash = value.hashCode();
+        }
+
+        @Override
+        public T value() {
+            return get();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return Key.isEqual(this, other);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Key that looks up the entry of a value without creating a weak reference to it.
+     */
+    private static class Lookup<T> implements Key<T> {
+        private final T value;
+
+        Lookup(T value) {
+            this.value = value;
+        }
+
+        @Override
+        public T value() {
+            return value;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return Key.isEqual(this, other);
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package taskbook.model.util;
+
+import java.util.Arrays;
+
+/**
+ * Hash map from positive {@code long} keys to non-negative {@code int} values, which stores both in primitive arrays
+ * instead of boxing them.
+ *
+ * Keys are placed by open addressing with linear probing, and removed by shifting later keys of the same probe
+ * sequence back, so that lookups never need tombstones.
+ */
+public class LongIntMap {
+
+    /** Value returned by {@link #get(long)} for keys that are not in the map. */
+    public static final int NO_VALUE = -1;
+
+    private static final long EMPTY = 0;
+    private static final int MINIMUM_CAPACITY = 16;
+
+    private long[] keys = new long[MINIMUM_CAPACITY];
+    private int[] values = new int[MINIMUM_CAPACITY];
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the map contains {@code key}.
+     */
+    public boolean containsKey(long key) {
+        return get(key) != NO_VALUE;
+    }
+
+    /**
+     * Returns the value of {@code key}, or {@link #NO_VALUE} if the map does not contain {@code key}.
+     */
+    public int get(long key) {
+        for (int slot = slotOf(key, keys.length); keys[slot] != EMPTY; slot = (slot + 1) & (keys.length - 1)) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+        return NO_VALUE;
+    }
+
+    /**
+     * Associates {@code value} with {@code key}, which must be positive, replacing any earlier value.
+     */
+    public void put(long key, int value) {
+        if (key <= EMPTY || value < 0) {
+            throw new IllegalArgumentException("Keys must be positive and values must not be negative");
+        }
+
+        int slot = slotOf(key, keys.length);
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & (keys.length - 1);
+        }
+        if (keys[slot] == EMPTY) {
+            if ((size + 1) * 2 > keys.length) {
+                resize(keys.length * 2);
+                put(key, value);
+                return;
+            }
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] = value;
+    }
+
+    /**
+     * Removes {@code key} from the map if it is present.
+     */
+    public void remove(long key) {
+        int slot = slotOf(key, keys.length);
+        while (keys[slot] != key) {
+            if (keys[slot] == EMPTY) {
+                return;
+            }
+            slot = (slot + 1) & (keys.length - 1);
+        }
+
+        // Moves later keys of the probe sequence into the freed slot if it is on their way to their own slot.
+        int mask = keys.length - 1;
+        int free = slot;
+        for (int next = (free + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+            int home = slotOf(keys[next], keys.length);
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                keys[free] = keys[next];
+                values[free] = values[next];
+                free = next;
+            }
+        }
+        keys[free] = EMPTY;
+        size--;
+    }
+
+    /**
+     * Removes all keys from the map.
+     */
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[capacity];
+        values = new int[capacity];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static int slotOf(long key, int capacity) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed >>> 32) & (capacity - 1);
+    }
+}
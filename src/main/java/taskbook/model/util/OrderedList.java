@@ -0,0 +1,307 @@
+package taskbook.model.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * View of an observable list in sorted order, which can be sorted either with a comparator, or by the positions
+ * of the elements in an order that is already kept by an index, such as {@link RangeIndex#ordering(boolean)}.
+ *
+ * Sorting by positions puts every element straight into its place, so changing to an order kept by an index costs
+ * time linear in the number of elements instead of a comparison sort. Without a comparator or an ordering, the view is
+ * in the order of the source. Elements that are equal in the order keep the order of the source, like a stable sort.
+ *
+ * Elements that are added to, removed from or replaced in the source are added to or removed from their place in the
+ * view one at a time, and listeners are told about just those elements, so that a view shown in a list does not
+ * redraw every row. The view is only put back in order as a whole when its order changes, and when the source is
+ * permuted or most of it changes at once.
+ */
+public class OrderedList<E> extends TransformationList<E, E> {
+
+    /** Changes to more elements of the source than this are applied by putting the whole view back in order. */
+    static final int MAX_INCREMENTAL_CHANGES = 64;
+
+    private Comparator<? super E> comparator;
+    private Ordering<? super E> ordering;
+
+    private List<E> elements = new ArrayList<>();
+    /** Position in the source of each element of the view. Only the first {@code elements.size()} are used. */
+    private int[] sourceIndices = new int[0];
+    /** Position in the view of each element of the source. Only the first {@code elements.size()} are used. */
+    private int[] viewIndices = new int[0];
+
+    /**
+     * Creates a view of {@code source} in the order of the source.
+     */
+    public OrderedList(ObservableList<E> source) {
+        super(source);
+        materialize();
+    }
+
+    /**
+     * Sorts the view with {@code comparator}, or in the order of the source if it is null.
+     */
+    public void setComparator(Comparator<? super E> comparator) {
+        this.comparator = comparator;
+        this.ordering = null;
+        refresh();
+    }
+
+    /**
+     * Sorts the view by the positions given by {@code ordering}, or in the order of the source if it is null.
+     * Elements for which {@code ordering} gives a negative position come last, in the order of the source.
+     */
+    public void setOrdering(Ordering<? super E> ordering) {
+        this.ordering = ordering;
+        this.comparator = null;
+        refresh();
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> change) {
+        if (!isIncremental(change)) {
+            refresh();
+            return;
+        }
+
+        beginChange();
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    removeSourceElement(i);
+                    insertSourceElement(i);
+                }
+                continue;
+            }
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                removeSourceElement(change.getFrom());
+            }
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                insertSourceElement(i);
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= elements.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return sourceIndices[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        if (index < 0 || index >= elements.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return viewIndices[index];
+    }
+
+    /**
+     * Returns true if {@code change} touches few enough elements to be applied one element at a time.
+     */
+    private static boolean isIncremental(Change<?> change) {
+        int changedCount = 0;
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                change.reset();
+                return false;
+            }
+            changedCount += change.wasUpdated()
+                    ? change.getTo() - change.getFrom()
+                    : change.getRemovedSize() + change.getAddedSize();
+        }
+        change.reset();
+        return changedCount <= MAX_INCREMENTAL_CHANGES;
+    }
+
+    /**
+     * Removes the element that was at {@code sourceIndex} of the source from the view.
+     */
+    private void removeSourceElement(int sourceIndex) {
+        int viewIndex = viewIndices[sourceIndex];
+        E removed = elements.remove(viewIndex);
+        int size = elements.size();
+        System.arraycopy(sourceIndices, viewIndex + 1, sourceIndices, viewIndex, size - viewIndex);
+        System.arraycopy(viewIndices, sourceIndex + 1, viewIndices, sourceIndex, size - sourceIndex);
+        for (int i = 0; i < size; i++) {
+            if (sourceIndices[i] > sourceIndex) {
+                sourceIndices[i]--;
+            }
+            if (viewIndices[i] > viewIndex) {
+                viewIndices[i]--;
+            }
+        }
+        nextRemove(viewIndex, removed);
+    }
+
+    /**
+     * Adds the element at {@code sourceIndex} of the source to its place in the view.
+     */
+    private void insertSourceElement(int sourceIndex) {
+        E element = getSource().get(sourceIndex);
+        int size = elements.size();
+        if (sourceIndices.length == size) {
+            sourceIndices = Arrays.copyOf(sourceIndices, Math.max(2 * size, 16));
+            viewIndices = Arrays.copyOf(viewIndices, sourceIndices.length);
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (sourceIndices[i] >= sourceIndex) {
+                sourceIndices[i]++;
+            }
+        }
+        int viewIndex = findViewIndex(element, sourceIndex);
+        for (int i = 0; i < size; i++) {
+            if (viewIndices[i] >= viewIndex) {
+                viewIndices[i]++;
+            }
+        }
+        System.arraycopy(sourceIndices, viewIndex, sourceIndices, viewIndex + 1, size - viewIndex);
+        sourceIndices[viewIndex] = sourceIndex;
+        System.arraycopy(viewIndices, sourceIndex, viewIndices, sourceIndex + 1, size - sourceIndex);
+        viewIndices[sourceIndex] = viewIndex;
+        elements.add(viewIndex, element);
+        nextAdd(viewIndex, viewIndex + 1);
+    }
+
+    /**
+     * Returns the position in the view that {@code element}, which is at {@code sourceIndex} of the source, belongs
+     * at, which is found by binary search.
+     */
+    private int findViewIndex(E element, int sourceIndex) {
+        int low = 0;
+        int high = elements.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(elements.get(middle), sourceIndices[middle], element, sourceIndex) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Compares two elements in the order of the view, given their positions in the source.
+     */
+    private int compare(E first, int firstSourceIndex, E second, int secondSourceIndex) {
+        int order = 0;
+        if (comparator != null) {
+            order = comparator.compare(first, second);
+        } else if (ordering != null) {
+            order = ordering.compare(first, second);
+        }
+        return order != 0 ? order : Integer.compare(firstSourceIndex, secondSourceIndex);
+    }
+
+    /**
+     * Puts the view back in order, and tells listeners that all of its elements were replaced.
+     */
+    private void refresh() {
+        List<E> removed = elements;
+        materialize();
+        if (removed.isEmpty() && elements.isEmpty()) {
+            return;
+        }
+        beginChange();
+        nextReplace(0, elements.size(), removed);
+        endChange();
+    }
+
+    private void materialize() {
+        int size = getSource().size();
+        if (ordering != null) {
+            sourceIndices = sortByPositions(size);
+        } else if (comparator != null) {
+            sourceIndices = sortWithComparator(size);
+        } else {
+            sourceIndices = new int[size];
+            Arrays.setAll(sourceIndices, i -> i);
+        }
+
+        List<E> ordered = new ArrayList<>(size);
+        viewIndices = new int[size];
+        for (int i = 0; i < size; i++) {
+            ordered.add(getSource().get(sourceIndices[i]));
+            viewIndices[sourceIndices[i]] = i;
+        }
+        elements = ordered;
+    }
+
+    /**
+     * Returns the positions in the source of the elements in the order given by {@code ordering}.
+     * Every element is placed in a slot for its position, so no elements are compared.
+     */
+    private int[] sortByPositions(int size) {
+        int[] positions = new int[size];
+        int slotCount = 0;
+        for (int i = 0; i < size; i++) {
+            positions[i] = ordering.applyAsInt(getSource().get(i));
+            slotCount = Math.max(slotCount, positions[i] + 1);
+        }
+
+        int[] slots = new int[slotCount];
+        Arrays.fill(slots, -1);
+        List<Integer> unplaced = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (positions[i] < 0 || slots[positions[i]] != -1) {
+                // Elements without a position, or sharing one with another element, keep the order of the source.
+                unplaced.add(i);
+            } else {
+                slots[positions[i]] = i;
+            }
+        }
+
+        int[] sorted = new int[size];
+        int count = 0;
+        for (int slot : slots) {
+            if (slot != -1) {
+                sorted[count++] = slot;
+            }
+        }
+        for (int i : unplaced) {
+            sorted[count++] = i;
+        }
+        return sorted;
+    }
+
+    private int[] sortWithComparator(int size) {
+        List<Integer> indices = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            indices.add(i);
+        }
+        indices.sort((first, second) -> comparator.compare(getSource().get(first), getSource().get(second)));
+        return indices.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * An order of elements that is kept by an index.
+     * {@link #applyAsInt(Object)} gives the position of an element in the order, which places all elements at once,
+     * or a negative position for elements that come after all others. {@link #compare(Object, Object)} compares two
+     * elements in the same order, which places a single element that changed, and is zero for elements that keep
+     * the order of the source.
+     */
+    public interface Ordering<E> extends ToIntFunction<E>, Comparator<E> {
+    }
+}
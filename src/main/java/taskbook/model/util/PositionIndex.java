@@ -0,0 +1,122 @@
+package taskbook.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Index of the positions of the elements of a list by their ids.
+ *
+ * Removing an element shifts all later elements one position to the left. Instead of recording the new positions of
+ * all of them on every removal, the index only counts the removals since the positions were last recorded. An element
+ * can then only have moved left by at most that many positions, so it is looked for among those few positions when
+ * its id is looked up. The positions are recorded again once {@link #MAX_PENDING_REMOVALS} removals are pending,
+ * so a removal costs O(n / 64) amortized, like removing from a {@link SnapshotList}.
+ */
+public class PositionIndex<T> {
+
+    /** Position returned by {@link #get(long)} for ids that are not in the index. */
+    public static final int NO_POSITION = LongIntMap.NO_VALUE;
+
+    static final int MAX_PENDING_REMOVALS = 64;
+
+    private final List<T> list;
+    private final ToLongFunction<T> idOf;
+    private final LongIntMap positions = new LongIntMap();
+    private int pendingRemovals;
+    /** Position of the first removal since the positions were last recorded, before which no element has moved. */
+    private int firstStalePosition = Integer.MAX_VALUE;
+
+    /**
+     * Creates an empty index of the positions of the elements of {@code list}, which have the ids given by
+     * {@code idOf}.
+     */
+    public PositionIndex(List<T> list, ToLongFunction<T> idOf) {
+        this.list = requireNonNull(list);
+        this.idOf = requireNonNull(idOf);
+    }
+
+    /**
+     * Returns true if the index contains an element with {@code id}.
+     */
+    public boolean containsKey(long id) {
+        return positions.containsKey(id);
+    }
+
+    /**
+     * Returns the position of the element with {@code id}, or {@link #NO_POSITION} if the index does not contain it.
+     */
+    public int get(long id) {
+        int recorded = positions.get(id);
+        if (recorded == NO_POSITION || recorded < firstStalePosition) {
+            return recorded;
+        }
+
+        int lowest = Math.max(recorded - pendingRemovals, 0);
+        for (int position = Math.min(recorded, list.size() - 1); position >= lowest; position--) {
+            if (idOf.applyAsLong(list.get(position)) == id) {
+                positions.put(id, position);
+                return position;
+            }
+        }
+        recordPositions();
+        return positions.get(id);
+    }
+
+    /**
+     * Records that the element with {@code id} is at {@code position}.
+     */
+    public void put(long id, int position) {
+        positions.put(id, position);
+    }
+
+    /**
+     * Records the positions of the elements of the list from position {@code from} (inclusive) to {@code to}
+     * (exclusive).
+     */
+    public void putRange(int from, int to) {
+        for (int i = from; i < to; i++) {
+            positions.put(idOf.applyAsLong(list.get(i)), i);
+        }
+        if (from <= firstStalePosition && to == list.size()) {
+            clearPendingRemovals();
+        }
+    }
+
+    /**
+     * Removes the element with {@code id} from the index.
+     */
+    public void remove(long id) {
+        positions.remove(id);
+    }
+
+    /**
+     * Records that an element was removed from {@code position} of the list, which moved all later elements.
+     * The removed element itself must be removed from the index with {@link #remove(long)}.
+     */
+    public void shiftAfterRemoval(int position) {
+        pendingRemovals++;
+        firstStalePosition = Math.min(firstStalePosition, position);
+        if (pendingRemovals >= MAX_PENDING_REMOVALS) {
+            recordPositions();
+        }
+    }
+
+    /**
+     * Removes all elements from the index.
+     */
+    public void clear() {
+        positions.clear();
+        clearPendingRemovals();
+    }
+
+    private void recordPositions() {
+        putRange(Math.min(firstStalePosition, list.size()), list.size());
+    }
+
+    private void clearPendingRemovals() {
+        pendingRemovals = 0;
+        firstStalePosition = Integer.MAX_VALUE;
+    }
+}
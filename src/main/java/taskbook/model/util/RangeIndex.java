@@ -0,0 +1,225 @@
+package taskbook.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Index of a collection of elements by an ordered key, which answers range queries over the keys without
+ * comparing every element.
+ *
+ * Elements without a key, for which the key function returns null, are not indexed and never in range. Elements with
+ * equal keys are in the order of the source, like a stable sort would put them.
+ * The index is built from its source on the first query, and again after {@link #invalidate()}, so replacing the
+ * whole collection does not cost more than it did before the index was added.
+ */
+public class RangeIndex<K extends Comparable<? super K>, T> {
+
+    private final Iterable<T> source;
+    private final Function<T, K> keyOf;
+
+    /** Elements by key. Elements with equal keys are in the order of the source, unless {@code hasUnorderedTies}. */
+    private final NavigableMap<K, List<T>> elements = new TreeMap<>();
+    private boolean isStale = true;
+    /** Whether elements were added next to others with equal keys, which may not be in the order of the source. */
+    private boolean hasUnorderedTies;
+    private long generation;
+
+    /**
+     * Creates an index over the elements of {@code source}, ordered by the keys given by {@code keyOf}.
+     */
+    public RangeIndex(Iterable<T> source, Function<T, K> keyOf) {
+        this.source = requireNonNull(source);
+        this.keyOf = requireNonNull(keyOf);
+    }
+
+    /**
+     * Adds {@code element} to the index.
+     * Must be called before listeners of the source are told about the element, so that predicates returned by
+     * {@link #matching(Comparable, Comparable)} already see it.
+     */
+    public void add(T element) {
+        requireNonNull(element);
+        generation++;
+        if (!isStale) {
+            hasUnorderedTies |= insert(element);
+        }
+    }
+
+    /**
+     * Removes {@code element}, which must be the same instance that was added, from the index.
+     */
+    public void remove(T element) {
+        requireNonNull(element);
+        generation++;
+        K key = keyOf.apply(element);
+        if (isStale || key == null) {
+            return;
+        }
+
+        List<T> elementsWithKey = elements.get(key);
+        if (elementsWithKey == null) {
+            return;
+        }
+        elementsWithKey.removeIf(other -> other == element);
+        if (elementsWithKey.isEmpty()) {
+            elements.remove(key);
+        }
+    }
+
+    /**
+     * Discards the index, which is rebuilt from the source on the next query.
+     */
+    public void invalidate() {
+        generation++;
+        isStale = true;
+        hasUnorderedTies = false;
+        elements.clear();
+    }
+
+    /**
+     * Returns the elements with keys from {@code from} to {@code to}, both inclusive, ordered by key and then by
+     * their order in the source. A null bound leaves that end of the range open.
+     */
+    public List<T> find(K from, K to) {
+        ensureOrdered();
+        if (from != null && to != null && from.compareTo(to) > 0) {
+            return new ArrayList<>();
+        }
+
+        NavigableMap<K, List<T>> range = elements;
+        if (from != null) {
+            range = range.tailMap(from, true);
+        }
+        if (to != null) {
+            range = range.headMap(to, true);
+        }
+
+        List<T> matches = new ArrayList<>();
+        range.values().forEach(matches::addAll);
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that is true for the elements in the source with keys from {@code from} to {@code to},
+     * both inclusive. A null bound leaves that end of the range open.
+     * The matches are looked up once and looked up again only after the index changes.
+     */
+    public Predicate<T> matching(K from, K to) {
+        return new Predicate<>() {
+            private Set<T> matches;
+            private long matchesGeneration;
+
+            @Override
+            public boolean test(T element) {
+                if (matches == null || matchesGeneration != generation) {
+                    matches = Collections.newSetFromMap(new IdentityHashMap<>());
+                    matches.addAll(find(from, to));
+                    matchesGeneration = generation;
+                }
+                return matches.contains(element);
+            }
+        };
+    }
+
+    /**
+     * Returns the order of the elements by key, which gives the position of each element in the source when the
+     * elements are ordered by key, or -1 for elements that are not in the source. Keys are in descending order if
+     * {@code isDescending}. Elements with equal keys, and elements without a key, which come after all others, are in
+     * the order of the source.
+     * The positions are worked out once by walking the index and worked out again only after the index changes, so
+     * the elements can be put in order without comparing their keys. Comparing two elements compares their keys.
+     */
+    public OrderedList.Ordering<T> ordering(boolean isDescending) {
+        return new OrderedList.Ordering<>() {
+            private Map<T, Integer> positions;
+            private long positionsGeneration;
+
+            @Override
+            public int applyAsInt(T element) {
+                if (positions == null || positionsGeneration != generation) {
+                    positions = positionsInOrder(isDescending);
+                    positionsGeneration = generation;
+                }
+                return positions.getOrDefault(element, -1);
+            }
+
+            @Override
+            public int compare(T first, T second) {
+                K firstKey = keyOf.apply(first);
+                K secondKey = keyOf.apply(second);
+                if (firstKey == null || secondKey == null) {
+                    return Boolean.compare(firstKey == null, secondKey == null);
+                }
+                return isDescending ? secondKey.compareTo(firstKey) : firstKey.compareTo(secondKey);
+            }
+        };
+    }
+
+    private Map<T, Integer> positionsInOrder(boolean isDescending) {
+        ensureOrdered();
+        Map<T, Integer> positions = new IdentityHashMap<>();
+        for (List<T> elementsWithKey : isDescending ? elements.descendingMap().values() : elements.values()) {
+            for (T element : elementsWithKey) {
+                positions.put(element, positions.size());
+            }
+        }
+        for (T element : source) {
+            if (keyOf.apply(element) == null) {
+                positions.put(element, positions.size());
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Builds the index if it is stale, and puts elements with equal keys back in the order of the source if elements
+     * were added next to others with equal keys, such as an edited element that keeps its place in the source.
+     */
+    private void ensureOrdered() {
+        if (isStale) {
+            isStale = false;
+            for (T element : source) {
+                insert(element);
+            }
+        }
+        if (!hasUnorderedTies) {
+            return;
+        }
+
+        hasUnorderedTies = false;
+        Map<T, Integer> sourcePositions = new IdentityHashMap<>();
+        for (T element : source) {
+            sourcePositions.put(element, sourcePositions.size());
+        }
+        for (List<T> elementsWithKey : elements.values()) {
+            if (elementsWithKey.size() > 1) {
+                elementsWithKey.sort(Comparator.comparingInt(element ->
+                        sourcePositions.getOrDefault(element, Integer.MAX_VALUE)));
+            }
+        }
+    }
+
+    /**
+     * Adds {@code element} after the elements with the same key, and returns true if there are any.
+     */
+    private boolean insert(T element) {
+        K key = keyOf.apply(element);
+        if (key == null) {
+            return false;
+        }
+        List<T> elementsWithKey = elements.computeIfAbsent(key, unused -> new ArrayList<>(1));
+        elementsWithKey.add(element);
+        return elementsWithKey.size() > 1;
+    }
+}
@@ -0,0 +1,580 @@
+package taskbook.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} that can take immutable snapshots of its contents cheaply.
+ *
+ * Elements are stored in chunks of at most {@link #CHUNK_CAPACITY} elements. Taking a snapshot copies only the
+ * references to the chunks and marks every chunk as shared; a shared chunk is copied the first time this list
+ * modifies it. A snapshot therefore costs one reference per chunk, and the list and all of its snapshots together
+ * only use extra memory for the chunks that were modified in between.
+ *
+ * The list also keeps a fingerprint of its contents, which is updated with every change. Lists and snapshots with
+ * different fingerprints are never equal, so most unequal lists can be told apart without comparing their elements.
+ *
+ * Every snapshot also records the ranges of the list that its most recent changes replaced, so that the range that
+ * changed between two snapshots of the same list can be found in time proportional to the changes in between, see
+ * {@link Snapshot#changedRangeSince(Snapshot)}.
+ *
+ * Not thread-safe. Snapshots are immutable and may be read from any thread.
+ */
+public class SnapshotList<E> extends ModifiableObservableListBase<E> implements RandomAccess {
+
+    static final int CHUNK_CAPACITY = 64;
+
+    /** Number of changes that are recorded before the record of the earlier changes is dropped. */
+    static final int MAX_RECORDED_CHANGES = 256;
+
+    private static final int INITIAL_CHUNK_SLOTS = 4;
+
+    private Object[][] chunks = new Object[INITIAL_CHUNK_SLOTS][];
+    /** Number of elements stored in each chunk. */
+    private int[] counts = new int[INITIAL_CHUNK_SLOTS];
+    /** List index of the first element of each chunk. */
+    private int[] starts = new int[INITIAL_CHUNK_SLOTS];
+    /** Whether each chunk belongs to this list only, and so may be modified in place. */
+    private boolean[] owned = new boolean[INITIAL_CHUNK_SLOTS];
+    private int chunkCount;
+    private int size;
+    private long fingerprint;
+    /** Chunk of the last lookup, so that sequential access does not need to search. */
+    private int lastChunk;
+    private ChangeRecord lastChange = new ChangeRecord(null, 0, 0, 0);
+
+    /**
+     * Creates an empty list.
+     */
+    public SnapshotList() {
+        addListener((Change<? extends E> change) -> recordChange(change));
+    }
+
+    /**
+     * Returns an immutable snapshot of the current contents of this list.
+     */
+    public Snapshot<E> snapshot() {
+        Arrays.fill(owned, 0, chunkCount, false);
+        return new Snapshot<>(Arrays.copyOf(chunks, chunkCount), Arrays.copyOf(counts, chunkCount),
+                Arrays.copyOf(starts, chunkCount), size, fingerprint, lastChange);
+    }
+
+    /**
+     * Returns the fingerprint of the contents of this list.
+     * Equal lists have equal fingerprints, in any order of their elements.
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code snapshot}.
+     * Storage is shared with {@code snapshot} instead of being copied, and listeners are notified of a single change.
+     */
+    public void restore(Snapshot<E> snapshot) {
+        requireNonNull(snapshot);
+        Snapshot<E> removed = snapshot();
+
+        beginChange();
+        chunks = Arrays.copyOf(snapshot.chunks, Math.max(snapshot.chunks.length, INITIAL_CHUNK_SLOTS));
+        counts = Arrays.copyOf(snapshot.counts, chunks.length);
+        starts = Arrays.copyOf(snapshot.starts, chunks.length);
+        owned = new boolean[chunks.length];
+        chunkCount = snapshot.chunks.length;
+        size = snapshot.size;
+        fingerprint = snapshot.fingerprint;
+        lastChunk = 0;
+        modCount++;
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (size > 0) {
+            nextAdd(0, size);
+        }
+        endChange();
+    }
+
+    /**
+     * Replaces the elements from {@code from} (inclusive) to {@code to} (exclusive) with {@code replacement}.
+     * Listeners are notified of a single change.
+     */
+    public void replaceRange(int from, int to, List<? extends E> replacement) {
+        requireNonNull(replacement);
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("From: " + from + ", To: " + to + ", Size: " + size);
+        }
+
+        beginChange();
+        try {
+            for (int i = to - 1; i >= from; i--) {
+                remove(i);
+            }
+            addAll(from, replacement);
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+
+        Snapshot<E> removed = snapshot();
+        beginChange();
+        chunks = new Object[INITIAL_CHUNK_SLOTS][];
+        counts = new int[INITIAL_CHUNK_SLOTS];
+        starts = new int[INITIAL_CHUNK_SLOTS];
+        owned = new boolean[INITIAL_CHUNK_SLOTS];
+        chunkCount = 0;
+        size = 0;
+        fingerprint = 0;
+        lastChunk = 0;
+        modCount++;
+        nextRemove(0, removed);
+        endChange();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index);
+        int chunk = chunkOf(index);
+        return (E) chunks[chunk][index - starts[chunk]];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        if (index == size) {
+            append(element);
+            return;
+        }
+
+        int chunk = chunkOf(index);
+        int offset = index - starts[chunk];
+        if (counts[chunk] == CHUNK_CAPACITY) {
+            split(chunk);
+            if (offset >= counts[chunk]) {
+                offset -= counts[chunk];
+                chunk++;
+            }
+        }
+
+        Object[] elements = writableChunk(chunk);
+        System.arraycopy(elements, offset, elements, offset + 1, counts[chunk] - offset);
+        elements[offset] = element;
+        counts[chunk]++;
+        size++;
+        fingerprint += fingerprintOf(element);
+        updateStarts(chunk + 1);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected E doSet(int index, E element) {
+        checkIndex(index);
+        int chunk = chunkOf(index);
+        Object[] elements = writableChunk(chunk);
+        int offset = index - starts[chunk];
+        E old = (E) elements[offset];
+        elements[offset] = element;
+        fingerprint += fingerprintOf(element) - fingerprintOf(old);
+        return old;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected E doRemove(int index) {
+        checkIndex(index);
+        int chunk = chunkOf(index);
+        Object[] elements = writableChunk(chunk);
+        int offset = index - starts[chunk];
+        E old = (E) elements[offset];
+        System.arraycopy(elements, offset + 1, elements, offset, counts[chunk] - offset - 1);
+        elements[--counts[chunk]] = null;
+        size--;
+        fingerprint -= fingerprintOf(old);
+
+        if (counts[chunk] == 0) {
+            removeChunk(chunk);
+        } else if (chunk + 1 < chunkCount && counts[chunk] + counts[chunk + 1] <= CHUNK_CAPACITY / 2) {
+            merge(chunk);
+        } else if (chunk > 0 && counts[chunk - 1] + counts[chunk] <= CHUNK_CAPACITY / 2) {
+            merge(chunk - 1);
+        }
+        updateStarts(Math.max(chunk - 1, 0));
+        return old;
+    }
+
+    /**
+     * Records the range of this list that {@code change} replaced.
+     * Permutations and updates are recorded as replacing the elements they moved or updated.
+     */
+    private void recordChange(Change<? extends E> change) {
+        int from = -1;
+        int oldEnd = 0;
+        int newEnd = 0;
+        while (change.next()) {
+            int changeFrom = change.getFrom();
+            int removedSize = change.wasPermutated() || change.wasUpdated()
+                    ? change.getTo() - changeFrom
+                    : change.getRemovedSize();
+            int changeEnd = Math.max(newEnd, changeFrom + removedSize);
+            oldEnd = changeEnd + oldEnd - newEnd;
+            newEnd = changeEnd + change.getTo() - changeFrom - removedSize;
+            from = from == -1 ? changeFrom : Math.min(from, changeFrom);
+        }
+        if (from != -1) {
+            lastChange = new ChangeRecord(lastChange, from, oldEnd, newEnd);
+        }
+    }
+
+    private void append(E element) {
+        if (chunkCount == 0 || counts[chunkCount - 1] == CHUNK_CAPACITY) {
+            insertChunk(chunkCount, new Object[CHUNK_CAPACITY], 0);
+            starts[chunkCount - 1] = size;
+        }
+
+        int chunk = chunkCount - 1;
+        writableChunk(chunk)[counts[chunk]++] = element;
+        size++;
+        fingerprint += fingerprintOf(element);
+    }
+
+    /**
+     * Returns the chunk containing the element at {@code index}.
+     */
+    private int chunkOf(int index) {
+        if (lastChunk < chunkCount && index >= starts[lastChunk] && index < starts[lastChunk] + counts[lastChunk]) {
+            return lastChunk;
+        }
+
+        lastChunk = findChunk(starts, chunkCount, index);
+        return lastChunk;
+    }
+
+    /**
+     * Returns the elements of {@code chunk}, copying them first if they are shared with a snapshot.
+     */
+    private Object[] writableChunk(int chunk) {
+        if (!owned[chunk]) {
+            chunks[chunk] = Arrays.copyOf(chunks[chunk], CHUNK_CAPACITY);
+            owned[chunk] = true;
+        }
+        return chunks[chunk];
+    }
+
+    /**
+     * Moves the upper half of the full {@code chunk} into a new chunk after it.
+     */
+    private void split(int chunk) {
+        Object[] elements = chunks[chunk];
+        int lowerCount = CHUNK_CAPACITY / 2;
+        Object[] upper = new Object[CHUNK_CAPACITY];
+        System.arraycopy(elements, lowerCount, upper, 0, CHUNK_CAPACITY - lowerCount);
+        Object[] lower = Arrays.copyOf(elements, CHUNK_CAPACITY);
+        Arrays.fill(lower, lowerCount, CHUNK_CAPACITY, null);
+
+        chunks[chunk] = lower;
+        counts[chunk] = lowerCount;
+        owned[chunk] = true;
+        insertChunk(chunk + 1, upper, CHUNK_CAPACITY - lowerCount);
+        updateStarts(chunk + 1);
+    }
+
+    /**
+     * Moves the elements of the chunk after {@code chunk} into {@code chunk}.
+     */
+    private void merge(int chunk) {
+        Object[] elements = writableChunk(chunk);
+        System.arraycopy(chunks[chunk + 1], 0, elements, counts[chunk], counts[chunk + 1]);
+        counts[chunk] += counts[chunk + 1];
+        removeChunk(chunk + 1);
+    }
+
+    private void insertChunk(int chunk, Object[] elements, int count) {
+        if (chunkCount == chunks.length) {
+            int newLength = chunks.length * 2;
+            chunks = Arrays.copyOf(chunks, newLength);
+            counts = Arrays.copyOf(counts, newLength);
+            starts = Arrays.copyOf(starts, newLength);
+            owned = Arrays.copyOf(owned, newLength);
+        }
+
+        int moved = chunkCount - chunk;
+        System.arraycopy(chunks, chunk, chunks, chunk + 1, moved);
+        System.arraycopy(counts, chunk, counts, chunk + 1, moved);
+        System.arraycopy(starts, chunk, starts, chunk + 1, moved);
+        System.arraycopy(owned, chunk, owned, chunk + 1, moved);
+        chunks[chunk] = elements;
+        counts[chunk] = count;
+        owned[chunk] = true;
+        chunkCount++;
+    }
+
+    private void removeChunk(int chunk) {
+        int moved = chunkCount - chunk - 1;
+        System.arraycopy(chunks, chunk + 1, chunks, chunk, moved);
+        System.arraycopy(counts, chunk + 1, counts, chunk, moved);
+        System.arraycopy(starts, chunk + 1, starts, chunk, moved);
+        System.arraycopy(owned, chunk + 1, owned, chunk, moved);
+        chunkCount--;
+        chunks[chunkCount] = null;
+        lastChunk = 0;
+    }
+
+    /**
+     * Recomputes the start indexes of all chunks from {@code chunk} onwards.
+     */
+    private void updateStarts(int chunk) {
+        for (int i = Math.max(chunk, 1); i < chunkCount; i++) {
+            starts[i] = starts[i - 1] + counts[i - 1];
+        }
+        if (chunkCount > 0) {
+            starts[0] = 0;
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Returns the contribution of {@code element} to the fingerprint of a list.
+     * Summing the contributions keeps the fingerprint cheap to update when elements are inserted or removed in the
+     * middle of the list, and mixing the bits of the hash code keeps unrelated lists from summing to the same value.
+     */
+    private static long fingerprintOf(Object element) {
+        long hash = Objects.hashCode(element) * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 32;
+        hash *= 0xBF58476D1CE4E5B9L;
+        return hash ^ (hash >>> 29);
+    }
+
+    /**
+     * Returns the last of the first {@code chunkCount} chunks that starts at or before {@code index}.
+     */
+    private static int findChunk(int[] starts, int chunkCount, int index) {
+        int low = 0;
+        int high = chunkCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (starts[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Range of a {@code SnapshotList} that was replaced by a change, or by a group of changes that were made together.
+     */
+    private static final class ChangeRecord {
+        /** The change before this one, or null if it is no longer recorded. */
+        private final ChangeRecord previous;
+        private final long sequence;
+        /** Start of the replaced range, and its ends before and after the change. */
+        private final int from;
+        private final int oldEnd;
+        private final int newEnd;
+
+        ChangeRecord(ChangeRecord previous, int from, int oldEnd, int newEnd) {
+            this.sequence = previous == null ? 0 : previous.sequence + 1;
+            // Dropping the record of the earlier changes every so often keeps the records of a list from growing
+            // without bound, at the cost of comparing whole snapshots that were taken on both sides of the drop.
+            this.previous = sequence % MAX_RECORDED_CHANGES == 0 ? null : previous;
+            this.from = from;
+            this.oldEnd = oldEnd;
+            this.newEnd = newEnd;
+        }
+    }
+
+    /**
+     * An immutable view of the contents of a {@code SnapshotList} at the time the snapshot was taken.
+     */
+    public static final class Snapshot<E> extends AbstractList<E> implements RandomAccess {
+
+        private final Object[][] chunks;
+        private final int[] counts;
+        private final int[] starts;
+        private final int size;
+        private final long fingerprint;
+        private final ChangeRecord lastChange;
+
+        private Snapshot(Object[][] chunks, int[] counts, int[] starts, int size, long fingerprint,
+                ChangeRecord lastChange) {
+            this.chunks = chunks;
+            this.counts = counts;
+            this.starts = starts;
+            this.size = size;
+            this.fingerprint = fingerprint;
+            this.lastChange = lastChange;
+        }
+
+        public long getFingerprint() {
+            return fingerprint;
+        }
+
+        /**
+         * Returns the range of {@code earlier} that was replaced to give this snapshot, as its start, its end in
+         * {@code earlier} and its end in this snapshot, or null if both snapshots have the same elements.
+         *
+         * If both snapshots were taken from the same list, the range is found from the changes made to the list in
+         * between, and then narrowed down by comparing the elements at its ends by identity, so it costs time
+         * proportional to the size of the changes. Otherwise, or if those changes are no longer recorded, the whole
+         * snapshots are compared by identity.
+         */
+        public int[] changedRangeSince(Snapshot<E> earlier) {
+            requireNonNull(earlier);
+            if (earlier.lastChange == lastChange) {
+                return null;
+            }
+
+            int[] range = recordedRangeSince(earlier);
+            if (range == null) {
+                range = new int[] {0, earlier.size, size};
+            }
+            while (range[0] < range[1] && range[0] < range[2] && earlier.get(range[0]) == get(range[0])) {
+                range[0]++;
+            }
+            while (range[1] > range[0] && range[2] > range[0] && earlier.get(range[1] - 1) == get(range[2] - 1)) {
+                range[1]--;
+                range[2]--;
+            }
+            return range[0] == range[1] && range[0] == range[2] ? null : range;
+        }
+
+        /**
+         * Returns the range of {@code earlier} that the changes recorded in between replaced, or null if the changes
+         * are not recorded.
+         */
+        private int[] recordedRangeSince(Snapshot<E> earlier) {
+            List<ChangeRecord> changes = new ArrayList<>();
+            for (ChangeRecord change = lastChange; change != earlier.lastChange; change = change.previous) {
+                if (change == null || change.sequence <= earlier.lastChange.sequence) {
+                    return null;
+                }
+                changes.add(change);
+            }
+
+            int[] range = null;
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                ChangeRecord change = changes.get(i);
+                if (range == null) {
+                    range = new int[] {change.from, change.oldEnd, change.newEnd};
+                    continue;
+                }
+                int end = Math.max(range[2], change.oldEnd);
+                range[0] = Math.min(range[0], change.from);
+                range[1] = end + range[1] - range[2];
+                range[2] = end + change.newEnd - change.oldEnd;
+            }
+            return range;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            int chunk = findChunk(starts, chunks.length, index);
+            return (E) chunks[chunk][index - starts[chunk]];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<>() {
+                private int chunk;
+                private int offset;
+
+                @Override
+                public boolean hasNext() {
+                    return chunk < chunks.length;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public E next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    E element = (E) chunks[chunk][offset++];
+                    if (offset == counts[chunk]) {
+                        chunk++;
+                        offset = 0;
+                    }
+                    return element;
+                }
+            };
+        }
+
+        /**
+         * Returns true if {@code other} contains the same elements in the same order.
+         * Snapshots with different fingerprints are unequal, and chunks shared between two snapshots of the same list
+         * are not compared element by element.
+         */
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof Snapshot)) {
+                return super.equals(other);
+            }
+
+            Snapshot<?> otherSnapshot = (Snapshot<?>) other;
+            if (size != otherSnapshot.size || fingerprint != otherSnapshot.fingerprint) {
+                return false;
+            }
+
+            if (!Arrays.equals(counts, otherSnapshot.counts)) {
+                return super.equals(other);
+            }
+
+            for (int i = 0; i < chunks.length; i++) {
+                if (chunks[i] != otherSnapshot.chunks[i]
+                        && !Arrays.equals(chunks[i], 0, counts[i], otherSnapshot.chunks[i], 0, counts[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return super.hashCode();
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package taskbook.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Index over the text of a collection of elements, which answers case-insensitive substring queries without
+ * comparing the query against the text of every element.
+ *
+ * Every trigram (substring of three characters) of the upper case texts keeps a posting list of the elements
+ * containing it, and so does every token when the texts are split on spaces. A query only narrows the elements down
+ * to candidates that contain all trigrams of the query, or for queries shorter than a trigram, candidates whose
+ * tokens could contain the query. Candidates are then verified with the matcher the index was created with, so
+ * queries find exactly the elements that the matcher accepts, as long as the matcher compares the upper case forms
+ * of the query and the texts.
+ *
+ * The index is built from its source on the first query, and again after {@link #invalidate()}, so replacing the
+ * whole collection does not cost more than it did before the index was added.
+ */
+public class TextIndex<T> {
+
+    /** Removed elements are purged from the posting lists once they outnumber the elements in the index. */
+    private static final int MINIMUM_PURGE_THRESHOLD = 64;
+    private static final int TRIGRAM_LENGTH = 3;
+
+    private final Iterable<T> source;
+    private final Function<T, Collection<String>> textsOf;
+    private final BiPredicate<T, String> matcher;
+
+    /** Elements by id. Removed elements leave a null behind until the index is rebuilt. */
+    private final List<T> elements = new ArrayList<>();
+    private final Map<T, Integer> ids = new IdentityHashMap<>();
+    private final TreeMap<String, IntList> tokenPostings = new TreeMap<>();
+    private final Map<Long, IntList> trigramPostings = new HashMap<>();
+    private boolean isStale = true;
+    private long generation;
+
+    /**
+     * Creates an index over the elements of {@code source}, which are searched in the texts given by
+     * {@code textsOf}. {@code matcher} decides whether an element contains a query.
+     */
+    public TextIndex(Iterable<T> source, Function<T, Collection<String>> textsOf, BiPredicate<T, String> matcher) {
+        this.source = requireNonNull(source);
+        this.textsOf = requireNonNull(textsOf);
+        this.matcher = requireNonNull(matcher);
+    }
+
+    /**
+     * Adds {@code element} to the index.
+     * Must be called before listeners of the source are told about the element, so that predicates returned by
+     * {@link #matching(String)} already see it.
+     */
+    public void add(T element) {
+        requireNonNull(element);
+        generation++;
+        if (!isStale) {
+            insert(element);
+        }
+    }
+
+    /**
+     * Removes {@code element}, which must be the same instance that was added, from the index.
+     */
+    public void remove(T element) {
+        requireNonNull(element);
+        generation++;
+        if (isStale) {
+            return;
+        }
+
+        Integer id = ids.remove(element);
+        if (id == null) {
+            return;
+        }
+        elements.set(id, null);
+        if (elements.size() - ids.size() > Math.max(ids.size(), MINIMUM_PURGE_THRESHOLD)) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Discards the index, which is rebuilt from the source on the next query.
+     */
+    public void invalidate() {
+        generation++;
+        isStale = true;
+        elements.clear();
+        ids.clear();
+        tokenPostings.clear();
+        trigramPostings.clear();
+    }
+
+    /**
+     * Returns the elements that contain {@code query}, as decided by the matcher of this index.
+     */
+    public Set<T> find(String query) {
+        requireNonNull(query);
+        ensureBuilt();
+
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        IntList candidates = findCandidates(query.toUpperCase());
+        for (int i = 0; i < candidates.size; i++) {
+            T element = elements.get(candidates.ids[i]);
+            if (element != null && matcher.test(element, query)) {
+                matches.add(element);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that is true for the elements in the source that contain {@code query}.
+     * The matches are looked up once and looked up again only after the index changes.
+     */
+    public Predicate<T> matching(String query) {
+        requireNonNull(query);
+        return new Predicate<>() {
+            private Set<T> matches;
+            private long matchesGeneration;
+
+            @Override
+            public boolean test(T element) {
+                if (matches == null || matchesGeneration != generation) {
+                    matches = find(query);
+                    matchesGeneration = generation;
+                }
+                return matches.contains(element);
+            }
+        };
+    }
+
+    private void ensureBuilt() {
+        if (!isStale) {
+            return;
+        }
+
+        isStale = false;
+        for (T element : source) {
+            insert(element);
+        }
+    }
+
+    private void insert(T element) {
+        int id = elements.size();
+        elements.add(element);
+        ids.put(element, id);
+        for (String text : textsOf.apply(element)) {
+            String upperText = text.toUpperCase();
+            for (String token : upperText.split(" ")) {
+                if (!token.isEmpty()) {
+                    tokenPostings.computeIfAbsent(token, unused -> new IntList()).add(id);
+                }
+            }
+            for (int i = 0; i + TRIGRAM_LENGTH <= upperText.length(); i++) {
+                trigramPostings.computeIfAbsent(trigramAt(upperText, i), unused -> new IntList()).add(id);
+            }
+        }
+    }
+
+    /**
+     * Returns the ids of the elements that may contain {@code upperQuery}, in ascending order.
+     */
+    private IntList findCandidates(String upperQuery) {
+        if (upperQuery.length() < TRIGRAM_LENGTH) {
+            return findCandidatesByTokens(upperQuery);
+        }
+
+        List<IntList> required = new ArrayList<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= upperQuery.length(); i++) {
+            IntList posting = trigramPostings.get(trigramAt(upperQuery, i));
+            if (posting == null) {
+                return IntList.EMPTY;
+            }
+            required.add(posting);
+        }
+        return intersection(required);
+    }
+
+    /**
+     * Returns the ids of the elements whose tokens may contain {@code upperQuery}, in ascending order.
+     * If the query occurs in a text, its first word ends a token of the text, its last word starts a token of the
+     * text, and every word in between is a whole token of the text. A query without spaces occurs within a token.
+     */
+    private IntList findCandidatesByTokens(String upperQuery) {
+        String[] words = upperQuery.split(" ", -1);
+        if (words.length == 1) {
+            return words[0].isEmpty() ? allIds() : union(token -> token.contains(words[0]));
+        }
+
+        List<IntList> required = new ArrayList<>();
+        String first = words[0];
+        if (!first.isEmpty()) {
+            required.add(union(token -> token.endsWith(first)));
+        }
+        for (int i = 1; i < words.length - 1; i++) {
+            if (!words[i].isEmpty()) {
+                required.add(tokenPostings.getOrDefault(words[i], IntList.EMPTY));
+            }
+        }
+        String last = words[words.length - 1];
+        if (!last.isEmpty()) {
+            required.add(union(tokenPostings.subMap(last, last + Character.MAX_VALUE).values()));
+        }
+        return intersection(required);
+    }
+
+    private static long trigramAt(String text, int index) {
+        return ((long) text.charAt(index) << 32) | ((long) text.charAt(index + 1) << 16) | text.charAt(index + 2);
+    }
+
+    private IntList allIds() {
+        IntList all = new IntList();
+        for (int id = 0; id < elements.size(); id++) {
+            all.add(id);
+        }
+        return all;
+    }
+
+    private IntList union(Predicate<String> tokenFilter) {
+        List<IntList> postings = new ArrayList<>();
+        tokenPostings.forEach((token, posting) -> {
+            if (tokenFilter.test(token)) {
+                postings.add(posting);
+            }
+        });
+        return union(postings);
+    }
+
+    private static IntList union(Collection<IntList> postings) {
+        BitSet union = new BitSet();
+        for (IntList posting : postings) {
+            for (int i = 0; i < posting.size; i++) {
+                union.set(posting.ids[i]);
+            }
+        }
+
+        IntList ids = new IntList();
+        for (int id = union.nextSetBit(0); id >= 0; id = union.nextSetBit(id + 1)) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private IntList intersection(List<IntList> postings) {
+        if (postings.isEmpty()) {
+            return allIds();
+        }
+
+        postings.sort((first, second) -> Integer.compare(first.size, second.size));
+        IntList intersection = postings.get(0);
+        for (int i = 1; i < postings.size() && intersection.size > 0; i++) {
+            intersection = intersection.retainAll(postings.get(i));
+        }
+        return intersection;
+    }
+
+    /**
+     * Growable list of ids in ascending order without duplicates.
+     */
+    private static final class IntList {
+        static final IntList EMPTY = new IntList();
+
+        private int[] ids = new int[2];
+        private int size;
+
+        /**
+         * Appends {@code id}, which must not be less than the last id in the list.
+         */
+        void add(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        /**
+         * Returns the ids that are in both this list and {@code other}.
+         */
+        IntList retainAll(IntList other) {
+            IntList common = new IntList();
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                if (ids[i] < other.ids[j]) {
+                    i++;
+                } else if (ids[i] > other.ids[j]) {
+                    j++;
+                } else {
+                    common.add(ids[i]);
+                    i++;
+                    j++;
+                }
+            }
+            return common;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package taskbook.model.util;
+
+/**
+ * Checks the values of the model's value objects, such as names, tags and email addresses.
+ *
+ * Each check accepts exactly the strings that the {@code VALIDATION_REGEX} of its value object matches, but scans the
+ * string one character at a time instead of compiling the regex on every call to {@link String#matches(String)}, so
+ * that checking the values of a command or of every record loaded from a file allocates nothing.
+ * Like the regexes, all checks only treat ASCII letters and digits as alphanumeric.
+ */
+public class ValidationUtil {
+
+    private static final String EMAIL_LOCAL_PART_SEPARATORS = "+_.-";
+    private static final String WHITESPACE = " \t\n\u000B\f\r";
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit.
+     */
+    public static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * Returns true if {@code test} is not empty and only contains ASCII letters and digits.
+     * Matches the same strings as {@code \p{Alnum}+}.
+     */
+    public static boolean isAlphanumeric(String test) {
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} starts with an ASCII letter or digit and only contains ASCII letters, digits and
+     * spaces.
+     * Matches the same strings as {@code [\p{Alnum}][\p{Alnum} ]*}.
+     */
+    public static boolean isAlphanumericWithSpaces(String test) {
+        if (test.isEmpty() || !isAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} only contains ASCII digits and is at least {@code minLength} digits long.
+     * Matches the same strings as {@code \d{minLength,}}.
+     */
+    public static boolean isDigits(String test, int minLength) {
+        if (test.length() < minLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} only contains ASCII characters and is not blank, that is, it has a character that
+     * {@link String#trim()} would not remove.
+     * Matches the same strings as {@code [\p{ASCII}][\p{ASCII}'. ]*} whose trimmed value is not empty.
+     */
+    public static boolean isNonBlankAscii(String test) {
+        boolean isBlank = true;
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c > '\u007F') {
+                return false;
+            }
+            isBlank &= c <= ' ';
+        }
+        return !isBlank;
+    }
+
+    /**
+     * Returns true if {@code test} does not start with a whitespace and does not contain a line break.
+     * Matches the same strings as {@code [^\s].*}.
+     */
+    public static boolean isSingleLineNonBlank(String test) {
+        if (test.isEmpty() || WHITESPACE.indexOf(test.charAt(0)) >= 0) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} ends a line, that is, it is a character that {@code .} in a regex does not match.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * Returns true if {@code test} is an email address of the format local-part@domain, as described in
+     * {@link taskbook.model.person.Email#MESSAGE_CONSTRAINTS}.
+     * Matches the same strings as {@link taskbook.model.person.Email#VALIDATION_REGEX}.
+     */
+    public static boolean isEmailAddress(String test) {
+        int atIndex = test.indexOf('@');
+        return atIndex >= 0 && isEmailLocalPart(test, 0, atIndex) && isDomain(test, atIndex + 1, test.length());
+    }
+
+    /**
+     * Returns true if the characters of {@code test} from {@code start} to {@code end} are runs of alphanumeric
+     * characters separated by single special characters.
+     */
+    private static boolean isEmailLocalPart(String test, int start, int end) {
+        boolean isAfterSeparator = true;
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                isAfterSeparator = false;
+            } else if (!isAfterSeparator && EMAIL_LOCAL_PART_SEPARATORS.indexOf(c) >= 0) {
+                isAfterSeparator = true;
+            } else {
+                return false;
+            }
+        }
+        return !isAfterSeparator;
+    }
+
+    /**
+     * Returns true if the characters of {@code test} from {@code start} to {@code end} are domain labels separated by
+     * periods.
+     */
+    private static boolean isDomain(String test, int start, int end) {
+        int labelStart = start;
+        for (int i = start; i < end; i++) {
+            if (test.charAt(i) == '.') {
+                if (!isDomainLabel(test, labelStart, i, false)) {
+                    return false;
+                }
+                labelStart = i + 1;
+            }
+        }
+        return isDomainLabel(test, labelStart, end, true);
+    }
+
+    /**
+     * Returns true if the characters of {@code test} from {@code start} to {@code end} are runs of alphanumeric
+     * characters separated by single hyphens.
+     * The last label of a domain must also have two alphanumeric characters next to each other, as its regex matches
+     * at least two such labels written one after the other.
+     */
+    private static boolean isDomainLabel(String test, int start, int end, boolean isLastLabel) {
+        boolean isAfterHyphen = true;
+        boolean hasAdjacentAlphanumerics = false;
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                hasAdjacentAlphanumerics |= i > start && !isAfterHyphen;
+                isAfterHyphen = false;
+            } else if (!isAfterHyphen && c == '-') {
+                isAfterHyphen = true;
+            } else {
+                return false;
+            }
+        }
+        return !isAfterHyphen && (hasAdjacentAlphanumerics || !isLastLabel);
+    }
+}
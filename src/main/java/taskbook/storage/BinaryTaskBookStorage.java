@@ -0,0 +1,410 @@
+package taskbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import taskbook.commons.core.LogsCenter;
+import taskbook.commons.exceptions.DataConversionException;
+import taskbook.commons.exceptions.IllegalValueException;
+import taskbook.commons.util.FileUtil;
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.TaskBook;
+import taskbook.model.person.Address;
+import taskbook.model.person.Email;
+import taskbook.model.person.Name;
+import taskbook.model.person.Person;
+import taskbook.model.person.Phone;
+import taskbook.model.tag.Tag;
+import taskbook.model.tag.TagSet;
+import taskbook.model.task.Deadline;
+import taskbook.model.task.Description;
+import taskbook.model.task.Event;
+import taskbook.model.task.Task;
+import taskbook.model.task.Todo;
+import taskbook.model.task.enums.Assignment;
+
+/**
+ * A class to access TaskBook data stored in a compact binary format on the hard disk.
+ *
+ * A file starts with a magic number and the version of its format, followed by a table of the distinct strings in
+ * the task book, and then the persons and the tasks, which refer to their names, descriptions, tags and other strings
+ * by their positions in the table. Counts, lengths, positions and ids are stored as variable-length integers, dates
+ * as epoch days, and the type, done status and assignment of a task are packed into a single byte.
+ *
+ * Reading checks every value the same way as {@link JsonTaskBookStorage}, but a string that is shared by many persons
+ * or tasks is only checked and converted once. Only files in the binary format are read, see
+ * {@link ConvertingTaskBookStorage} for files in the other formats.
+ */
+public class BinaryTaskBookStorage implements TaskBookStorage {
+
+    public static final int VERSION = 1;
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary task book version: %d";
+    public static final String MESSAGE_INVALID_FILE = "Binary task book file is corrupted";
+
+    /** The bytes "TBKB". */
+    private static final int MAGIC = 0x54424B42;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private static final int TYPE_TODO = 0;
+    private static final int TYPE_EVENT = 1;
+    private static final int TYPE_DEADLINE = 2;
+    private static final int TYPE_MASK = 0b11;
+    private static final int DONE_FLAG = 1 << 2;
+    private static final int ASSIGNED_TO_FLAG = 1 << 3;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTaskBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryTaskBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getTaskBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code path} is a binary task book file.
+     */
+    public static boolean isBinaryFile(Path path) throws IOException {
+        if (!FileUtil.isFileExists(path)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(path))) {
+            return in.readInt() == MAGIC;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return readTaskBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+        TaskBook taskBook;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(filePath), READ_BUFFER_SIZE))) {
+            taskBook = read(in, Files.size(filePath));
+        } catch (EOFException e) {
+            logger.warning("Binary file " + filePath + " ends too early");
+            throw new DataConversionException(new IllegalValueException(MESSAGE_INVALID_FILE));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        return Optional.of(taskBook);
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskBook(ReadOnlyTaskBook)}.
+     * The file is replaced atomically.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        requireNonNull(taskBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            DataOutputStream dataOut = new DataOutputStream(out);
+            write(taskBook, dataOut);
+            dataOut.flush();
+        });
+    }
+
+    private static void write(ReadOnlyTaskBook taskBook, DataOutputStream out) throws IOException {
+        StringTable table = new StringTable();
+        for (Person person : taskBook.getPersonList()) {
+            table.add(person.getName().fullName);
+            table.add(person.getPhone().value);
+            table.add(person.getEmail().value);
+            table.add(person.getAddress().value);
+            person.getTags().forEach(tag -> table.add(tag.tagName));
+        }
+        for (Task task : taskBook.getTaskList()) {
+            table.add(task.getName().fullName);
+            table.add(task.getDescription().description);
+            task.getTags().forEach(tag -> table.add(tag.tagName));
+        }
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        writeVarLong(out, table.strings.size());
+        for (String string : table.strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(out, bytes.length);
+            out.write(bytes);
+        }
+
+        writeVarLong(out, taskBook.getPersonList().size());
+        for (Person person : taskBook.getPersonList()) {
+            writeVarLong(out, person.getId());
+            table.write(out, person.getName().fullName);
+            table.write(out, person.getPhone().value);
+            table.write(out, person.getEmail().value);
+            table.write(out, person.getAddress().value);
+            writeTags(out, table, person.getTags());
+        }
+
+        writeVarLong(out, taskBook.getTaskList().size());
+        for (Task task : taskBook.getTaskList()) {
+            int type = typeOf(task);
+            int flags = type | (task.isDone() ? DONE_FLAG : 0)
+                    | (task.getAssignment() == Assignment.TO ? ASSIGNED_TO_FLAG : 0);
+            writeVarLong(out, task.getId());
+            out.writeByte(flags);
+            table.write(out, task.getName().fullName);
+            table.write(out, task.getDescription().description);
+            if (type != TYPE_TODO) {
+                out.writeInt(Math.toIntExact(task.getDate().toEpochDay()));
+            }
+            writeTags(out, table, task.getTags());
+        }
+    }
+
+    /**
+     * Reads a task book from {@code in}, which reads a file of {@code fileSize} bytes. Every count and length in the
+     * file is checked against its size before anything is allocated for it, so that a corrupted file cannot make
+     * reading run out of memory.
+     */
+    private static TaskBook read(DataInputStream in, long fileSize) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_INVALID_FILE);
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        String[] strings = new String[readCount(in, fileSize)];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[readCount(in, fileSize)];
+            in.readFully(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        ConvertedStrings<Name> names = new ConvertedStrings<>(strings, Name::isValidName, Name.MESSAGE_CONSTRAINTS,
+                Name::of);
+        ConvertedStrings<Phone> phones = new ConvertedStrings<>(strings, Phone::isValidPhone,
+                Phone.MESSAGE_CONSTRAINTS, Phone::new);
+        ConvertedStrings<Email> emails = new ConvertedStrings<>(strings, Email::isValidEmail,
+                Email.MESSAGE_CONSTRAINTS, Email::new);
+        ConvertedStrings<Address> addresses = new ConvertedStrings<>(strings, Address::isValidAddress,
+                Address.MESSAGE_CONSTRAINTS, Address::new);
+        ConvertedStrings<Description> descriptions = new ConvertedStrings<>(strings,
+                Description::isValidDescription, Description.MESSAGE_CONSTRAINTS, Description::new);
+        ConvertedStrings<Tag> tags = new ConvertedStrings<>(strings, Tag::isValidTagName, Tag.MESSAGE_CONSTRAINTS,
+                Tag::of);
+
+        TaskBook taskBook = new TaskBook();
+        int personCount = readCount(in, fileSize);
+        for (int i = 0; i < personCount; i++) {
+            long id = readId(in, JsonAdaptedPerson.INVALID_ID_MESSAGE);
+            Person person = new Person(names.read(in), phones.read(in), emails.read(in), addresses.read(in),
+                    readTags(in, tags, fileSize));
+            JsonSerializableTaskBook.addPersonTo(taskBook, person.withId(id));
+        }
+
+        int taskCount = readCount(in, fileSize);
+        for (int i = 0; i < taskCount; i++) {
+            long id = readId(in, JsonAdaptedTask.INVALID_ID_MESSAGE);
+            int flags = in.readUnsignedByte();
+            Name name = names.read(in);
+            Description description = descriptions.read(in);
+            boolean isDone = (flags & DONE_FLAG) != 0;
+            Assignment assignment = (flags & ASSIGNED_TO_FLAG) != 0 ? Assignment.TO : Assignment.FROM;
+            Task task;
+            switch (flags & TYPE_MASK) {
+            case TYPE_TODO:
+                task = new Todo(name, assignment, description, isDone, readTags(in, tags, fileSize));
+                break;
+            case TYPE_EVENT:
+                LocalDate eventDate = LocalDate.ofEpochDay(in.readInt());
+                task = new Event(name, assignment, description, isDone, eventDate, readTags(in, tags, fileSize));
+                break;
+            case TYPE_DEADLINE:
+                LocalDate deadlineDate = LocalDate.ofEpochDay(in.readInt());
+                task = new Deadline(name, assignment, description, isDone, deadlineDate, readTags(in, tags, fileSize));
+                break;
+            default:
+                throw new IllegalValueException(MESSAGE_INVALID_FILE);
+            }
+            JsonSerializableTaskBook.addTaskTo(taskBook, task.withId(id));
+        }
+
+        if (in.read() != -1) {
+            throw new IllegalValueException(MESSAGE_INVALID_FILE);
+        }
+        return taskBook;
+    }
+
+    private static int typeOf(Task task) {
+        if (task instanceof Event) {
+            return TYPE_EVENT;
+        } else if (task instanceof Deadline) {
+            return TYPE_DEADLINE;
+        }
+        return TYPE_TODO;
+    }
+
+    private static void writeTags(DataOutputStream out, StringTable table, Set<Tag> tags) throws IOException {
+        writeVarLong(out, tags.size());
+        for (Tag tag : tags) {
+            table.write(out, tag.tagName);
+        }
+    }
+
+    private static Set<Tag> readTags(DataInputStream in, ConvertedStrings<Tag> tags, long fileSize)
+            throws IOException, IllegalValueException {
+        int count = readCount(in, fileSize);
+        if (count == 0) {
+            return TagSet.EMPTY;
+        }
+        List<Tag> read = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            read.add(tags.read(in));
+        }
+        return TagSet.of(read);
+    }
+
+    /**
+     * Writes {@code value}, which must not be negative, in as few bytes as needed, seven bits at a time.
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException, IllegalValueException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_INVALID_FILE);
+    }
+
+    /**
+     * Reads a count of elements or bytes, which cannot be more than the {@code fileSize} bytes of the whole file, as
+     * every element takes at least one byte.
+     */
+    private static int readCount(DataInputStream in, long fileSize) throws IOException, IllegalValueException {
+        long count = readVarLong(in);
+        if (count < 0 || count > Integer.MAX_VALUE || count > fileSize) {
+            throw new IllegalValueException(MESSAGE_INVALID_FILE);
+        }
+        return (int) count;
+    }
+
+    private static long readId(DataInputStream in, String invalidIdMessage) throws IOException, IllegalValueException {
+        long id = readVarLong(in);
+        if (id <= 0) {
+            throw new IllegalValueException(invalidIdMessage);
+        }
+        return id;
+    }
+
+    /**
+     * Table of the distinct strings in a task book, in the order they were first added.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> positions = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+
+        void add(String string) {
+            if (positions.putIfAbsent(string, strings.size()) == null) {
+                strings.add(string);
+            }
+        }
+
+        void write(DataOutputStream out, String string) throws IOException {
+            writeVarLong(out, positions.get(string));
+        }
+    }
+
+    /**
+     * Strings of the table of a file converted to a type of value, such as names. Every string is checked and
+     * converted the first time it is read as that type only.
+     */
+    private static class ConvertedStrings<T> {
+        private final String[] strings;
+        private final Predicate<String> isValid;
+        private final String invalidMessage;
+        private final Function<String, T> converter;
+        private final Object[] converted;
+
+        ConvertedStrings(String[] strings, Predicate<String> isValid, String invalidMessage,
+                Function<String, T> converter) {
+            this.strings = strings;
+            this.isValid = isValid;
+            this.invalidMessage = invalidMessage;
+            this.converter = converter;
+            this.converted = new Object[strings.length];
+        }
+
+        /**
+         * Reads the position of a string in the table, and returns the string converted.
+         */
+        @SuppressWarnings("unchecked")
+        T read(DataInputStream in) throws IOException, IllegalValueException {
+            long position = readVarLong(in);
+            if (position < 0 || position >= strings.length) {
+                throw new IllegalValueException(MESSAGE_INVALID_FILE);
+            }
+            int index = (int) position;
+            if (converted[index] == null) {
+                if (!isValid.test(strings[index])) {
+                    throw new IllegalValueException(invalidMessage);
+                }
+                converted[index] = converter.apply(strings[index]);
+            }
+            return (T) converted[index];
+        }
+    }
+}
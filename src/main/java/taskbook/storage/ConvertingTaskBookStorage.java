@@ -0,0 +1,243 @@
+package taskbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import taskbook.commons.core.LogsCenter;
+import taskbook.commons.exceptions.DataConversionException;
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.TaskBook;
+import taskbook.model.TaskBookFormat;
+
+/**
+ * A storage that reads a data file in any of the file formats, and saves it in the format of the storage it wraps.
+ *
+ * This is the only place that knows about more than one format. Every other storage reads and writes its own files
+ * only. The format of a data file is found by {@link #detectFormat(Path)}, and a file in another format than the
+ * wrapped storage's is read by the storage of its format. The next save then writes the whole task book in the wrapped
+ * storage's format, and deletes the files that are left over from the other formats, such as a journal, shards or the
+ * database of {@link SqlTaskBookStorage}.
+ */
+public class ConvertingTaskBookStorage implements TaskBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(ConvertingTaskBookStorage.class);
+
+    private final TaskBookStorage storage;
+    private final TaskBookFormat format;
+    /** Whether the data file was last read in another format, so that its leftover files are deleted on save. */
+    private boolean isConverting;
+
+    /**
+     * Creates a storage that saves with {@code storage}, which stores data files in {@code format}.
+     */
+    public ConvertingTaskBookStorage(TaskBookStorage storage, TaskBookFormat format) {
+        this.storage = requireNonNull(storage);
+        this.format = requireNonNull(format);
+    }
+
+    /**
+     * Returns a storage for data files in {@code format} at {@code filePath}, which reads data files in the other
+     * formats as well. Files are written pretty printed, or on a single line if {@code isPrettyPrinted} is false.
+     */
+    public static TaskBookStorage create(TaskBookFormat format, Path filePath, boolean isPrettyPrinted) {
+        if (format == TaskBookFormat.SQL) {
+            // The database is kept apart from the data file, and imports it when it is newer, see detectFormat.
+            return new SqlTaskBookStorage(filePath);
+        }
+        return new ConvertingTaskBookStorage(createForFormat(format, filePath, isPrettyPrinted), format);
+    }
+
+    /**
+     * Returns the storage that reads and writes data files in {@code format}.
+     */
+    private static TaskBookStorage createForFormat(TaskBookFormat format, Path filePath, boolean isPrettyPrinted) {
+        switch (format) {
+        case SQL:
+            return new SqlTaskBookStorage(filePath);
+        case BINARY:
+            return new BinaryTaskBookStorage(filePath);
+        case SHARDED:
+            return new ShardedTaskBookStorage(filePath, isPrettyPrinted);
+        default:
+            return new JournalTaskBookStorage(filePath, JournalTaskBookStorage.DEFAULT_COMPACTION_THRESHOLD,
+                    isPrettyPrinted);
+        }
+    }
+
+    /**
+     * Returns the format of the data file at {@code filePath}, which is {@link TaskBookFormat#JSON} if there is no
+     * such file.
+     *
+     * The data file is in the {@link TaskBookFormat#SQL} format if the database next to it was modified no earlier
+     * than the data file and its journal and shards, as the SQL storage only writes its database. A database that is
+     * older than the data file was left behind by an earlier run, and the data file is read instead.
+     *
+     * A persons file with shards is only in the sharded format if it has no journal, as a json snapshot that was
+     * written over it leaves a journal behind, and the shards are only deleted after that.
+     */
+    public static TaskBookFormat detectFormat(Path filePath) throws IOException {
+        Path databasePath = SqlTaskBookStorage.getDatabasePath(filePath);
+        if (Files.exists(databasePath)
+                && Files.getLastModifiedTime(databasePath).compareTo(getLastModifiedTime(filePath)) >= 0) {
+            return TaskBookFormat.SQL;
+        }
+        if (BinaryTaskBookStorage.isBinaryFile(filePath)) {
+            return TaskBookFormat.BINARY;
+        }
+        if (Files.isDirectory(ShardedTaskBookStorage.getShardDirectory(filePath))
+                && !Files.exists(JournalTaskBookStorage.getJournalPath(filePath))) {
+            return TaskBookFormat.SHARDED;
+        }
+        return TaskBookFormat.JSON;
+    }
+
+    /**
+     * Returns the time at which the data file at {@code filePath}, its journal or its shards were last modified, or
+     * the earliest time there is if none of them exist.
+     */
+    private static FileTime getLastModifiedTime(Path filePath) throws IOException {
+        Path shardDirectory = ShardedTaskBookStorage.getShardDirectory(filePath);
+        List<Path> files = new ArrayList<>(List.of(filePath, JournalTaskBookStorage.getJournalPath(filePath)));
+        if (Files.isDirectory(shardDirectory)) {
+            files.add(shardDirectory);
+            try (Stream<Path> shardFiles = Files.list(shardDirectory)) {
+                shardFiles.forEach(files::add);
+            }
+        }
+
+        FileTime lastModified = FileTime.fromMillis(Long.MIN_VALUE);
+        for (Path file : files) {
+            if (Files.exists(file) && Files.getLastModifiedTime(file).compareTo(lastModified) > 0) {
+                lastModified = Files.getLastModifiedTime(file);
+            }
+        }
+        return lastModified;
+    }
+
+    /**
+     * Reads the data file at {@code filePath} in whatever format it is in.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public static Optional<ReadOnlyTaskBook> readDataFile(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        TaskBookFormat fileFormat = detectFormat(filePath);
+        return readAndClose(createForFormat(fileFormat, filePath, true), fileFormat, filePath);
+    }
+
+    /**
+     * Reads the data file at {@code filePath}, which is in {@code fileFormat}, with {@code storage}.
+     * A persons file with shards that still has the journal of an earlier json snapshot next to it is read as json,
+     * as the sharded storage was stopped before the journal was deleted, so the tasks in its shards are added to it.
+     */
+    private static Optional<ReadOnlyTaskBook> read(TaskBookStorage storage, TaskBookFormat fileFormat, Path filePath)
+            throws DataConversionException, IOException {
+        Optional<ReadOnlyTaskBook> taskBook = storage.readTaskBook(filePath);
+        if (fileFormat == TaskBookFormat.JSON && taskBook.isPresent() && taskBook.get() instanceof TaskBook
+                && ShardedTaskBookStorage.addShardedTasks(filePath, (TaskBook) taskBook.get())) {
+            logger.info("Added the tasks in the shards of " + filePath + " to its json snapshot");
+        }
+        return taskBook;
+    }
+
+    /**
+     * Similar to {@link #read(TaskBookStorage, TaskBookFormat, Path)}, but closes {@code storage} afterwards, as it was
+     * only created to read the data file.
+     */
+    private static Optional<ReadOnlyTaskBook> readAndClose(TaskBookStorage storage, TaskBookFormat fileFormat,
+            Path filePath) throws DataConversionException, IOException {
+        try {
+            return read(storage, fileFormat, filePath);
+        } finally {
+            storage.close();
+        }
+    }
+
+    @Override
+    public Path getTaskBookFilePath() {
+        return storage.getTaskBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return readTaskBook(getTaskBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        TaskBookFormat fileFormat = detectFormat(filePath);
+        boolean isOtherFormat = fileFormat != format || hasLeftoverFiles(filePath);
+        if (filePath.equals(getTaskBookFilePath())) {
+            isConverting = isOtherFormat;
+        }
+        if (fileFormat == format) {
+            return read(storage, fileFormat, filePath);
+        }
+
+        logger.info("Reading " + fileFormat + " file " + filePath + " to be converted to the " + format + " format");
+        return readAndClose(createForFormat(fileFormat, filePath, true), fileFormat, filePath);
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, getTaskBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveTaskBook(ReadOnlyTaskBook)}.
+     * Once the task book is saved, the files of the other formats at {@code filePath} are deleted, if the data file
+     * was last read in another format or is at another file path than this storage's.
+     */
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        requireNonNull(taskBook);
+        requireNonNull(filePath);
+
+        storage.saveTaskBook(taskBook, filePath);
+        boolean isOwnFilePath = filePath.equals(getTaskBookFilePath());
+        if (isConverting || !isOwnFilePath) {
+            deleteLeftoverFiles(filePath);
+        }
+        if (isOwnFilePath) {
+            isConverting = false;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        storage.close();
+    }
+
+    /**
+     * Returns true if the data file at {@code filePath} has files next to it that belong to other formats.
+     */
+    private boolean hasLeftoverFiles(Path filePath) {
+        return (format != TaskBookFormat.JSON && Files.exists(JournalTaskBookStorage.getJournalPath(filePath)))
+                || (format != TaskBookFormat.SHARDED
+                        && Files.isDirectory(ShardedTaskBookStorage.getShardDirectory(filePath)))
+                || (format != TaskBookFormat.SQL && Files.exists(SqlTaskBookStorage.getDatabasePath(filePath)));
+    }
+
+    private void deleteLeftoverFiles(Path filePath) throws IOException {
+        if (format != TaskBookFormat.JSON) {
+            Files.deleteIfExists(JournalTaskBookStorage.getJournalPath(filePath));
+        }
+        if (format != TaskBookFormat.SHARDED) {
+            ShardedTaskBookStorage.deleteShards(filePath);
+        }
+        if (format != TaskBookFormat.SQL) {
+            Files.deleteIfExists(SqlTaskBookStorage.getDatabasePath(filePath));
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package taskbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import taskbook.commons.core.LogsCenter;
+import taskbook.commons.exceptions.DataConversionException;
+import taskbook.commons.exceptions.IllegalValueException;
+import taskbook.commons.util.FileUtil;
+import taskbook.commons.util.JsonUtil;
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.TaskBook;
+import taskbook.model.TaskBookSnapshot;
+import taskbook.model.person.Person;
+import taskbook.model.task.Task;
+
+/**
+ * A class to access TaskBook data stored on the hard disk as a json snapshot, plus a journal of the changes saved
+ * since the snapshot was written.
+ *
+ * Saving finds the ranges of persons and tasks that changed since the task book was last saved, and appends one
+ * compact json line to the journal for each of them, so saving costs as much as the change instead of the whole task
+ * book, and saving an unchanged task book writes nothing. The changed ranges are found from the changes recorded by
+ * the snapshots of the task book, see {@link TaskBookSnapshot#getChangedTaskRange(TaskBookSnapshot)}, and the saved
+ * task book is kept as a snapshot, which is taken without copying it. Every append is forced to the disk before
+ * saving returns. Once the journal is long enough, it is compacted into a new snapshot. Reading replays the journal
+ * on top of the snapshot.
+ *
+ * The snapshot is in the same format as the files of {@link JsonTaskBookStorage}, and the journal is kept next to it
+ * with {@link #JOURNAL_EXTENSION} appended to its name. The first line of the journal holds a checksum of the
+ * snapshot it was started on, so a journal that was left behind by an interrupted compaction is ignored. A last line
+ * that was cut short by a crash is ignored as well.
+ *
+ * Only files in the json format are read, see {@link ConvertingTaskBookStorage} for files in the other formats.
+ */
+public class JournalTaskBookStorage implements TaskBookStorage {
+
+    public static final String JOURNAL_EXTENSION = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalTaskBookStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final boolean isPrettyPrinted;
+
+    /** Task book as it is in the snapshot and journal at the file path, or null if not known. */
+    private TaskBookSnapshot saved;
+    private int journalRecordCount;
+    /** Size of the journal as this storage last read or wrote it, so that a partly appended record is noticed. */
+    private long journalSize;
+
+    public JournalTaskBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD, true);
+    }
+
+    /**
+     * Creates a storage at {@code filePath} that compacts its journal once it has {@code compactionThreshold}
+     * records, and writes its snapshots pretty printed, or on a single line if {@code isPrettyPrinted} is false.
+     */
+    public JournalTaskBookStorage(Path filePath, int compactionThreshold, boolean isPrettyPrinted) {
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    @Override
+    public Path getTaskBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal of the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return readTaskBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Snapshot file " + filePath + " not found");
+            return Optional.empty();
+        }
+        // The snapshot is read one person or task at a time, and its checksum is computed on the way.
+        CRC32 checksum = new CRC32();
+        JsonTaskBookLoader loader = new JsonTaskBookLoader();
+        TaskBook taskBook;
+        try (InputStream in = new CheckedInputStream(new BufferedInputStream(Files.newInputStream(filePath)),
+                checksum)) {
+            taskBook = loader.load(in);
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        // Once some tasks are left out, the positions in the journal no longer match the task book.
+        boolean hasAllTasks = loader.getDroppedTaskCount() == 0;
+        List<JsonJournalRecord> records = new ArrayList<>();
+        boolean canAppend = readJournal(getJournalPath(filePath), checksum.getValue(), records);
+        if (!records.isEmpty()) {
+            if (!hasAllTasks) {
+                throw new DataConversionException(new IllegalValueException(
+                        "Journal " + getJournalPath(filePath) + " does not fit snapshot " + filePath));
+            }
+            List<Person> persons = new ArrayList<>(taskBook.getPersonList());
+            List<Task> tasks = new ArrayList<>(taskBook.getTaskList());
+            taskBook = replay(records, persons, tasks);
+            hasAllTasks = taskBook.getTaskList().size() == tasks.size();
+        }
+
+        if (filePath.equals(this.filePath)) {
+            saved = taskBook.snapshot();
+            // A journal that cannot be appended to, or that does not match the task book, is replaced by a new one
+            // on the next save.
+            journalRecordCount = canAppend && hasAllTasks ? records.size() : compactionThreshold;
+            journalSize = canAppend ? Files.size(getJournalPath(filePath)) : 0;
+        }
+        return Optional.of(taskBook);
+    }
+
+    /**
+     * Adds the records in the journal at {@code journalPath} to {@code records}, if the journal was started on the
+     * snapshot with the checksum {@code snapshotChecksum}.
+     *
+     * @return false if the journal cannot be appended to, because it is missing, was started on another snapshot or
+     *     ends with an incomplete record.
+     */
+    private static boolean readJournal(Path journalPath, long snapshotChecksum, List<JsonJournalRecord> records)
+            throws DataConversionException, IOException {
+        if (!Files.exists(journalPath)) {
+            return false;
+        }
+
+        List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        JsonJournalHeader header = lines.isEmpty() ? null : parseLine(lines.get(0), JsonJournalHeader.class);
+        if (header == null || header.snapshotChecksum != snapshotChecksum) {
+            logger.info("Ignoring journal " + journalPath + " that was not started on the current snapshot");
+            return false;
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+            JsonJournalRecord record = parseLine(lines.get(i), JsonJournalRecord.class);
+            if (record == null && i == lines.size() - 1) {
+                logger.warning("Ignoring incomplete last record of journal " + journalPath);
+                return false;
+            }
+            if (record == null) {
+                throw new DataConversionException(new IllegalValueException(
+                        "Journal " + journalPath + " has an invalid record on line " + (i + 1)));
+            }
+            records.add(record);
+        }
+        return true;
+    }
+
+    /**
+     * Replays {@code records} on the {@code persons} and {@code tasks} of a snapshot, and returns the resulting task
+     * book, checked the same way as the snapshot.
+     */
+    private static TaskBook replay(List<JsonJournalRecord> records, List<Person> persons, List<Task> tasks)
+            throws DataConversionException {
+        TaskBook taskBook = new TaskBook();
+        try {
+            for (JsonJournalRecord record : records) {
+                record.replayOn(persons, tasks);
+            }
+            for (Person person : persons) {
+                JsonSerializableTaskBook.addPersonTo(taskBook, person);
+            }
+            for (Task task : tasks) {
+                JsonSerializableTaskBook.addTaskTo(taskBook, task);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in journal: " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        return taskBook;
+    }
+
+    /**
+     * Returns the object in the json {@code line}, or null if the line is not valid json of that type.
+     */
+    private static <T> T parseLine(String line, Class<T> type) {
+        try {
+            return JsonUtil.fromJsonString(line, type);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskBook(ReadOnlyTaskBook)}.
+     * Only the journal of the file path of this storage is appended to. Saving to another file path writes a new
+     * snapshot there.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        requireNonNull(taskBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(taskBook, filePath);
+            return;
+        }
+
+        if (saved == null || journalRecordCount >= compactionThreshold || !Files.exists(filePath)
+                || !Files.exists(getJournalPath(filePath))) {
+            compact(taskBook);
+            return;
+        }
+
+        TaskBookSnapshot current = snapshotOf(taskBook);
+        List<JsonJournalRecord> records = new ArrayList<>();
+        int[] personsRange = current.getChangedPersonRange(saved);
+        if (personsRange != null) {
+            records.add(JsonJournalRecord.ofPersons(personsRange[0], personsRange[1],
+                    adapt(current.getPersonList(), personsRange, JsonAdaptedPerson::new)));
+        }
+        int[] tasksRange = current.getChangedTaskRange(saved);
+        if (tasksRange != null) {
+            records.add(JsonJournalRecord.ofTasks(tasksRange[0], tasksRange[1],
+                    adapt(current.getTaskList(), tasksRange, JsonSerializableTaskBook::adaptTask)));
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        long newJournalSize;
+        try {
+            newJournalSize = append(getJournalPath(filePath), journalSize, lines.toString());
+        } catch (IOException e) {
+            // The journal may still end with part of the records if it could not be truncated, so the next save
+            // starts a new journal instead of appending after them.
+            saved = null;
+            throw e;
+        }
+        if (newJournalSize < 0) {
+            logger.warning("Journal " + getJournalPath(filePath) + " was changed by someone else, starting a new one");
+            compact(current);
+            return;
+        }
+        journalRecordCount += records.size();
+        journalSize = newJournalSize;
+        saved = current;
+    }
+
+    /**
+     * Writes {@code taskBook} as the new snapshot at the file path of this storage, and starts a new journal on it.
+     */
+    private void compact(ReadOnlyTaskBook taskBook) throws IOException {
+        TaskBookSnapshot current = snapshotOf(taskBook);
+        journalSize = writeSnapshot(current, filePath);
+        saved = current;
+        journalRecordCount = 0;
+    }
+
+    /**
+     * Writes {@code taskBook} as the snapshot at {@code snapshotPath}, and then starts a new journal on it.
+     * Both files are replaced as a whole, so an interrupted write leaves either the old or the new file behind.
+     *
+     * @return the size of the new journal.
+     */
+    private long writeSnapshot(ReadOnlyTaskBook taskBook, Path snapshotPath) throws IOException {
+        CRC32 checksum = new CRC32();
+        FileUtil.writeToFileAtomically(snapshotPath, out -> JsonUtil.writeJson(new CheckedOutputStream(out, checksum),
+                new JsonSerializableTaskBook(taskBook), isPrettyPrinted));
+        byte[] header = (JsonUtil.toCompactJsonString(new JsonJournalHeader(checksum.getValue())) + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeToFileAtomically(getJournalPath(snapshotPath), out -> out.write(header));
+        return header.length;
+    }
+
+    /**
+     * Appends {@code lines} to the journal at {@code file}, if it is still {@code expectedSize} bytes long.
+     * If the lines cannot be written in full, the journal is truncated back to its size before.
+     *
+     * @return the new size of the journal, or -1 if it was not {@code expectedSize} bytes long and nothing was written.
+     */
+    private static long append(Path file, long expectedSize, String lines) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            if (channel.size() != expectedSize) {
+                return -1;
+            }
+            channel.position(expectedSize);
+            try {
+                writeFully(channel, lines.getBytes(StandardCharsets.UTF_8));
+                channel.force(false);
+            } catch (IOException e) {
+                try {
+                    channel.truncate(expectedSize);
+                } catch (IOException truncateException) {
+                    e.addSuppressed(truncateException);
+                }
+                throw e;
+            }
+            return channel.position();
+        }
+    }
+
+    private static void writeFully(FileChannel channel, byte[] content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Returns {@code taskBook} as a snapshot, taking one of it if it is not a snapshot already.
+     * Persons and tasks are kept as they are, so that unchanged elements can be compared by identity, which is enough
+     * because persons and tasks are immutable.
+     */
+    private static TaskBookSnapshot snapshotOf(ReadOnlyTaskBook taskBook) {
+        if (taskBook instanceof TaskBookSnapshot) {
+            return (TaskBookSnapshot) taskBook;
+        }
+        return (taskBook instanceof TaskBook ? (TaskBook) taskBook : new TaskBook(taskBook)).snapshot();
+    }
+
+    private static <E, J> List<J> adapt(List<E> current, int[] range, Function<E, J> adapter) {
+        return current.subList(range[0], range[2]).stream().map(adapter).collect(Collectors.toList());
+    }
+
+    /**
+     * First line of a journal, which identifies the snapshot the journal was started on.
+     */
+    private static class JsonJournalHeader {
+        private final long snapshotChecksum;
+
+        @JsonCreator
+        JsonJournalHeader(@JsonProperty("snapshotChecksum") long snapshotChecksum) {
+            this.snapshotChecksum = snapshotChecksum;
+        }
+    }
+}
@@ -2,7 +2,6 @@ package taskbook.storage;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -14,6 +13,7 @@ import taskbook.logic.parser.DateParser;
 import taskbook.logic.parser.exceptions.ParseException;
 import taskbook.model.person.Name;
 import taskbook.model.tag.Tag;
+import taskbook.model.tag.TagSet;
 import taskbook.model.task.Deadline;
 import taskbook.model.task.Description;
 import taskbook.model.task.Task;
@@ -67,7 +67,7 @@ public class JsonAdaptedDeadline extends JsonAdaptedTask {
         if (!Name.isValidName(this.getName())) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(this.getName());
+        final Name modelName = Name.of(this.getName());
 
         if (this.getAssignment() == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -98,7 +98,12 @@ public class JsonAdaptedDeadline extends JsonAdaptedTask {
             throw new IllegalValueException("Deadline Date should be in supported date formats.");
         }
 
-        final Set<Tag> modelTags = new HashSet<>(taskTags);
-        return new Deadline(modelName, modelAssignment, modelDescription, this.isDone(), modelDeadlineDate, modelTags);
+        final Set<Tag> modelTags = TagSet.of(taskTags);
+        if (getId() != null && getId() <= 0) {
+            throw new IllegalValueException(INVALID_ID_MESSAGE);
+        }
+        final Deadline modelDeadline = new Deadline(modelName, modelAssignment, modelDescription, this.isDone(),
+                modelDeadlineDate, modelTags);
+        return getId() == null ? modelDeadline : modelDeadline.withId(getId());
     }
 }
@@ -1,7 +1,6 @@
 package taskbook.storage;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -16,6 +15,7 @@ import taskbook.model.person.Name;
 import taskbook.model.person.Person;
 import taskbook.model.person.Phone;
 import taskbook.model.tag.Tag;
+import taskbook.model.tag.TagSet;
 
 /**
  * Jackson-friendly version of {@link Person}.
@@ -23,12 +23,15 @@ import taskbook.model.tag.Tag;
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String INVALID_ID_MESSAGE = "Person's id must be a positive number!";
 
     private final String name;
     private final String phone;
     private final String email;
     private final String address;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
+    /** Set by Jackson after construction. Absent in files saved before persons had ids, which are given new ids. */
+    private Long id;
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
@@ -54,11 +57,16 @@ class JsonAdaptedPerson {
         phone = source.getPhone().value;
         email = source.getEmail().value;
         address = source.getAddress().value;
+        id = source.getId();
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
     }
 
+    public Long getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
@@ -76,7 +84,7 @@ class JsonAdaptedPerson {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.of(name);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
@@ -102,7 +110,11 @@ class JsonAdaptedPerson {
         }
         final Address modelAddress = new Address(address);
 
-        final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags);
+        final Set<Tag> modelTags = TagSet.of(personTags);
+        if (id != null && id <= 0) {
+            throw new IllegalValueException(INVALID_ID_MESSAGE);
+        }
+        final Person modelPerson = new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags);
+        return id == null ? modelPerson : modelPerson.withId(id);
     }
 }
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
@@ -29,12 +30,18 @@ import taskbook.model.task.Task;
 public abstract class JsonAdaptedTask {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Task's %s field is missing!";
+    public static final String INVALID_ID_MESSAGE = "Task's id must be a positive number!";
 
     protected final List<JsonAdaptedTag> tagged = new ArrayList<>();
     private final String name;
     private final String assignment;
     private final String description;
     private final boolean isDone;
+    /** Set by Jackson after construction. Absent in files saved before tasks had ids, which are given new ids. */
+    private Long id;
+    /** Orders the tasks of all shards of {@link ShardedTaskBookStorage}, and is absent from other files. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long sequence;
 
     /**
      * Constructs a {@code JsonAdaptedTask} with the given task details.
@@ -60,6 +67,7 @@ public abstract class JsonAdaptedTask {
         assignment = source.getAssignment().name();
         description = source.getDescription().description;
         isDone = source.isDone();
+        id = source.getId();
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
@@ -81,6 +89,18 @@ public abstract class JsonAdaptedTask {
         return isDone;
     }
 
+    public Long getId() {
+        return id;
+    }
+
+    public Long getSequence() {
+        return sequence;
+    }
+
+    void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
     public List<JsonAdaptedTag> getTags() {
         return tagged;
     }
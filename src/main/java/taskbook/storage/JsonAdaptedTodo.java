@@ -1,7 +1,6 @@
 package taskbook.storage;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -11,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import taskbook.commons.exceptions.IllegalValueException;
 import taskbook.model.person.Name;
 import taskbook.model.tag.Tag;
+import taskbook.model.tag.TagSet;
 import taskbook.model.task.Description;
 import taskbook.model.task.Task;
 import taskbook.model.task.Todo;
@@ -55,7 +55,7 @@ public class JsonAdaptedTodo extends JsonAdaptedTask {
         if (!Name.isValidName(this.getName())) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(this.getName());
+        final Name modelName = Name.of(this.getName());
 
         if (this.getAssignment() == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -75,7 +75,11 @@ public class JsonAdaptedTodo extends JsonAdaptedTask {
         }
         final Description modelDescription = new Description(this.getDescription());
 
-        final Set<Tag> modelTags = new HashSet<>(taskTags);
-        return new Todo(modelName, modelAssignment, modelDescription, this.isDone(), modelTags);
+        final Set<Tag> modelTags = TagSet.of(taskTags);
+        if (getId() != null && getId() <= 0) {
+            throw new IllegalValueException(INVALID_ID_MESSAGE);
+        }
+        final Todo modelTodo = new Todo(modelName, modelAssignment, modelDescription, this.isDone(), modelTags);
+        return getId() == null ? modelTodo : modelTodo.withId(getId());
     }
 }
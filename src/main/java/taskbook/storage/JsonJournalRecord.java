@@ -0,0 +1,94 @@
+package taskbook.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import taskbook.commons.exceptions.IllegalValueException;
+import taskbook.model.person.Person;
+import taskbook.model.task.Task;
+
+/**
+ * Jackson-friendly record of a change to a task book in the journal of a {@link JournalTaskBookStorage}:
+ * the persons or tasks from position {@code from} (inclusive) to {@code to} (exclusive) were replaced.
+ */
+class JsonJournalRecord {
+
+    public static final String INVALID_RECORD_MESSAGE = "Journal record does not fit the task book!";
+
+    private final int from;
+    private final int to;
+    private final List<JsonAdaptedPerson> persons;
+    private final List<JsonAdaptedTask> tasks;
+
+    /**
+     * Constructs a {@code JsonJournalRecord} with the given details. Exactly one of {@code persons} and
+     * {@code tasks} is present, and holds the replacement of the range.
+     */
+    @JsonCreator
+    public JsonJournalRecord(@JsonProperty("from") int from, @JsonProperty("to") int to,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty("tasks") List<JsonAdaptedTask> tasks) {
+        this.from = from;
+        this.to = to;
+        this.persons = persons;
+        this.tasks = tasks;
+    }
+
+    /**
+     * Returns a record of the persons from {@code from} to {@code to} being replaced with {@code persons}.
+     */
+    public static JsonJournalRecord ofPersons(int from, int to, List<JsonAdaptedPerson> persons) {
+        return new JsonJournalRecord(from, to, new ArrayList<>(persons), null);
+    }
+
+    /**
+     * Returns a record of the tasks from {@code from} to {@code to} being replaced with {@code tasks}.
+     */
+    public static JsonJournalRecord ofTasks(int from, int to, List<JsonAdaptedTask> tasks) {
+        return new JsonJournalRecord(from, to, null, new ArrayList<>(tasks));
+    }
+
+    /**
+     * Replays this record on the persons and tasks of a task book.
+     *
+     * @throws IllegalValueException if the record does not fit the lists, or any of its persons or tasks violate
+     *     data constraints.
+     */
+    public void replayOn(List<Person> bookPersons, List<Task> bookTasks) throws IllegalValueException {
+        if ((persons == null) == (tasks == null)) {
+            throw new IllegalValueException(INVALID_RECORD_MESSAGE);
+        }
+
+        if (persons != null) {
+            replaceRange(bookPersons, persons, JsonAdaptedPerson::toModelType);
+        } else {
+            replaceRange(bookTasks, tasks, JsonAdaptedTask::toModelType);
+        }
+    }
+
+    private <E, J> void replaceRange(List<E> list, List<J> replacement, Converter<J, E> converter)
+            throws IllegalValueException {
+        if (from < 0 || from > to || to > list.size() || replacement.contains(null)) {
+            throw new IllegalValueException(INVALID_RECORD_MESSAGE);
+        }
+
+        List<E> converted = new ArrayList<>(replacement.size());
+        for (J element : replacement) {
+            converted.add(converter.convert(element));
+        }
+        List<E> range = list.subList(from, to);
+        range.clear();
+        range.addAll(converted);
+    }
+
+    /**
+     * Converts a person or task of a record into the model's type.
+     */
+    @FunctionalInterface
+    private interface Converter<J, E> {
+        E convert(J element) throws IllegalValueException;
+    }
+}
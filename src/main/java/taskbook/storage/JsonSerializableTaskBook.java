@@ -47,46 +47,86 @@ class JsonSerializableTaskBook {
      */
     public JsonSerializableTaskBook(ReadOnlyTaskBook source) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
-        tasks.addAll(
-            source.getTaskList().stream().map(task -> {
-                Class<? extends Task> c = task.getClass();
-                if (c.equals(Todo.class)) {
-                    return new JsonAdaptedTodo(task);
-                } else if (c.equals(Event.class)) {
-                    return new JsonAdaptedEvent((Event) task);
-                } else if (c.equals(Deadline.class)) {
-                    return new JsonAdaptedDeadline((Deadline) task);
-                }
-                return null;
-            }).collect(Collectors.toList())
-        );
+        tasks.addAll(source.getTaskList().stream().map(JsonSerializableTaskBook::adaptTask)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts a given {@code Task} into the Jackson-friendly version of its type.
+     */
+    static JsonAdaptedTask adaptTask(Task task) {
+        Class<? extends Task> c = task.getClass();
+        if (c.equals(Todo.class)) {
+            return new JsonAdaptedTodo(task);
+        } else if (c.equals(Event.class)) {
+            return new JsonAdaptedEvent((Event) task);
+        } else if (c.equals(Deadline.class)) {
+            return new JsonAdaptedDeadline((Deadline) task);
+        }
+        return null;
     }
 
     /**
      * Converts this task book into the model's {@code TaskBook} object.
+     * The persons and tasks are converted in parallel, see {@link ParallelConverter}, and those without ids are given
+     * new ids in the order of the file.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public TaskBook toModelType() throws IllegalValueException {
         TaskBook taskBook = new TaskBook();
+        ParallelConverter<JsonAdaptedPerson, Person> personConverter = new ParallelConverter<>(
+                JsonAdaptedPerson::toModelType, (record, person) -> addPersonTo(taskBook,
+                        record.getId() == null ? person.withNewId() : person));
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (taskBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            taskBook.addPerson(person);
+            personConverter.add(jsonAdaptedPerson);
         }
-        for (JsonAdaptedTask jsonAdaptedTask: tasks) {
-            Task task = jsonAdaptedTask.toModelType();
-            if (taskBook.hasTask(task)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
-            }
-            if (!task.getName().equals(Name.SELF) && taskBook.findPerson(task.getName()) == null) {
-                continue;
-            }
-            taskBook.addTask(task);
+        personConverter.finish();
+        ParallelConverter<JsonAdaptedTask, Task> taskConverter = new ParallelConverter<>(
+                JsonAdaptedTask::toModelType, (record, task) -> addTaskTo(taskBook,
+                        record.getId() == null ? task.withNewId() : task));
+        for (JsonAdaptedTask jsonAdaptedTask : tasks) {
+            taskConverter.add(jsonAdaptedTask);
         }
+        taskConverter.finish();
         return taskBook;
     }
 
+    /**
+     * Returns the tasks of this task book as they are in the file, without converting them.
+     */
+    List<JsonAdaptedTask> getTasks() {
+        return tasks;
+    }
+
+    /**
+     * Adds {@code person} read from a file to {@code taskBook}.
+     *
+     * @throws IllegalValueException if the task book already has the person.
+     */
+    static void addPersonTo(TaskBook taskBook, Person person) throws IllegalValueException {
+        if (taskBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        taskBook.addPerson(person);
+    }
+
+    /**
+     * Adds {@code task} read from a file to {@code taskBook}, unless it is assigned to a person who is not in the
+     * task book. The persons must be added before their tasks.
+     *
+     * @return false if the task was left out.
+     * @throws IllegalValueException if the task book already has the task.
+     */
+    static boolean addTaskTo(TaskBook taskBook, Task task) throws IllegalValueException {
+        if (taskBook.hasTask(task)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
+        }
+        if (!task.getName().equals(Name.SELF) && taskBook.findPerson(task.getName()) == null) {
+            return false;
+        }
+        taskBook.addTask(task);
+        return true;
+    }
+
 }
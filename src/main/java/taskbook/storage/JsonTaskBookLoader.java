@@ -0,0 +1,127 @@
+package taskbook.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import taskbook.commons.exceptions.IllegalValueException;
+import taskbook.commons.util.JsonUtil;
+import taskbook.model.TaskBook;
+import taskbook.model.person.Person;
+import taskbook.model.task.Task;
+
+/**
+ * Reads a task book from json in the format of {@link JsonSerializableTaskBook}, one person or task at a time.
+ *
+ * Persons and tasks are converted and checked in parallel while the file is read, and added to the task book in the
+ * order of the file, see {@link ParallelConverter}, so reading does not hold the whole file or a copy of the task book
+ * in its json form, and reports the first invalid person or task in the file. The task book is checked the same way
+ * as {@link JsonSerializableTaskBook#toModelType()}. Persons and tasks that were saved without ids are given new ids
+ * in the order of the file.
+ */
+class JsonTaskBookLoader {
+
+    public static final String MESSAGE_NOT_TASK_BOOK = "Expected a task book object";
+    public static final String MESSAGE_NOT_LIST = "Expected a list of %s";
+
+    private final TaskBook taskBook = new TaskBook();
+    /** Tasks that were read before the persons, which can only be added once the persons are known. */
+    private final List<Task> tasksBeforePersons = new ArrayList<>();
+    private boolean hasReadPersons;
+    private int droppedTaskCount;
+
+    /**
+     * Reads the task book in {@code in}, which is left open.
+     *
+     * @throws IOException if {@code in} could not be read or is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public TaskBook load(InputStream in) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_TASK_BOOK);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                if (parser.nextToken() == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+
+                if (field.equals("persons")) {
+                    readList(parser, JsonAdaptedPerson.class,
+                            new ParallelConverter<>(JsonAdaptedPerson::toModelType, this::addPerson));
+                    addTasksBeforePersons();
+                } else if (field.equals("tasks")) {
+                    readList(parser, JsonAdaptedTask.class,
+                            new ParallelConverter<>(JsonAdaptedTask::toModelType, this::addTask));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        addTasksBeforePersons();
+        return taskBook;
+    }
+
+    /**
+     * Returns the number of tasks that were left out of the task book because their persons are not in it.
+     */
+    public int getDroppedTaskCount() {
+        return droppedTaskCount;
+    }
+
+    /**
+     * Reads a list of records of {@code type}, and converts and adds them with {@code converter}.
+     * If the list cannot be read to its end, the records before the point where reading failed are still added, so
+     * that a bad record before that point is reported first.
+     */
+    private <S> void readList(JsonParser parser, Class<S> type, ParallelConverter<S, ?> converter)
+            throws IOException, IllegalValueException {
+        try {
+            if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, String.format(MESSAGE_NOT_LIST, type.getSimpleName()));
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                S record = parser.readValueAs(type);
+                if (record == null) {
+                    throw new JsonParseException(parser, String.format(MESSAGE_NOT_LIST, type.getSimpleName()));
+                }
+                converter.add(record);
+            }
+        } catch (IOException e) {
+            converter.finish();
+            throw e;
+        }
+        converter.finish();
+    }
+
+    private void addPerson(JsonAdaptedPerson record, Person person) throws IllegalValueException {
+        // Persons without ids were given ids out of order while they were converted in parallel.
+        JsonSerializableTaskBook.addPersonTo(taskBook, record.getId() == null ? person.withNewId() : person);
+    }
+
+    private void addTask(JsonAdaptedTask record, Task task) throws IllegalValueException {
+        addTask(record.getId() == null ? task.withNewId() : task);
+    }
+
+    private void addTask(Task task) throws IllegalValueException {
+        if (!hasReadPersons) {
+            tasksBeforePersons.add(task);
+        } else if (!JsonSerializableTaskBook.addTaskTo(taskBook, task)) {
+            droppedTaskCount++;
+        }
+    }
+
+    private void addTasksBeforePersons() throws IllegalValueException {
+        hasReadPersons = true;
+        for (Task task : tasksBeforePersons) {
+            addTask(task);
+        }
+        tasksBeforePersons.clear();
+    }
+}
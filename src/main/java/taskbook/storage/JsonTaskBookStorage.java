@@ -2,7 +2,10 @@ package taskbook.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -10,7 +13,6 @@ import java.util.logging.Logger;
 import taskbook.commons.core.LogsCenter;
 import taskbook.commons.exceptions.DataConversionException;
 import taskbook.commons.exceptions.IllegalValueException;
-import taskbook.commons.util.FileUtil;
 import taskbook.commons.util.JsonUtil;
 import taskbook.model.ReadOnlyTaskBook;
 
@@ -22,9 +24,19 @@ public class JsonTaskBookStorage implements TaskBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonTaskBookStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
 
     public JsonTaskBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a storage at {@code filePath} that writes its file pretty printed, or compact on a single line if
+     * {@code isPrettyPrinted} is false, which makes the files of large task books smaller and faster to write.
+     */
+    public JsonTaskBookStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     public Path getTaskBookFilePath() {
@@ -38,6 +50,7 @@ public class JsonTaskBookStorage implements TaskBookStorage {
 
     /**
      * Similar to {@link #readTaskBook()}.
+     * The file is read one person or task at a time, see {@link JsonTaskBookLoader}.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
@@ -45,14 +58,16 @@ public class JsonTaskBookStorage implements TaskBookStorage {
     public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableTaskBook> jsonTaskBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableTaskBook.class);
-        if (!jsonTaskBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonTaskBook.get().toModelType());
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(new JsonTaskBookLoader().load(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from json file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,8 +88,7 @@ public class JsonTaskBookStorage implements TaskBookStorage {
         requireNonNull(taskBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTaskBook(taskBook), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableTaskBook(taskBook), filePath, isPrettyPrinted);
     }
 
 }
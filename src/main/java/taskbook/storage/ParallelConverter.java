@@ -0,0 +1,138 @@
+package taskbook.storage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import taskbook.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts records that were read from a file into model objects on the common fork-join pool, a chunk of records at
+ * a time while the rest of the file is still being read, and hands the converted objects on in the order of the
+ * records.
+ *
+ * Converting a record checks all of its values, which is most of the work of loading a task book, so it is spread over
+ * all cores. Handing on, which adds the objects to the task book and checks them against each other, is done one
+ * object at a time on the thread that adds the records. A record that cannot be converted is only reported once all
+ * records before it have been handed on, so the error of the first bad record in the file is reported, just as if the
+ * records were converted one at a time. At most a few chunks per core are converted at once, so only that part of a
+ * file is held in memory.
+ *
+ * @param <S> the type of the records.
+ * @param <T> the type of the converted objects.
+ */
+class ParallelConverter<S, T> {
+
+    public static final int CHUNK_SIZE = 256;
+    private static final int MAX_PENDING_CHUNKS = 2 * ForkJoinPool.getCommonPoolParallelism() + 1;
+
+    private final Converter<S, T> converter;
+    private final Handler<S, T> handler;
+    private final Deque<ForkJoinTask<ConvertedChunk<S, T>>> pendingChunks = new ArrayDeque<>();
+    private List<S> chunk = new ArrayList<>(CHUNK_SIZE);
+
+    /**
+     * Creates a converter that converts records with {@code converter} and hands them on to {@code handler}.
+     */
+    public ParallelConverter(Converter<S, T> converter, Handler<S, T> handler) {
+        this.converter = converter;
+        this.handler = handler;
+    }
+
+    /**
+     * Adds {@code record} to be converted, and hands on records that were added before if they are converted.
+     *
+     * @throws IllegalValueException if a record that was added before could not be converted or handed on.
+     */
+    public void add(S record) throws IllegalValueException {
+        chunk.add(record);
+        if (chunk.size() == CHUNK_SIZE) {
+            submitChunk();
+        }
+    }
+
+    /**
+     * Waits for all records that were added to be converted, and hands them on.
+     *
+     * @throws IllegalValueException if a record could not be converted or handed on.
+     */
+    public void finish() throws IllegalValueException {
+        if (!chunk.isEmpty()) {
+            submitChunk();
+        }
+        while (!pendingChunks.isEmpty()) {
+            handOnOldestChunk();
+        }
+    }
+
+    private void submitChunk() throws IllegalValueException {
+        List<S> records = chunk;
+        chunk = new ArrayList<>(CHUNK_SIZE);
+        pendingChunks.addLast(ForkJoinPool.commonPool().submit(() -> convert(records)));
+        if (pendingChunks.size() > MAX_PENDING_CHUNKS) {
+            handOnOldestChunk();
+        }
+    }
+
+    private ConvertedChunk<S, T> convert(List<S> records) {
+        List<T> converted = new ArrayList<>(records.size());
+        try {
+            for (S record : records) {
+                converted.add(converter.convert(record));
+            }
+            return new ConvertedChunk<>(records, converted, null);
+        } catch (IllegalValueException ive) {
+            return new ConvertedChunk<>(records, converted, ive);
+        }
+    }
+
+    private void handOnOldestChunk() throws IllegalValueException {
+        try {
+            ConvertedChunk<S, T> convertedChunk = pendingChunks.removeFirst().join();
+            for (int i = 0; i < convertedChunk.converted.size(); i++) {
+                handler.handle(convertedChunk.records.get(i), convertedChunk.converted.get(i));
+            }
+            if (convertedChunk.error != null) {
+                throw convertedChunk.error;
+            }
+        } catch (IllegalValueException | RuntimeException e) {
+            pendingChunks.forEach(pendingChunk -> pendingChunk.cancel(false));
+            pendingChunks.clear();
+            throw e;
+        }
+    }
+
+    /**
+     * Converts a record into a model object.
+     */
+    @FunctionalInterface
+    interface Converter<S, T> {
+        T convert(S record) throws IllegalValueException;
+    }
+
+    /**
+     * Handles a record that was converted.
+     */
+    @FunctionalInterface
+    interface Handler<S, T> {
+        void handle(S record, T converted) throws IllegalValueException;
+    }
+
+    /**
+     * A chunk of records with the objects that all records up to the first bad one were converted into.
+     */
+    private static class ConvertedChunk<S, T> {
+        private final List<S> records;
+        private final List<T> converted;
+        private final IllegalValueException error;
+
+        ConvertedChunk(List<S> records, List<T> converted, IllegalValueException error) {
+            this.records = records;
+            this.converted = converted;
+            this.error = error;
+        }
+    }
+}
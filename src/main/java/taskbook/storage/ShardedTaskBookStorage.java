@@ -0,0 +1,476 @@
+package taskbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import taskbook.commons.core.LogsCenter;
+import taskbook.commons.exceptions.DataConversionException;
+import taskbook.commons.exceptions.IllegalValueException;
+import taskbook.commons.util.JsonUtil;
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.TaskBook;
+import taskbook.model.person.Name;
+import taskbook.model.person.Person;
+import taskbook.model.task.Task;
+
+/**
+ * A class to access TaskBook data stored on the hard disk as a persons file, plus shards that hold the tasks.
+ *
+ * The file at the file path holds the persons in the json format of {@link JsonTaskBookStorage}. The tasks are kept
+ * in up to {@link #SHARD_COUNT} shard files in a directory next to it, with {@link #SHARD_DIRECTORY_EXTENSION}
+ * appended to its name. All tasks of the same assignee are in the same shard, which is picked by hashing the name of
+ * the assignee, and every shard is a json task book file that holds tasks only.
+ *
+ * Saving compares the task book with the persons and tasks that were last saved, and only rewrites the persons file
+ * if the persons changed, and the shards whose tasks changed, so marking a task rewrites a single shard instead of
+ * the whole task book. Every file is replaced atomically, but a save that touches several files is not. The persons
+ * are written before the shards, and tasks whose assignee is not in the persons file are left out when reading.
+ *
+ * Every task in a shard has a sequence number, which increases along the task list, see
+ * {@link #toSequences(List, Map)}. A task keeps its number while it stays in place among the tasks around it, so
+ * adding or removing a task does not rewrite the shards of the tasks after it.
+ *
+ * Reading converts and checks the shards in parallel on the common fork-join pool, and adds their tasks to the task
+ * book in the order of their sequence numbers. Tasks in shards written before tasks had sequence numbers are ordered
+ * by their ids instead. If more than one shard is invalid, the error of the first shard is reported.
+ *
+ * Only files in the sharded format are read, see {@link ConvertingTaskBookStorage} for files in the other formats.
+ */
+public class ShardedTaskBookStorage implements TaskBookStorage {
+
+    public static final String SHARD_DIRECTORY_EXTENSION = ".tasks";
+    public static final int SHARD_COUNT = 1024;
+
+    private static final String SHARD_FILE_FORMAT = "tasks-%03x.json";
+    private static final Pattern SHARD_FILE_PATTERN = Pattern.compile("tasks-(\\p{XDigit}{3})\\.json");
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    /** Gap between the sequence numbers of tasks added at the end, which leaves room for tasks added between them. */
+    private static final long SEQUENCE_STEP = 1L << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedTaskBookStorage.class);
+
+    private final Path filePath;
+    private final boolean isPrettyPrinted;
+
+    /** Persons and the tasks of every shard as they are in the files at the file path, or null if not known. */
+    private List<Person> savedPersons;
+    private Map<Integer, List<Task>> savedShards;
+    /** Sequence numbers of the tasks in the saved shards, by identity of the task. */
+    private Map<Task, Long> savedSequences;
+
+    public ShardedTaskBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a storage at {@code filePath} that writes its files pretty printed, or on a single line if
+     * {@code isPrettyPrinted} is false.
+     */
+    public ShardedTaskBookStorage(Path filePath, boolean isPrettyPrinted) {
+        this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    @Override
+    public Path getTaskBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the directory that holds the shards of the persons file at {@code filePath}.
+     */
+    public static Path getShardDirectory(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_DIRECTORY_EXTENSION);
+    }
+
+    /**
+     * Returns the shard that holds the tasks assigned to {@code name}.
+     */
+    static int shardOf(Name name) {
+        return Math.floorMod(name.hashCode(), SHARD_COUNT);
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return readTaskBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskBook()}.
+     *
+     * @param filePath location of the persons file. Cannot be null.
+     * @throws DataConversionException if the persons file or any of the shards is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Persons file " + filePath + " not found");
+            return Optional.empty();
+        }
+        TaskBook taskBook;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), READ_BUFFER_SIZE)) {
+            taskBook = new JsonTaskBookLoader().load(in);
+        } catch (IOException e) {
+            logger.warning("Error reading from persons file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        if (!taskBook.getTaskList().isEmpty()) {
+            // A whole task book was written over the persons file after the shards, so the shards are out of date.
+            logger.info("Ignoring shards of " + filePath + " that holds tasks itself");
+            forgetSavedFiles(filePath);
+            return Optional.of(taskBook);
+        }
+        if (!Files.isDirectory(getShardDirectory(filePath))) {
+            logger.info("Shards of " + filePath + " not found");
+            forgetSavedFiles(filePath);
+            return Optional.of(taskBook);
+        }
+
+        Map<Integer, List<SequencedTask>> shards = readShards(filePath);
+        addTasks(taskBook, shards);
+        if (filePath.equals(this.filePath)) {
+            savedPersons = new ArrayList<>(taskBook.getPersonList());
+            savedShards = new HashMap<>();
+            savedSequences = new IdentityHashMap<>();
+            for (Map.Entry<Integer, List<SequencedTask>> shard : shards.entrySet()) {
+                List<Task> tasks = new ArrayList<>();
+                for (SequencedTask sequencedTask : shard.getValue()) {
+                    tasks.add(sequencedTask.task);
+                    savedSequences.put(sequencedTask.task, sequencedTask.sequence);
+                }
+                savedShards.put(shard.getKey(), tasks);
+            }
+        }
+        return Optional.of(taskBook);
+    }
+
+    /**
+     * Adds the tasks in the shards of the persons file at {@code filePath} to {@code taskBook}, if the file has
+     * shards and {@code taskBook}, which was read from the file in another format, has no tasks of its own.
+     *
+     * @return true if the tasks in the shards were added.
+     * @throws DataConversionException if any of the shards is not in the correct format.
+     */
+    static boolean addShardedTasks(Path filePath, TaskBook taskBook) throws DataConversionException, IOException {
+        if (!taskBook.getTaskList().isEmpty() || !Files.isDirectory(getShardDirectory(filePath))) {
+            return false;
+        }
+        logger.info("Reading shards of " + filePath);
+        addTasks(taskBook, readShards(filePath));
+        return true;
+    }
+
+    /**
+     * Deletes the shards of the persons file at {@code filePath}, once a task book in another format has been written
+     * over it.
+     */
+    static void deleteShards(Path filePath) throws IOException {
+        Path directory = getShardDirectory(filePath);
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        for (Path shardFile : listShardFiles(directory)) {
+            Files.delete(shardFile);
+        }
+        try {
+            Files.delete(directory);
+        } catch (IOException e) {
+            logger.warning("Could not delete shard directory " + directory + ": " + e);
+        }
+    }
+
+    /**
+     * Reads and converts all shards of the persons file at {@code filePath} in parallel, and returns the tasks of
+     * every shard in the order they are in the shard.
+     */
+    private static Map<Integer, List<SequencedTask>> readShards(Path filePath)
+            throws DataConversionException, IOException {
+        List<Path> shardFiles = listShardFiles(getShardDirectory(filePath));
+        List<ForkJoinTask<List<SequencedTask>>> reads = new ArrayList<>();
+        for (Path shardFile : shardFiles) {
+            reads.add(ForkJoinPool.commonPool().submit(() -> readShard(shardFile)));
+        }
+
+        Map<Integer, List<SequencedTask>> shards = new TreeMap<>();
+        try {
+            for (int i = 0; i < shardFiles.size(); i++) {
+                shards.put(parseShard(shardFiles.get(i)), reads.get(i).get());
+            }
+        } catch (ExecutionException e) {
+            reads.forEach(read -> read.cancel(false));
+            // The pool wraps the checked exceptions of the reads in runtime exceptions.
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof DataConversionException) {
+                    throw (DataConversionException) cause;
+                } else if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            reads.forEach(read -> read.cancel(false));
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading shards of " + filePath);
+        }
+        return shards;
+    }
+
+    private static List<SequencedTask> readShard(Path shardFile) throws DataConversionException {
+        Optional<JsonSerializableTaskBook> shard = JsonUtil.readJsonFile(shardFile, JsonSerializableTaskBook.class);
+        if (shard.isEmpty()) {
+            return List.of();
+        }
+        try {
+            List<SequencedTask> tasks = new ArrayList<>(shard.get().getTasks().size());
+            for (JsonAdaptedTask record : shard.get().getTasks()) {
+                Task task = record.toModelType();
+                tasks.add(new SequencedTask(task, record.getSequence() == null ? task.getId() : record.getSequence()));
+            }
+            return tasks;
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + shardFile + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Adds the tasks in {@code shards} to {@code taskBook} in the order of their sequence numbers.
+     */
+    private static void addTasks(TaskBook taskBook, Map<Integer, List<SequencedTask>> shards)
+            throws DataConversionException {
+        List<SequencedTask> tasks = new ArrayList<>();
+        shards.values().forEach(tasks::addAll);
+        tasks.sort(Comparator.comparingLong(sequencedTask -> sequencedTask.sequence));
+        try {
+            for (SequencedTask sequencedTask : tasks) {
+                JsonSerializableTaskBook.addTaskTo(taskBook, sequencedTask.task);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in shards: " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private static List<Path> listShardFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> parseShard(file) >= 0).sorted().collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Returns the shard that is stored in {@code shardFile}, or -1 if it is not a shard file.
+     */
+    private static int parseShard(Path shardFile) {
+        Matcher matcher = SHARD_FILE_PATTERN.matcher(shardFile.getFileName().toString());
+        if (!matcher.matches()) {
+            return -1;
+        }
+        int shard = Integer.parseInt(matcher.group(1), 16);
+        return shard < SHARD_COUNT ? shard : -1;
+    }
+
+    private static Path getShardPath(Path filePath, int shard) {
+        return getShardDirectory(filePath).resolve(String.format(SHARD_FILE_FORMAT, shard));
+    }
+
+    private void forgetSavedFiles(Path filePath) {
+        if (filePath.equals(this.filePath)) {
+            // The next save writes every file in the sharded format.
+            savedPersons = null;
+            savedShards = null;
+            savedSequences = null;
+        }
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskBook(ReadOnlyTaskBook)}.
+     * Only the files at the file path of this storage are rewritten in part. Saving to another file path writes the
+     * persons file and all shards there.
+     *
+     * @param filePath location of the persons file. Cannot be null.
+     */
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        requireNonNull(taskBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = new ArrayList<>(taskBook.getPersonList());
+        Map<Integer, List<Task>> shards = toShards(taskBook.getTaskList());
+        boolean isWholeWrite = !filePath.equals(this.filePath) || savedShards == null || !Files.exists(filePath);
+        Map<Task, Long> sequences = toSequences(taskBook.getTaskList(), isWholeWrite ? Map.of() : savedSequences);
+        if (isWholeWrite) {
+            writeAll(persons, shards, sequences, filePath);
+        } else {
+            if (!isSameList(savedPersons, persons)) {
+                writePersons(persons, filePath);
+            }
+            Set<Integer> touchedShards = new HashSet<>(savedShards.keySet());
+            touchedShards.addAll(shards.keySet());
+            for (int shard : touchedShards) {
+                List<Task> tasks = shards.get(shard);
+                if (tasks == null) {
+                    Files.deleteIfExists(getShardPath(filePath, shard));
+                } else if (!isSameList(savedShards.get(shard), tasks) || !hasSavedSequences(tasks, sequences)) {
+                    writeShard(tasks, sequences, getShardPath(filePath, shard));
+                }
+            }
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedPersons = persons;
+            savedShards = shards;
+            savedSequences = sequences;
+        }
+    }
+
+    /**
+     * Writes all shards at {@code filePath}, and then the persons file, which replaces a whole task book that may
+     * have been there.
+     */
+    private void writeAll(List<Person> persons, Map<Integer, List<Task>> shards, Map<Task, Long> sequences,
+            Path filePath) throws IOException {
+        Path directory = getShardDirectory(filePath);
+        Files.createDirectories(directory);
+        for (Map.Entry<Integer, List<Task>> shard : shards.entrySet()) {
+            writeShard(shard.getValue(), sequences, getShardPath(filePath, shard.getKey()));
+        }
+        for (Path shardFile : listShardFiles(directory)) {
+            if (!shards.containsKey(parseShard(shardFile))) {
+                Files.delete(shardFile);
+            }
+        }
+        writePersons(persons, filePath);
+    }
+
+    private void writePersons(List<Person> persons, Path filePath) throws IOException {
+        JsonUtil.saveJsonFile(new JsonSerializableTaskBook(
+                persons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()), List.of()),
+                filePath, isPrettyPrinted);
+    }
+
+    private void writeShard(List<Task> tasks, Map<Task, Long> sequences, Path shardPath) throws IOException {
+        List<JsonAdaptedTask> records = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            JsonAdaptedTask record = JsonSerializableTaskBook.adaptTask(task);
+            record.setSequence(sequences.get(task));
+            records.add(record);
+        }
+        JsonUtil.saveJsonFile(new JsonSerializableTaskBook(List.of(), records), shardPath, isPrettyPrinted);
+    }
+
+    /**
+     * Returns the sequence numbers of {@code tasks}, which increase along the list. Every task keeps its number in
+     * {@code saved} if it is still larger than the number of the task before it. Other tasks are numbered halfway to
+     * the next task that has a saved number, or {@link #SEQUENCE_STEP} after the task before them at the end of the
+     * list, so that only tasks that were added or moved are numbered anew, unless there is no room left between
+     * their neighbours.
+     */
+    private static Map<Task, Long> toSequences(List<Task> tasks, Map<Task, Long> saved) {
+        long[] nextSaved = new long[tasks.size() + 1];
+        nextSaved[tasks.size()] = Long.MAX_VALUE;
+        for (int i = tasks.size() - 1; i >= 0; i--) {
+            Long sequence = saved.get(tasks.get(i));
+            nextSaved[i] = sequence == null ? nextSaved[i + 1] : sequence;
+        }
+
+        Map<Task, Long> sequences = new IdentityHashMap<>();
+        long previous = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            Long savedSequence = saved.get(tasks.get(i));
+            long sequence;
+            if (savedSequence != null && savedSequence > previous) {
+                sequence = savedSequence;
+            } else if (nextSaved[i + 1] == Long.MAX_VALUE) {
+                sequence = previous + SEQUENCE_STEP;
+            } else {
+                sequence = previous + Math.max(1, (nextSaved[i + 1] - previous) / 2);
+            }
+            sequences.put(tasks.get(i), sequence);
+            previous = sequence;
+        }
+        return sequences;
+    }
+
+    /**
+     * Returns true if every task of {@code tasks}, which were all saved, keeps the sequence number it was saved with.
+     */
+    private boolean hasSavedSequences(List<Task> tasks, Map<Task, Long> sequences) {
+        for (Task task : tasks) {
+            if (!sequences.get(task).equals(savedSequences.get(task))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<Integer, List<Task>> toShards(List<Task> tasks) {
+        Map<Integer, List<Task>> shards = new HashMap<>();
+        for (Task task : tasks) {
+            shards.computeIfAbsent(shardOf(task.getName()), shard -> new ArrayList<>()).add(task);
+        }
+        return shards;
+    }
+
+    /**
+     * A task read from a shard, with the sequence number that orders it among the tasks of all shards.
+     */
+    private static class SequencedTask {
+        private final Task task;
+        private final long sequence;
+
+        SequencedTask(Task task, long sequence) {
+            this.task = task;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * Returns true if {@code saved} holds the very same persons or tasks as {@code current}, in the same order.
+     * Persons and tasks are immutable, so a changed one is always a different object.
+     */
+    private static <T> boolean isSameList(List<T> saved, List<T> current) {
+        if (saved == null || saved.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < saved.size(); i++) {
+            if (saved.get(i) != current.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
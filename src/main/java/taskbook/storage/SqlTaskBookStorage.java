@@ -0,0 +1,596 @@
+package taskbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.logging.Logger;
+
+import taskbook.commons.core.LogsCenter;
+import taskbook.commons.exceptions.DataConversionException;
+import taskbook.commons.exceptions.IllegalValueException;
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.TaskBook;
+import taskbook.model.TaskBookFormat;
+import taskbook.model.TaskBookSnapshot;
+import taskbook.model.person.Address;
+import taskbook.model.person.Email;
+import taskbook.model.person.Name;
+import taskbook.model.person.Person;
+import taskbook.model.person.Phone;
+import taskbook.model.tag.Tag;
+import taskbook.model.tag.TagSet;
+import taskbook.model.task.Deadline;
+import taskbook.model.task.Description;
+import taskbook.model.task.Event;
+import taskbook.model.task.Task;
+import taskbook.model.task.Todo;
+import taskbook.model.task.enums.Assignment;
+
+/**
+ * A class to access TaskBook data stored in an embedded H2 database on the hard disk, which runs in the process of
+ * the application.
+ *
+ * The database is kept next to the data file, with the extension of the data file replaced by
+ * {@link #DATABASE_EXTENSION}. Persons, tasks and their tags are kept in separate tables. Persons and tasks are
+ * indexed by name, and tasks by date and done status as well.
+ *
+ * The database of the file path of the storage is opened, and its tables are created, the first time it is used, and
+ * it is kept open until the storage is closed. Saving finds the ranges of persons and tasks that changed since the
+ * task book was last saved, see {@link TaskBookSnapshot#getChangedTaskRange(TaskBookSnapshot)}, and only inserts,
+ * updates or deletes the rows of the persons and tasks in those ranges that changed, all in one transaction. Every row
+ * keeps the position of its person or task in its list, and the rows after a range whose size changed are shifted by
+ * a single update. Reading checks every value the same way as {@link JsonTaskBookStorage}, and adds the persons and
+ * tasks in the order of their positions.
+ *
+ * If there is no database yet, or the data file was modified after it, the data file is imported into the database
+ * when it is read, see {@link ConvertingTaskBookStorage#detectFormat(Path)}. The data file can be in any of the formats
+ * of the other storages, and is left as it was. The other storages read the database in turn when it is newer than
+ * the data file, and delete it once they have saved the task book in their own format.
+ */
+public class SqlTaskBookStorage implements TaskBookStorage {
+
+    /** The extension that H2 gives the file of a database. */
+    public static final String DATABASE_EXTENSION = ".mv.db";
+    public static final String MESSAGE_INVALID_TASK_TYPE = "Task's type must be one of Todo, Event or Deadline!";
+
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS persons (id BIGINT PRIMARY KEY, position INT NOT NULL, name VARCHAR NOT NULL,"
+                + " phone VARCHAR NOT NULL, email VARCHAR NOT NULL, address VARCHAR NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS person_tags (person_id BIGINT NOT NULL REFERENCES persons (id) ON DELETE CASCADE,"
+                + " tag VARCHAR NOT NULL, PRIMARY KEY (person_id, tag))",
+        "CREATE TABLE IF NOT EXISTS tasks (id BIGINT PRIMARY KEY, position INT NOT NULL, type VARCHAR NOT NULL,"
+                + " name VARCHAR NOT NULL, assignment VARCHAR NOT NULL, description VARCHAR NOT NULL,"
+                + " is_done BOOLEAN NOT NULL, date DATE)",
+        "CREATE TABLE IF NOT EXISTS task_tags (task_id BIGINT NOT NULL REFERENCES tasks (id) ON DELETE CASCADE,"
+                + " tag VARCHAR NOT NULL, PRIMARY KEY (task_id, tag))",
+        "CREATE INDEX IF NOT EXISTS persons_position ON persons (position)",
+        "CREATE INDEX IF NOT EXISTS persons_name ON persons (name)",
+        "CREATE INDEX IF NOT EXISTS tasks_position ON tasks (position)",
+        "CREATE INDEX IF NOT EXISTS tasks_name ON tasks (name)",
+        "CREATE INDEX IF NOT EXISTS tasks_date ON tasks (date)",
+        "CREATE INDEX IF NOT EXISTS tasks_is_done ON tasks (is_done)",
+    };
+
+    private static final String TYPE_TODO = "Todo";
+    private static final String TYPE_EVENT = "Event";
+    private static final String TYPE_DEADLINE = "Deadline";
+
+    private static final Logger logger = LogsCenter.getLogger(SqlTaskBookStorage.class);
+
+    private final Path filePath;
+
+    /** Connection to the database of the file path, or null if it is not open. */
+    private Connection connection;
+    /** Task book as it is in the database of the file path, or null if not known. */
+    private TaskBookSnapshot saved;
+
+    public SqlTaskBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getTaskBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the database that is kept next to the data file at {@code filePath}.
+     */
+    public static Path getDatabasePath(Path filePath) {
+        return filePath.resolveSibling(getDatabaseName(filePath) + DATABASE_EXTENSION);
+    }
+
+    private static String getDatabaseName(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        return extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+    }
+
+    /**
+     * Returns the connection to the database of the file path of this storage, opening it if it is not open yet.
+     */
+    private Connection getConnection() throws SQLException {
+        if (connection == null) {
+            connection = openDatabase(filePath);
+        }
+        return connection;
+    }
+
+    /**
+     * Returns a connection to the database of the data file at {@code filePath}, which is only to be closed if it is
+     * not the database of this storage.
+     */
+    private Connection getConnection(Path filePath) throws SQLException {
+        return filePath.equals(this.filePath) ? getConnection() : openDatabase(filePath);
+    }
+
+    private void closeIfNotOwn(Connection connection) throws SQLException {
+        if (connection != this.connection) {
+            connection.close();
+        }
+    }
+
+    /**
+     * Opens the database of the data file at {@code filePath}, creating it and its tables if they do not exist.
+     */
+    private static Connection openDatabase(Path filePath) throws SQLException {
+        Path databasePath = filePath.toAbsolutePath().resolveSibling(getDatabaseName(filePath));
+        Connection connection = DriverManager.getConnection("jdbc:h2:file:" + databasePath);
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : SCHEMA) {
+                statement.execute(sql);
+            }
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return readTaskBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskBook()}.
+     *
+     * @param filePath location of the data file, next to which the database is kept. Cannot be null.
+     * @throws DataConversionException if the database or the data file to import is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (ConvertingTaskBookStorage.detectFormat(filePath) != TaskBookFormat.SQL) {
+            return importDataFile(filePath);
+        }
+
+        TaskBook taskBook;
+        try {
+            Connection connection = getConnection(filePath);
+            try {
+                taskBook = read(connection);
+            } finally {
+                closeIfNotOwn(connection);
+            }
+        } catch (SQLException e) {
+            logger.warning("Error reading from database " + getDatabasePath(filePath) + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + getDatabasePath(filePath) + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            saved = taskBook.snapshot();
+        }
+        return Optional.of(taskBook);
+    }
+
+    /**
+     * Reads the data file at {@code filePath}, which has no database yet or is newer than it, and saves it into the
+     * database, replacing all of its rows.
+     */
+    private Optional<ReadOnlyTaskBook> importDataFile(Path filePath) throws DataConversionException, IOException {
+        if (!Files.exists(filePath)) {
+            logger.info("Database " + getDatabasePath(filePath) + " and data file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        logger.info("Importing data file " + filePath + " into database " + getDatabasePath(filePath));
+        Optional<ReadOnlyTaskBook> taskBook = ConvertingTaskBookStorage.readDataFile(filePath);
+        if (filePath.equals(this.filePath)) {
+            saved = null;
+        }
+        if (taskBook.isPresent()) {
+            saveTaskBook(taskBook.get(), filePath);
+        }
+        return taskBook;
+    }
+
+    private static TaskBook read(Connection connection) throws SQLException, IllegalValueException {
+        Map<Long, List<Tag>> personTags = readTags(connection, "SELECT person_id, tag FROM person_tags");
+        Map<Long, List<Tag>> taskTags = readTags(connection, "SELECT task_id, tag FROM task_tags");
+        TaskBook taskBook = new TaskBook();
+
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery(
+                        "SELECT id, name, phone, email, address FROM persons ORDER BY position")) {
+            while (rows.next()) {
+                long id = readId(rows, JsonAdaptedPerson.INVALID_ID_MESSAGE);
+                Person person = new Person(
+                        convert(rows.getString("name"), Name::isValidName, Name.MESSAGE_CONSTRAINTS, Name::of),
+                        convert(rows.getString("phone"), Phone::isValidPhone, Phone.MESSAGE_CONSTRAINTS, Phone::new),
+                        convert(rows.getString("email"), Email::isValidEmail, Email.MESSAGE_CONSTRAINTS, Email::new),
+                        convert(rows.getString("address"), Address::isValidAddress, Address.MESSAGE_CONSTRAINTS,
+                                Address::new),
+                        toTagSet(personTags.get(id)));
+                JsonSerializableTaskBook.addPersonTo(taskBook, person.withId(id));
+            }
+        }
+
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery(
+                        "SELECT id, type, name, assignment, description, is_done, date FROM tasks ORDER BY position")) {
+            while (rows.next()) {
+                long id = readId(rows, JsonAdaptedTask.INVALID_ID_MESSAGE);
+                Name name = convert(rows.getString("name"), Name::isValidName, Name.MESSAGE_CONSTRAINTS, Name::of);
+                Assignment assignment = convert(rows.getString("assignment"), Assignment::isValidAssignment,
+                        Assignment.MESSAGE_CONSTRAINTS, Assignment::valueOf);
+                Description description = convert(rows.getString("description"), Description::isValidDescription,
+                        Description.MESSAGE_CONSTRAINTS, Description::new);
+                boolean isDone = rows.getBoolean("is_done");
+                Set<Tag> tags = toTagSet(taskTags.get(id));
+                Task task;
+                switch (rows.getString("type")) {
+                case TYPE_TODO:
+                    task = new Todo(name, assignment, description, isDone, tags);
+                    break;
+                case TYPE_EVENT:
+                    task = new Event(name, assignment, description, isDone, readDate(rows), tags);
+                    break;
+                case TYPE_DEADLINE:
+                    task = new Deadline(name, assignment, description, isDone, readDate(rows), tags);
+                    break;
+                default:
+                    throw new IllegalValueException(MESSAGE_INVALID_TASK_TYPE);
+                }
+                JsonSerializableTaskBook.addTaskTo(taskBook, task.withId(id));
+            }
+        }
+        return taskBook;
+    }
+
+    private static Map<Long, List<Tag>> readTags(Connection connection, String query)
+            throws SQLException, IllegalValueException {
+        Map<Long, List<Tag>> tags = new HashMap<>();
+        try (Statement statement = connection.createStatement(); ResultSet rows = statement.executeQuery(query)) {
+            while (rows.next()) {
+                Tag tag = convert(rows.getString(2), Tag::isValidTagName, Tag.MESSAGE_CONSTRAINTS, Tag::of);
+                tags.computeIfAbsent(rows.getLong(1), id -> new ArrayList<>()).add(tag);
+            }
+        }
+        return tags;
+    }
+
+    private static Set<Tag> toTagSet(List<Tag> tags) {
+        return tags == null ? TagSet.EMPTY : TagSet.of(tags);
+    }
+
+    private static long readId(ResultSet rows, String invalidMessage) throws SQLException, IllegalValueException {
+        long id = rows.getLong("id");
+        if (id <= 0) {
+            throw new IllegalValueException(invalidMessage);
+        }
+        return id;
+    }
+
+    private static LocalDate readDate(ResultSet rows) throws SQLException, IllegalValueException {
+        Date date = rows.getDate("date");
+        if (date == null) {
+            throw new IllegalValueException(String.format(JsonAdaptedTask.MISSING_FIELD_MESSAGE_FORMAT, "date"));
+        }
+        return date.toLocalDate();
+    }
+
+    /**
+     * Returns {@code value} converted by {@code converter}, after checking it with {@code isValid}.
+     */
+    private static <T> T convert(String value, Predicate<String> isValid, String invalidMessage,
+            Function<String, T> converter) throws IllegalValueException {
+        if (!isValid.test(value)) {
+            throw new IllegalValueException(invalidMessage);
+        }
+        return converter.apply(value);
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskBook(ReadOnlyTaskBook)}.
+     * Only the database of the file path of this storage is updated row by row. Saving to another file path
+     * replaces all rows of the database there.
+     *
+     * @param filePath location of the data file, next to which the database is kept. Cannot be null.
+     */
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        requireNonNull(taskBook);
+        requireNonNull(filePath);
+
+        boolean isOwnDatabase = filePath.equals(this.filePath) && saved != null
+                && Files.exists(getDatabasePath(filePath));
+        TaskBookSnapshot current = snapshotOf(taskBook);
+        try {
+            Connection connection = getConnection(filePath);
+            try {
+                connection.setAutoCommit(false);
+                if (isOwnDatabase) {
+                    write(connection, new Changes<>(saved.getPersonList(), current.getPersonList(),
+                            current.getChangedPersonRange(saved), Person::getId),
+                            new Changes<>(saved.getTaskList(), current.getTaskList(),
+                            current.getChangedTaskRange(saved), Task::getId));
+                } else {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.executeUpdate("DELETE FROM task_tags");
+                        statement.executeUpdate("DELETE FROM tasks");
+                        statement.executeUpdate("DELETE FROM person_tags");
+                        statement.executeUpdate("DELETE FROM persons");
+                    }
+                    write(connection, Changes.allOf(current.getPersonList()), Changes.allOf(current.getTaskList()));
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                closeIfNotOwn(connection);
+            }
+        } catch (SQLException e) {
+            throw new IOException("Could not save to database " + getDatabasePath(filePath), e);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            saved = current;
+        }
+    }
+
+    /**
+     * Closes the database of the file path of this storage, if it is open.
+     */
+    @Override
+    public void close() throws IOException {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException("Could not close database " + getDatabasePath(filePath), e);
+        } finally {
+            connection = null;
+        }
+    }
+
+    /**
+     * Returns {@code taskBook} as a snapshot, taking one of it if it is not a snapshot already.
+     * Persons and tasks are kept as they are, so that unchanged ones can be compared by identity.
+     */
+    private static TaskBookSnapshot snapshotOf(ReadOnlyTaskBook taskBook) {
+        if (taskBook instanceof TaskBookSnapshot) {
+            return (TaskBookSnapshot) taskBook;
+        }
+        return (taskBook instanceof TaskBook ? (TaskBook) taskBook : new TaskBook(taskBook)).snapshot();
+    }
+
+    /**
+     * Deletes the rows of the removed persons and tasks of {@code persons} and {@code tasks}, and inserts or updates
+     * the rows of the added or changed ones.
+     */
+    private static void write(Connection connection, Changes<Person> persons, Changes<Task> tasks)
+            throws SQLException {
+        try (PreparedStatement deleteTask = connection.prepareStatement("DELETE FROM tasks WHERE id = ?");
+                PreparedStatement deletePerson = connection.prepareStatement("DELETE FROM persons WHERE id = ?")) {
+            delete(deleteTask, tasks.removedIds);
+            delete(deletePerson, persons.removedIds);
+        }
+        move(connection, "persons", persons);
+        move(connection, "tasks", tasks);
+
+        try (PreparedStatement mergePerson = connection.prepareStatement(
+                    "MERGE INTO persons (id, position, name, phone, email, address) KEY (id)"
+                    + " VALUES (?, ?, ?, ?, ?, ?)");
+                PreparedStatement deleteTags = connection.prepareStatement(
+                    "DELETE FROM person_tags WHERE person_id = ?");
+                PreparedStatement insertTag = connection.prepareStatement(
+                    "INSERT INTO person_tags (person_id, tag) VALUES (?, ?)")) {
+            for (int i = 0; i < persons.changed.size(); i++) {
+                Person person = persons.changed.get(i);
+                mergePerson.setLong(1, person.getId());
+                mergePerson.setInt(2, persons.changedPositions.get(i));
+                mergePerson.setString(3, person.getName().fullName);
+                mergePerson.setString(4, person.getPhone().value);
+                mergePerson.setString(5, person.getEmail().value);
+                mergePerson.setString(6, person.getAddress().value);
+                mergePerson.addBatch();
+                addTags(deleteTags, insertTag, person.getId(), person.getTags());
+            }
+            mergePerson.executeBatch();
+            deleteTags.executeBatch();
+            insertTag.executeBatch();
+        }
+
+        try (PreparedStatement mergeTask = connection.prepareStatement(
+                    "MERGE INTO tasks (id, position, type, name, assignment, description, is_done, date) KEY (id)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+                PreparedStatement deleteTags = connection.prepareStatement(
+                    "DELETE FROM task_tags WHERE task_id = ?");
+                PreparedStatement insertTag = connection.prepareStatement(
+                    "INSERT INTO task_tags (task_id, tag) VALUES (?, ?)")) {
+            for (int i = 0; i < tasks.changed.size(); i++) {
+                Task task = tasks.changed.get(i);
+                mergeTask.setLong(1, task.getId());
+                mergeTask.setInt(2, tasks.changedPositions.get(i));
+                mergeTask.setString(3, typeOf(task));
+                mergeTask.setString(4, task.getName().fullName);
+                mergeTask.setString(5, task.getAssignment().name());
+                mergeTask.setString(6, task.getDescription().description);
+                mergeTask.setBoolean(7, task.isDone());
+                mergeTask.setDate(8, task.getDate() == null ? null : Date.valueOf(task.getDate()));
+                mergeTask.addBatch();
+                addTags(deleteTags, insertTag, task.getId(), task.getTags());
+            }
+            mergeTask.executeBatch();
+            deleteTags.executeBatch();
+            insertTag.executeBatch();
+        }
+    }
+
+    /**
+     * Updates the positions of the rows in {@code table} whose persons or tasks in {@code changes} moved without
+     * changing. The rows after the changed range are shifted by a single statement, before the rows in the range are
+     * given their new positions.
+     */
+    private static void move(Connection connection, String table, Changes<?> changes) throws SQLException {
+        if (changes.tailShift != 0) {
+            try (PreparedStatement shift = connection.prepareStatement(
+                    "UPDATE " + table + " SET position = position + ? WHERE position >= ?")) {
+                shift.setInt(1, changes.tailShift);
+                shift.setInt(2, changes.tailStart);
+                shift.executeUpdate();
+            }
+        }
+        try (PreparedStatement move = connection.prepareStatement(
+                "UPDATE " + table + " SET position = ? WHERE id = ?")) {
+            for (int i = 0; i < changes.movedIds.size(); i++) {
+                move.setInt(1, changes.movedPositions.get(i));
+                move.setLong(2, changes.movedIds.get(i));
+                move.addBatch();
+            }
+            move.executeBatch();
+        }
+    }
+
+    private static void delete(PreparedStatement delete, List<Long> ids) throws SQLException {
+        for (long id : ids) {
+            delete.setLong(1, id);
+            delete.addBatch();
+        }
+        delete.executeBatch();
+    }
+
+    /**
+     * Adds the statements that replace the tags of the person or task with the id {@code id} by {@code tags}.
+     */
+    private static void addTags(PreparedStatement deleteTags, PreparedStatement insertTag, long id, Set<Tag> tags)
+            throws SQLException {
+        deleteTags.setLong(1, id);
+        deleteTags.addBatch();
+        for (Tag tag : tags) {
+            insertTag.setLong(1, id);
+            insertTag.setString(2, tag.tagName);
+            insertTag.addBatch();
+        }
+    }
+
+    private static String typeOf(Task task) {
+        if (task instanceof Event) {
+            return TYPE_EVENT;
+        } else if (task instanceof Deadline) {
+            return TYPE_DEADLINE;
+        }
+        return TYPE_TODO;
+    }
+
+    /**
+     * Persons or tasks that were removed, that were added or changed, and that moved, since the task book was last
+     * saved. The position of a row is the index of its person or task in its list.
+     */
+    private static class Changes<T> {
+        private final List<Long> removedIds = new ArrayList<>();
+        /** Added or changed elements, and the positions they are at. */
+        private final List<T> changed = new ArrayList<>();
+        private final List<Integer> changedPositions = new ArrayList<>();
+        /** Ids of the unchanged elements in the range that moved, and the positions they moved to. */
+        private final List<Long> movedIds = new ArrayList<>();
+        private final List<Integer> movedPositions = new ArrayList<>();
+        /** Position at which the elements after the range start in the saved list, and how far they moved. */
+        private int tailStart;
+        private int tailShift;
+
+        /**
+         * Finds the changes among the elements in {@code range} of {@code saved} and {@code current}, as returned by
+         * {@link taskbook.model.util.SnapshotList.Snapshot#changedRangeSince}, which are identified by {@code idOf}.
+         * The elements outside the range are the same in both lists, so finding the changes costs as much as the range.
+         */
+        Changes(List<T> saved, List<T> current, int[] range, ToLongFunction<T> idOf) {
+            if (range == null) {
+                return;
+            }
+            Map<T, Integer> savedInRange = new IdentityHashMap<>();
+            for (int i = range[0]; i < range[1]; i++) {
+                savedInRange.put(saved.get(i), i);
+            }
+            Set<Long> currentIds = new HashSet<>();
+            for (int i = range[0]; i < range[2]; i++) {
+                T element = current.get(i);
+                currentIds.add(idOf.applyAsLong(element));
+                Integer savedPosition = savedInRange.get(element);
+                if (savedPosition == null) {
+                    changed.add(element);
+                    changedPositions.add(i);
+                } else if (savedPosition != i) {
+                    movedIds.add(idOf.applyAsLong(element));
+                    movedPositions.add(i);
+                }
+            }
+            tailStart = range[1];
+            tailShift = range[2] - range[1];
+            for (T element : savedInRange.keySet()) {
+                if (!currentIds.contains(idOf.applyAsLong(element))) {
+                    removedIds.add(idOf.applyAsLong(element));
+                }
+            }
+        }
+
+        private Changes() {
+        }
+
+        /**
+         * Returns the changes that add all of {@code elements}.
+         */
+        static <T> Changes<T> allOf(List<T> elements) {
+            Changes<T> changes = new Changes<>();
+            for (int i = 0; i < elements.size(); i++) {
+                changes.changed.add(elements.get(i));
+                changes.changedPositions.add(i);
+            }
+            return changes;
+        }
+    }
+}
@@ -75,4 +75,9 @@ public class StorageManager implements Storage {
         taskBookStorage.saveTaskBook(taskBook, filePath);
     }
 
+    @Override
+    public void close() throws IOException {
+        taskBookStorage.close();
+    }
+
 }
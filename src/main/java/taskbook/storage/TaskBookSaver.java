@@ -0,0 +1,100 @@
+package taskbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import taskbook.commons.core.LogsCenter;
+import taskbook.model.ReadOnlyTaskBook;
+
+/**
+ * Saves task books to a {@code TaskBookStorage} on a background thread, so that saving does not hold up the caller.
+ *
+ * Task books passed to {@link #save(ReadOnlyTaskBook)} must not change afterwards, such as the snapshots returned
+ * by {@link taskbook.model.Model#getTaskBookSnapshot()}. Saves that are requested while an earlier one is still
+ * being written are coalesced, and only the latest of them is written. Failed writes are reported to the failure
+ * handler on the background thread, with unexpected runtime exceptions of the storage wrapped in an
+ * {@code IOException}, so that the caller never mistakes a failed write for a successful one.
+ */
+public class TaskBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(TaskBookSaver.class);
+
+    private final TaskBookStorage storage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "TaskBook saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Latest task book that was requested to be saved but is not being written yet, or null if there is none. */
+    private ReadOnlyTaskBook pending;
+    private Consumer<IOException> failureHandler = e -> { };
+
+    /**
+     * Creates a saver that writes to {@code storage}.
+     */
+    public TaskBookSaver(TaskBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the handler that is told about every save that failed to be written.
+     */
+    public synchronized void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Saves {@code taskBook} in the background, unless another task book is requested to be saved before it is
+     * written.
+     */
+    public synchronized void save(ReadOnlyTaskBook taskBook) {
+        requireNonNull(taskBook);
+        boolean isWriteScheduled = pending != null;
+        pending = taskBook;
+        if (!isWriteScheduled) {
+            executor.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Waits until every task book that was requested to be saved so far has been written, or has failed to be.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("Flushing should not fail.", e);
+        }
+    }
+
+    private void writePending() {
+        ReadOnlyTaskBook taskBook;
+        Consumer<IOException> handler;
+        synchronized (this) {
+            taskBook = pending;
+            handler = failureHandler;
+            pending = null;
+        }
+
+        try {
+            storage.saveTaskBook(taskBook);
+        } catch (IOException ioe) {
+            logger.warning("Failed to save task book: " + ioe);
+            handler.accept(ioe);
+        } catch (RuntimeException re) {
+            logger.severe("Unexpected error while saving task book: " + re);
+            handler.accept(new IOException(re));
+        }
+    }
+}
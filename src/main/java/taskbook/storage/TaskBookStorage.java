@@ -43,4 +43,12 @@ public interface TaskBookStorage {
      */
     void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException;
 
+    /**
+     * Releases the resources that the storage keeps open between reads and saves, such as database connections.
+     * Does nothing by default, for storages that keep nothing open.
+     * @throws IOException if there was any problem releasing the resources.
+     */
+    default void close() throws IOException {
+    }
+
 }
@@ -1,9 +1,19 @@
 package taskbook.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import taskbook.testutil.Assert;
 
@@ -21,4 +31,20 @@ public class FileUtilTest {
         Assert.assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_writerFails_fileUnchanged(@TempDir Path folder) throws IOException {
+        Path file = folder.resolve("file.txt");
+        FileUtil.writeToFileAtomically(file, out -> out.write("old".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("old", FileUtil.readFromFile(file));
+
+        Assert.assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("new".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("dummy exception");
+        }));
+        assertEquals("old", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(folder)) {
+            assertEquals(List.of(file), files.collect(Collectors.toList()));
+        }
+    }
+
 }
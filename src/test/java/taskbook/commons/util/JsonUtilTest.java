@@ -6,6 +6,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import taskbook.testutil.SerializableTestClass;
 import taskbook.testutil.TestUtil;
@@ -27,6 +28,18 @@ public class JsonUtilTest {
         assertEquals(FileUtil.readFromFile(SERIALIZATION_FILE), SerializableTestClass.JSON_STRING_REPRESENTATION);
     }
 
+    @Test
+    public void serializeObjectToJsonFile_notPrettyPrinted_sameAsCompactJsonString(@TempDir Path folder)
+            throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        Path file = folder.resolve("serialize.json");
+
+        JsonUtil.serializeObjectToJsonFile(file, serializableTestClass, false);
+
+        assertEquals(JsonUtil.toCompactJsonString(serializableTestClass), FileUtil.readFromFile(file));
+    }
+
     @Test
     public void deserializeObjectFromJsonFile_noExceptionThrown() throws IOException {
         FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
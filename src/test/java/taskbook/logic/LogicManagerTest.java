@@ -1,10 +1,14 @@
 package taskbook.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +17,7 @@ import org.junit.jupiter.api.io.TempDir;
 import taskbook.commons.core.Messages;
 import taskbook.logic.commands.CommandResult;
 import taskbook.logic.commands.CommandTestUtil;
+import taskbook.logic.commands.categoryless.UndoCommand;
 import taskbook.logic.commands.contacts.ContactAddCommand;
 import taskbook.logic.commands.contacts.ContactListCommand;
 import taskbook.logic.commands.exceptions.CommandException;
@@ -21,6 +26,7 @@ import taskbook.logic.parser.exceptions.ParseException;
 import taskbook.model.Model;
 import taskbook.model.ModelManager;
 import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.TaskBook;
 import taskbook.model.UserPrefs;
 import taskbook.model.person.Person;
 import taskbook.storage.JsonTaskBookStorage;
@@ -67,7 +73,40 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
+    public void execute_validCommand_taskBookSaved() throws Exception {
+        String addCommand = ContactCategoryParser.CATEGORY_WORD + " " + ContactAddCommand.COMMAND_WORD
+            + CommandTestUtil.NAME_DESC_AMY + CommandTestUtil.PHONE_DESC_AMY
+            + CommandTestUtil.EMAIL_DESC_AMY + CommandTestUtil.ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        logic.flushSaves();
+
+        ReadOnlyTaskBook saved = new JsonTaskBookStorage(temporaryFolder.resolve("taskBook.json")).readTaskBook().get();
+        assertEquals(model.getTaskBook(), new TaskBook(saved));
+    }
+
+    @Test
+    public void execute_readOnlyCommand_taskBookNotSaved() throws Exception {
+        logic.execute(ContactCategoryParser.CATEGORY_WORD + " " + ContactListCommand.COMMAND_WORD);
+        logic.flushSaves();
+
+        assertFalse(Files.exists(temporaryFolder.resolve("taskBook.json")));
+    }
+
+    @Test
+    public void execute_undo_taskBookSaved() throws Exception {
+        String addCommand = ContactCategoryParser.CATEGORY_WORD + " " + ContactAddCommand.COMMAND_WORD
+            + CommandTestUtil.NAME_DESC_AMY + CommandTestUtil.PHONE_DESC_AMY
+            + CommandTestUtil.EMAIL_DESC_AMY + CommandTestUtil.ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        logic.execute(UndoCommand.COMMAND_WORD);
+        logic.flushSaves();
+
+        ReadOnlyTaskBook saved = new JsonTaskBookStorage(temporaryFolder.resolve("taskBook.json")).readTaskBook().get();
+        assertEquals(new TaskBook(), new TaskBook(saved));
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_failureReported() throws Exception {
         // Setup LogicManager with JsonTaskBookIoExceptionThrowingStub
         JsonTaskBookStorage taskBookStorage =
                 new JsonTaskBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptiontaskBook.json"));
@@ -75,6 +114,8 @@ public class LogicManagerTest {
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(taskBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
+        List<String> failures = new ArrayList<>();
+        logic.setSaveFailureHandler(failures::add);
 
         // Execute add command
         String addCommand = ContactCategoryParser.CATEGORY_WORD + " " + ContactAddCommand.COMMAND_WORD
@@ -84,7 +125,15 @@ public class LogicManagerTest {
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
         String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        logic.execute(addCommand);
+        logic.flushSaves();
+        assertEquals(expectedModel, model);
+        assertEquals(List.of(expectedMessage), failures);
+
+        // a failed save is tried again after the next command, even if it does not change the task book
+        logic.execute(ContactCategoryParser.CATEGORY_WORD + " " + ContactListCommand.COMMAND_WORD);
+        logic.flushSaves();
+        assertEquals(List.of(expectedMessage, expectedMessage), failures);
     }
 
     @Test
@@ -2,12 +2,23 @@ package taskbook.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static taskbook.commons.core.Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX;
+import static taskbook.logic.commands.CommandTestUtil.assertCommandFailure;
+import static taskbook.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static taskbook.testutil.TypicalIndexes.INDEX_FIRST_TASK;
 import static taskbook.testutil.TypicalIndexes.INDEX_SECOND_TASK;
+import static taskbook.testutil.TypicalIndexes.INDEX_THIRD_TASK;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import taskbook.commons.core.index.Index;
 import taskbook.logic.commands.tasks.TaskDeleteCommand;
+import taskbook.model.Model;
+import taskbook.model.ModelManager;
+import taskbook.model.UserPrefs;
+import taskbook.testutil.TypicalTaskBook;
 
 public class TaskDeleteCommandTest {
     @Test
@@ -31,5 +42,26 @@ public class TaskDeleteCommandTest {
         // different task -> returns false
         assertFalse(deleteFirstCommand.equals(deleteSecondCommand));
     }
-}
 
+    @Test
+    public void execute_indexList_deletesAllTasksAtOnce() {
+        Model model = new ModelManager(TypicalTaskBook.getTypicalTaskBook(), new UserPrefs());
+        TaskDeleteCommand deleteCommand = new TaskDeleteCommand(List.of(INDEX_THIRD_TASK, INDEX_FIRST_TASK));
+
+        Model expectedModel = new ModelManager(TypicalTaskBook.getTypicalTaskBook(), new UserPrefs());
+        expectedModel.deleteTask(TypicalTaskBook.EATING);
+        expectedModel.deleteTask(TypicalTaskBook.PARTYING);
+        expectedModel.commitTaskBook();
+        String expectedMessage = String.format(TaskDeleteCommand.MESSAGE_DELETE_TASKS_SUCCESS, 2);
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_indexOutOfBounds_deletesNothing() {
+        Model model = new ModelManager(TypicalTaskBook.getTypicalTaskBook(), new UserPrefs());
+        Index outOfBounds = Index.fromZeroBased(model.getSortedTaskList().size());
+        TaskDeleteCommand deleteCommand = new TaskDeleteCommand(List.of(INDEX_FIRST_TASK, outOfBounds));
+
+        assertCommandFailure(deleteCommand, model, MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
+    }
+}
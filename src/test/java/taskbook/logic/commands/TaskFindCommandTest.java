@@ -3,6 +3,8 @@ package taskbook.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static taskbook.logic.commands.CommandTestUtil.assertCommandSuccess;
 
+import java.time.LocalDate;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -12,6 +14,7 @@ import taskbook.logic.commands.tasks.TaskFindCommand;
 import taskbook.model.Model;
 import taskbook.model.ModelManager;
 import taskbook.model.UserPrefs;
+import taskbook.model.tag.Tag;
 import taskbook.model.task.Task;
 import taskbook.model.task.enums.Assignment;
 import taskbook.testutil.TypicalTaskBook;
@@ -76,4 +79,33 @@ public class TaskFindCommandTest {
         }
         assertFalse(model.equals(expectedModel));
     }
+
+    @Test
+    public void execute_dateRangePresent_success() {
+        LocalDate after = LocalDate.of(2022, 10, 1);
+        LocalDate before = LocalDate.of(2022, 10, 31);
+        Predicate<Task> pred = t -> t.isDateInRange(after, before);
+
+        Model expectedModel = new ModelManager(TypicalTaskBook.getTypicalTaskBook(), new UserPrefs());
+        expectedModel.updateFilteredTaskListPredicate(pred);
+        Model model = new ModelManager(TypicalTaskBook.getTypicalTaskBook(), new UserPrefs());
+        TaskFindCommand command = new TaskFindCommand(pred, null, null, null, after, before);
+        assertCommandSuccess(command, model, String.format(TaskFindCommand.MESSAGE_SUCCESS + "\n"
+                + "1 tasks listed.\n"
+                + "After: 2022-10-01\nBefore: 2022-10-31\n"), expectedModel);
+    }
+
+    @Test
+    public void execute_tagsAndDoneStatusPresent_success() {
+        Predicate<Task> pred = (t -> t.isDone() == true);
+        pred = pred.and(t -> t.getTags().contains(Tag.of("party")));
+
+        Model expectedModel = new ModelManager(TypicalTaskBook.getTypicalTaskBook(), new UserPrefs());
+        expectedModel.updateFilteredTaskListPredicate(pred);
+        Model model = new ModelManager(TypicalTaskBook.getTypicalTaskBook(), new UserPrefs());
+        TaskFindCommand command = new TaskFindCommand(pred, null, null, "X", null, null, Set.of(Tag.of("party")));
+        assertCommandSuccess(command, model, String.format(TaskFindCommand.MESSAGE_SUCCESS + "\n"
+                + "1 tasks listed.\n"
+                + "Tags: [party]\nTasks are done."), expectedModel);
+    }
 }
@@ -1,7 +1,9 @@
 package taskbook.logic.commands.modelstubs;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.Comparator;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -11,7 +13,10 @@ import taskbook.model.ReadOnlyTaskBook;
 import taskbook.model.ReadOnlyUserPrefs;
 import taskbook.model.person.Name;
 import taskbook.model.person.Person;
+import taskbook.model.tag.Tag;
 import taskbook.model.task.Task;
+import taskbook.model.task.TaskBatch;
+import taskbook.model.task.enums.Assignment;
 
 /**
  * A default model stub that have all of the methods failing.
@@ -87,6 +92,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public ReadOnlyTaskBook getTaskBookSnapshot() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public long getTaskBookModificationCount() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         throw new AssertionError("This method should not be called.");
@@ -117,6 +132,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void applyTaskBatch(TaskBatch batch) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean canDeletePerson(Person person) {
         throw new AssertionError("This method should not be called.");
@@ -147,6 +167,26 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Predicate<Person> getPersonQueryPredicate(String query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<Task> getTaskQueryPredicate(String query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<Task> getTaskDatePredicate(LocalDate from, LocalDate to) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<Task> getTaskFilterPredicate(Boolean isDone, Assignment assignment, Set<Tag> tags) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ObservableList<Task> getSortedTaskList() {
         throw new AssertionError("This method should not be called.");
@@ -162,6 +202,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateSortedTaskListByDescription(boolean isReversed) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateSortedTaskListByDate(boolean isReversed) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void updateFilteredPersonListPredicate(Predicate<Person> predicate) {
         throw new AssertionError("This method should not be called.");
@@ -177,6 +227,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateSortedPersonListByName(boolean isReversed) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ObservableList<Person> getSortedPersonList() {
         throw new AssertionError("This method should not be called.");
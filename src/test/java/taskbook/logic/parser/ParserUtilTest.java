@@ -6,11 +6,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import taskbook.commons.core.index.Index;
 import taskbook.logic.parser.exceptions.ParseException;
 import taskbook.model.person.Address;
 import taskbook.model.person.Email;
@@ -56,6 +58,28 @@ public class ParserUtilTest {
         Assertions.assertEquals(TypicalIndexes.INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexes_rangesAndLists_returnsDistinctIndexesInOrder() throws Exception {
+        List<Index> expected = Arrays.asList(Index.fromOneBased(4), Index.fromOneBased(1), Index.fromOneBased(2),
+                Index.fromOneBased(3), Index.fromOneBased(7));
+        assertEquals(expected, ParserUtil.parseIndexes(" 4, 1-3 ,2-2,7"));
+        assertEquals(Collections.singletonList(TypicalIndexes.INDEX_FIRST_PERSON), ParserUtil.parseIndexes("1"));
+    }
+
+    @Test
+    public void parseIndexes_invalidInput_throwsParseException() {
+        Assert.assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_INDEX_RANGE, ()
+            -> ParserUtil.parseIndexes("3-1"));
+        Assert.assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_INDEX_RANGE, ()
+            -> ParserUtil.parseIndexes("1-2-3"));
+        Assert.assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_INDEX, ()
+            -> ParserUtil.parseIndexes("1,,2"));
+        Assert.assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_INDEX, ()
+            -> ParserUtil.parseIndexes("0-2"));
+        Assert.assertThrows(ParseException.class, ParserUtil.MESSAGE_TOO_MANY_INDEXES, ()
+            -> ParserUtil.parseIndexes("1-" + Integer.MAX_VALUE));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -3,6 +3,10 @@ package taskbook.logic.parser;
 import static taskbook.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static taskbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static taskbook.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static taskbook.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static taskbook.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -27,6 +31,12 @@ public class TaskDeleteCommandParserTest {
         assertParseSuccess(parser, " i/1", new TaskDeleteCommand(INDEX_FIRST_PERSON));
     }
 
+    @Test
+    public void parse_indexRangeAndList_returnsDeleteCommand() {
+        assertParseSuccess(parser, " i/1-2,3", new TaskDeleteCommand(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON,
+                INDEX_THIRD_PERSON)));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a",
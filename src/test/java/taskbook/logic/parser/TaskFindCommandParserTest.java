@@ -3,6 +3,8 @@ package taskbook.logic.parser;
 import static taskbook.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static taskbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.LocalDate;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -11,6 +13,7 @@ import taskbook.commons.core.Messages;
 import taskbook.logic.commands.tasks.TaskFindCommand;
 import taskbook.logic.parser.exceptions.ParseException;
 import taskbook.logic.parser.tasks.TaskFindCommandParser;
+import taskbook.model.tag.Tag;
 import taskbook.model.task.Task;
 
 public class TaskFindCommandParserTest {
@@ -43,6 +46,34 @@ public class TaskFindCommandParserTest {
         assert !test1.equals(test2);
     }
 
+    @Test
+    public void parse_dateRange_success() {
+        TaskFindCommand test = new TaskFindCommand(dummy, null, null, null,
+                LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 7));
+        assertParseSuccess(parser, " af/2022-10-01 bf/Oct 07 2022", test);
+        assertParseSuccess(parser, " bf/2022-10-07 af/2022-10-01", test);
+
+        TaskFindCommand openRange = new TaskFindCommand(dummy, "test", null, null, null, LocalDate.of(2022, 10, 7));
+        assertParseSuccess(parser, " q/test bf/2022-10-07", openRange);
+        assert !openRange.equals(test);
+    }
+
+    @Test
+    public void parse_invalidDateRange_throwsParseException() {
+        assertParseFailure(parser, " af/2022-10-08 bf/2022-10-07",
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                "The af/ date must not be later than the bf/ date"));
+        assertParseFailure(parser, " af/tomorrow", Messages.MESSAGE_INVALID_DATE_FORMAT);
+    }
+
+    @Test
+    public void parse_tags_success() {
+        TaskFindCommand test = new TaskFindCommand(dummy, null, "TO", null, null, null,
+                Set.of(Tag.of("party"), Tag.of("habits")));
+        assertParseSuccess(parser, " #/party a/TO #/habits", test);
+        assert !test.equals(new TaskFindCommand(dummy, null, "TO", null));
+    }
+
     @Test
     public void parse_noFields_throwsParseException() {
         assertParseFailure(parser, " ",
@@ -9,13 +9,17 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import taskbook.commons.core.GuiSettings;
 import taskbook.model.person.NameContainsKeywordsPredicate;
 import taskbook.model.person.Person;
+import taskbook.model.task.Task;
 import taskbook.testutil.Assert;
+import taskbook.testutil.DeadlineBuilder;
+import taskbook.testutil.EditTaskDescriptorBuilder;
 import taskbook.testutil.PersonBuilder;
 import taskbook.testutil.TaskBookBuilder;
 import taskbook.testutil.TypicalTaskBook;
@@ -179,6 +183,24 @@ public class ModelManagerTest {
         assertFalse(model.canDeletePerson(TypicalTaskBook.ALICE));
     }
 
+    @Test
+    public void updateSortedTaskListByDate_taskWithSameDateEdited_orderUnchanged() throws Exception {
+        modelManager.addPerson(TypicalTaskBook.ALICE);
+        Task first = new DeadlineBuilder().withPersonName(TypicalTaskBook.ALICE).withDescription("first")
+                .withDeadlineDate(TypicalTaskBook.NOV_NINE).build();
+        Task second = new DeadlineBuilder().withPersonName(TypicalTaskBook.ALICE).withDescription("second")
+                .withDeadlineDate(TypicalTaskBook.NOV_NINE).build();
+        modelManager.addTask(first);
+        modelManager.addTask(second);
+        modelManager.updateSortedTaskListByDate(false);
+
+        Task firstDone = first.createEditedCopy(new EditTaskDescriptorBuilder().withIsDone(true).build());
+        modelManager.setTask(first, firstDone);
+        assertEquals(List.of(firstDone, second), modelManager.getSortedTaskList());
+        modelManager.updateSortedTaskListByDate(true);
+        assertEquals(List.of(firstDone, second), modelManager.getSortedTaskList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         Assert.assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -2,6 +2,7 @@ package taskbook.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static taskbook.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static taskbook.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -18,7 +19,9 @@ import javafx.collections.ObservableList;
 import taskbook.model.person.Person;
 import taskbook.model.person.exceptions.DuplicatePersonException;
 import taskbook.model.task.Task;
+import taskbook.model.task.enums.Assignment;
 import taskbook.testutil.Assert;
+import taskbook.testutil.DeadlineBuilder;
 import taskbook.testutil.PersonBuilder;
 import taskbook.testutil.TypicalTaskBook;
 
@@ -55,6 +58,20 @@ public class TaskBookTest {
         Assert.assertThrows(DuplicatePersonException.class, () -> taskBook.resetData(newData));
     }
 
+    @Test
+    public void getModificationCount_changesOnlyWhenModified() {
+        long initialCount = taskBook.getModificationCount();
+        taskBook.hasPerson(TypicalTaskBook.ALICE);
+        taskBook.snapshot();
+        assertEquals(initialCount, taskBook.getModificationCount());
+
+        taskBook.addPerson(TypicalTaskBook.ALICE);
+        long countAfterAdd = taskBook.getModificationCount();
+        assertNotEquals(initialCount, countAfterAdd);
+        taskBook.removePerson(TypicalTaskBook.ALICE);
+        assertNotEquals(countAfterAdd, taskBook.getModificationCount());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> taskBook.hasPerson(null));
@@ -80,6 +97,29 @@ public class TaskBookTest {
         assertTrue(taskBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void setPerson_nameChanged_propagatesToAssignedTasksOnly() {
+        TaskBook typicalTaskBook = TypicalTaskBook.getTypicalTaskBook();
+        Person renamedAlice = new PersonBuilder(TypicalTaskBook.ALICE).withName("Alice Renamed").build();
+        typicalTaskBook.setPerson(TypicalTaskBook.ALICE, renamedAlice);
+
+        Task renamedEating = new DeadlineBuilder().withPersonName(renamedAlice)
+                .withAssignment(Assignment.TO).withDescription("eat fruit").withIsDone(true)
+                .withTags("weightLoss").withDeadlineDate(TypicalTaskBook.NOV_NINE).build();
+        assertEquals(Arrays.asList(renamedEating, TypicalTaskBook.SLEEPING, TypicalTaskBook.PARTYING),
+                typicalTaskBook.getTaskList());
+        assertTrue(typicalTaskBook.canDeletePerson(TypicalTaskBook.ZED));
+        assertFalse(typicalTaskBook.canDeletePerson(renamedAlice));
+    }
+
+    @Test
+    public void canDeletePerson_assignedTaskDeleted_returnsTrue() {
+        TaskBook typicalTaskBook = TypicalTaskBook.getTypicalTaskBook();
+        assertFalse(typicalTaskBook.canDeletePerson(TypicalTaskBook.BENSON));
+        typicalTaskBook.deleteTask(TypicalTaskBook.SLEEPING);
+        assertTrue(typicalTaskBook.canDeletePerson(TypicalTaskBook.BENSON));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         Assert.assertThrows(UnsupportedOperationException.class, () -> taskBook.getPersonList().remove(0));
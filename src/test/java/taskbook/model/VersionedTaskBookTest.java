@@ -209,4 +209,76 @@ public class VersionedTaskBookTest {
         versioned.undo();
         assertEquals(initial, versioned);
     }
+
+    @Test
+    public void undo_modifiedAfterUndo_historyUnchanged() {
+        VersionedTaskBook versioned = new VersionedTaskBook();
+        versioned.addPerson(P1);
+        versioned.addTask(T1);
+        versioned.commit();
+        versioned.addTask(T2);
+        versioned.commit();
+        versioned.undo();
+
+        // Changes to the restored state must not leak into the states kept for undo and redo.
+        versioned.deleteTask(T1);
+        versioned.redo();
+        assertTrue(versioned.hasTask(T1));
+        assertTrue(versioned.hasTask(T2));
+        versioned.undo();
+        assertTrue(versioned.hasTask(T1));
+        assertFalse(versioned.hasTask(T2));
+    }
+
+    @Test
+    public void undoRedo_operationLogPersonRenamed_revertsPropagatedTaskEdits() {
+        Task assignedTask = new TodoBuilder().withPersonName(P1).withDescription("Task 4").build();
+        TaskBook initialState = new TaskBookBuilder().withPerson(P1).withPerson(P2).build();
+        initialState.addTask(T1);
+        initialState.addTask(assignedTask);
+        VersionedTaskBook versioned = new VersionedTaskBook(initialState, UndoMode.OPERATION_LOG);
+
+        Person renamed = new PersonBuilder(P1).withName("Person 5").build();
+        versioned.setPerson(P1, renamed);
+        versioned.commit();
+        TaskBook renamedState = new TaskBook(versioned);
+
+        versioned.undo();
+        assertEquals(initialState, versioned);
+        versioned.redo();
+        assertEquals(renamedState, versioned);
+    }
+
+    @Test
+    public void undo_operationLogUncommittedChanges_discardsChanges() {
+        TaskBook initialState = new TaskBook();
+        VersionedTaskBook versioned = new VersionedTaskBook(initialState, UndoMode.OPERATION_LOG);
+        versioned.addTask(T1);
+        versioned.addTask(T2);
+        versioned.commit();
+        versioned.deleteTask(T1);
+        versioned.addTask(T3);
+
+        versioned.undo();
+        assertEquals(initialState, versioned);
+        versioned.redo();
+        TaskBook expected = new TaskBook();
+        expected.addTask(T1);
+        expected.addTask(T2);
+        assertEquals(expected, versioned);
+    }
+
+    @Test
+    public void commit_operationLogSameState_noChange() {
+        VersionedTaskBook versioned = new VersionedTaskBook(new TaskBook(), UndoMode.OPERATION_LOG);
+        versioned.addPerson(P1);
+        versioned.setPerson(P1, P1);
+        versioned.commit();
+        VersionedTaskBook expected = new VersionedTaskBook(new TaskBook(), UndoMode.OPERATION_LOG);
+        expected.addPerson(P1);
+        expected.commit();
+
+        assertTrue(expected.isEquivalentTo(versioned));
+        assertFalse(new VersionedTaskBook(new TaskBook()).isEquivalentTo(versioned));
+    }
 }
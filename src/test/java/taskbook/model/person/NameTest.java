@@ -1,6 +1,7 @@
 package taskbook.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -14,6 +15,12 @@ public class NameTest {
         Assert.assertThrows(NullPointerException.class, () -> new Name(null));
     }
 
+    @Test
+    public void of_sameName_returnsSameInstance() {
+        assertSame(Name.of("Alice Pauline"), Name.of(new String("Alice Pauline")));
+        assertSame(Name.SELF, Name.of("Myself"));
+    }
+
     @Test
     public void constructor_invalidName_throwsIllegalArgumentException() {
         String invalidName = "";
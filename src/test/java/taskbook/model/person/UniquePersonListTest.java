@@ -2,6 +2,7 @@ package taskbook.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static taskbook.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static taskbook.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -9,6 +10,7 @@ import static taskbook.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -168,9 +170,68 @@ public class UniquePersonListTest {
                 -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void find_personInList_returnsPerson() {
+        uniquePersonList.add(TypicalTaskBook.ALICE);
+        assertEquals(TypicalTaskBook.ALICE, uniquePersonList.find(TypicalTaskBook.ALICE.getName()));
+        assertNull(uniquePersonList.find(TypicalTaskBook.BOB.getName()));
+    }
+
+    @Test
+    public void find_afterMutations_followsList() {
+        uniquePersonList.add(TypicalTaskBook.ALICE);
+        uniquePersonList.setPerson(TypicalTaskBook.ALICE, TypicalTaskBook.BOB);
+        assertNull(uniquePersonList.find(TypicalTaskBook.ALICE.getName()));
+        assertEquals(TypicalTaskBook.BOB, uniquePersonList.find(TypicalTaskBook.BOB.getName()));
+
+        uniquePersonList.remove(TypicalTaskBook.BOB);
+        assertNull(uniquePersonList.find(TypicalTaskBook.BOB.getName()));
+
+        uniquePersonList.setPersons(Collections.singletonList(TypicalTaskBook.CARL));
+        assertEquals(TypicalTaskBook.CARL, uniquePersonList.find(TypicalTaskBook.CARL.getName()));
+        assertFalse(uniquePersonList.contains(TypicalTaskBook.ALICE));
+    }
+
+    @Test
+    public void replaceRange_personInRangeReplacedBySameName_success() {
+        uniquePersonList.setPersons(List.of(TypicalTaskBook.ALICE, TypicalTaskBook.BENSON, TypicalTaskBook.CARL));
+        Person editedBenson = new PersonBuilder(TypicalTaskBook.BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.replaceRange(1, 2, List.of(editedBenson, TypicalTaskBook.DANIEL));
+        assertEquals(List.of(TypicalTaskBook.ALICE, editedBenson, TypicalTaskBook.DANIEL, TypicalTaskBook.CARL),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(editedBenson, uniquePersonList.find(TypicalTaskBook.BENSON.getName()));
+    }
+
+    @Test
+    public void replaceRange_nameOfPersonOutsideRange_throwsDuplicatePersonException() {
+        uniquePersonList.setPersons(List.of(TypicalTaskBook.ALICE, TypicalTaskBook.BENSON, TypicalTaskBook.CARL));
+        Person otherCarl = new PersonBuilder(TypicalTaskBook.CARL).withAddress(VALID_ADDRESS_BOB).build();
+        Assert.assertThrows(DuplicatePersonException.class, ()
+            -> uniquePersonList.replaceRange(0, 2, List.of(otherCarl)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         Assert.assertThrows(UnsupportedOperationException.class, ()
             -> uniquePersonList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void getQueryPredicate_afterMutations_matchesIsQueryInPerson() {
+        uniquePersonList.add(TypicalTaskBook.ALICE);
+        uniquePersonList.add(TypicalTaskBook.BENSON);
+        Predicate<Person> predicate = uniquePersonList.getQueryPredicate("n m");
+        assertFalse(predicate.test(TypicalTaskBook.ALICE));
+        assertTrue(predicate.test(TypicalTaskBook.BENSON));
+
+        Person bensonMeyer = new PersonBuilder(TypicalTaskBook.BENSON).withName("Benson Meyer").build();
+        uniquePersonList.setPerson(TypicalTaskBook.BENSON, bensonMeyer);
+        uniquePersonList.add(TypicalTaskBook.CARL);
+        assertTrue(predicate.test(bensonMeyer));
+        assertFalse(uniquePersonList.getQueryPredicate("MEIER").test(bensonMeyer));
+        assertTrue(uniquePersonList.getQueryPredicate("l ku").test(TypicalTaskBook.CARL));
+
+        uniquePersonList.remove(TypicalTaskBook.CARL);
+        assertFalse(uniquePersonList.getQueryPredicate("carl").test(TypicalTaskBook.CARL));
+    }
 }
@@ -0,0 +1,50 @@
+package taskbook.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import taskbook.testutil.Assert;
+
+public class TagSetTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag FAMILY = new Tag("family");
+
+    @Test
+    public void of_equalTags_returnsSameInstance() {
+        TagSet tags = TagSet.of(Arrays.asList(FRIENDS, FAMILY));
+        assertSame(tags, TagSet.of(Arrays.asList(new Tag("family"), new Tag("friends"), new Tag("family"))));
+        assertSame(TagSet.EMPTY, TagSet.of(Collections.emptySet()));
+    }
+
+    @Test
+    public void of_tags_behavesLikeHashSet() {
+        Set<Tag> expected = new HashSet<>(Arrays.asList(FRIENDS, FAMILY));
+        TagSet tags = TagSet.of(expected);
+
+        assertEquals(expected, tags);
+        assertEquals(tags, expected);
+        assertEquals(expected.hashCode(), tags.hashCode());
+        assertEquals(2, tags.size());
+        assertTrue(tags.contains(new Tag("friends")));
+        assertFalse(tags.contains(new Tag("colleagues")));
+        assertFalse(tags.contains("friends"));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tags = TagSet.of(Collections.singleton(FRIENDS));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> tags.add(FAMILY));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> tags.remove(FRIENDS));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> tags.clear());
+    }
+}
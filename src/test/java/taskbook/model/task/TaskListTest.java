@@ -0,0 +1,282 @@
+package taskbook.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import taskbook.model.person.Name;
+import taskbook.model.tag.Tag;
+import taskbook.model.task.enums.Assignment;
+import taskbook.model.task.exceptions.DuplicateTaskException;
+import taskbook.model.task.exceptions.TaskNotFoundException;
+import taskbook.testutil.Assert;
+import taskbook.testutil.DeadlineBuilder;
+import taskbook.testutil.EventBuilder;
+import taskbook.testutil.TodoBuilder;
+import taskbook.testutil.TypicalTaskBook;
+
+public class TaskListTest {
+
+    private final TaskList taskList = new TaskList();
+
+    @Test
+    public void contains_nullTask_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> taskList.contains(null));
+    }
+
+    @Test
+    public void contains_taskNotInList_returnsFalse() {
+        assertFalse(taskList.contains(TypicalTaskBook.SLEEPING));
+    }
+
+    @Test
+    public void contains_taskWithSameIdentityFieldsInList_returnsTrue() {
+        taskList.add(TypicalTaskBook.SLEEPING);
+        Task editedSleeping = new TodoBuilder().withPersonName(TypicalTaskBook.BENSON)
+                .withDescription("sleep early").withIsDone(true).withTags("other").build();
+        assertTrue(taskList.contains(editedSleeping));
+    }
+
+    @Test
+    public void contains_sameFieldsDifferentType_returnsFalse() {
+        taskList.add(new DeadlineBuilder().withDescription("same").withDeadlineDate(TypicalTaskBook.NOV_NINE).build());
+        assertFalse(taskList.contains(new EventBuilder().withDescription("same")
+                .withEventDate(TypicalTaskBook.NOV_NINE).build()));
+    }
+
+    @Test
+    public void contains_sameFieldsDifferentDate_returnsFalse() {
+        taskList.add(TypicalTaskBook.EATING);
+        assertFalse(taskList.contains(new DeadlineBuilder().withPersonName(TypicalTaskBook.ALICE)
+                .withAssignment(Assignment.TO).withDescription("eat fruit").withIsDone(true)
+                .withTags("weightLoss").withDeadlineDate(TypicalTaskBook.OCT_ELEVEN).build()));
+    }
+
+    @Test
+    public void add_duplicateTask_throwsDuplicateTaskException() {
+        taskList.add(TypicalTaskBook.SLEEPING);
+        Assert.assertThrows(DuplicateTaskException.class, () -> taskList.add(TypicalTaskBook.SLEEPING));
+    }
+
+    @Test
+    public void setTask_editedTaskHasDifferentIdentity_updatesIndex() {
+        taskList.add(TypicalTaskBook.SLEEPING);
+        taskList.setTask(TypicalTaskBook.SLEEPING, TypicalTaskBook.EATING);
+        assertFalse(taskList.contains(TypicalTaskBook.SLEEPING));
+        assertTrue(taskList.contains(TypicalTaskBook.EATING));
+    }
+
+    @Test
+    public void setTask_editedTaskHasNonUniqueIdentity_throwsDuplicateTaskException() {
+        taskList.add(TypicalTaskBook.SLEEPING);
+        taskList.add(TypicalTaskBook.EATING);
+        Assert.assertThrows(DuplicateTaskException.class, ()
+                -> taskList.setTask(TypicalTaskBook.SLEEPING, TypicalTaskBook.EATING));
+    }
+
+    @Test
+    public void remove_taskDoesNotExist_throwsTaskNotFoundException() {
+        Assert.assertThrows(TaskNotFoundException.class, () -> taskList.remove(TypicalTaskBook.SLEEPING));
+    }
+
+    @Test
+    public void remove_existingTask_updatesIndex() {
+        taskList.add(TypicalTaskBook.SLEEPING);
+        taskList.remove(TypicalTaskBook.SLEEPING);
+        assertFalse(taskList.contains(TypicalTaskBook.SLEEPING));
+        taskList.add(TypicalTaskBook.SLEEPING);
+        assertTrue(taskList.contains(TypicalTaskBook.SLEEPING));
+    }
+
+    @Test
+    public void setTasks_list_replacesOwnListAndIndex() {
+        taskList.add(TypicalTaskBook.SLEEPING);
+        List<Task> tasks = Collections.singletonList(TypicalTaskBook.EATING);
+        taskList.setTasks(tasks);
+        TaskList expectedTaskList = new TaskList();
+        expectedTaskList.add(TypicalTaskBook.EATING);
+        assertEquals(expectedTaskList, taskList);
+        assertFalse(taskList.contains(TypicalTaskBook.SLEEPING));
+    }
+
+    @Test
+    public void setTasks_listWithDuplicateTasks_throwsDuplicateTaskException() {
+        taskList.add(TypicalTaskBook.PARTYING);
+        List<Task> listWithDuplicateTasks = Arrays.asList(TypicalTaskBook.SLEEPING, TypicalTaskBook.SLEEPING);
+        Assert.assertThrows(DuplicateTaskException.class, () -> taskList.setTasks(listWithDuplicateTasks));
+        // Failed replacement leaves the list untouched.
+        assertTrue(taskList.contains(TypicalTaskBook.PARTYING));
+    }
+
+    @Test
+    public void setTasks_taskList_copiesIndex() {
+        TaskList replacement = new TaskList();
+        replacement.add(TypicalTaskBook.EATING);
+        taskList.setTasks(replacement);
+        assertTrue(taskList.contains(TypicalTaskBook.EATING));
+    }
+
+    @Test
+    public void getTasksFor_afterMutations_followsList() {
+        taskList.add(TypicalTaskBook.SLEEPING);
+        taskList.add(TypicalTaskBook.EATING);
+        Name benson = TypicalTaskBook.BENSON.getName();
+        assertTrue(taskList.hasTasksFor(benson));
+        assertEquals(Collections.singletonList(TypicalTaskBook.SLEEPING), taskList.getTasksFor(benson));
+
+        taskList.setTask(TypicalTaskBook.SLEEPING, TypicalTaskBook.PARTYING);
+        assertFalse(taskList.hasTasksFor(benson));
+        assertEquals(Collections.emptyList(), taskList.getTasksFor(benson));
+        assertEquals(Collections.singletonList(TypicalTaskBook.PARTYING),
+                taskList.getTasksFor(TypicalTaskBook.CARL.getName()));
+
+        taskList.remove(TypicalTaskBook.EATING);
+        assertFalse(taskList.hasTasksFor(TypicalTaskBook.ALICE.getName()));
+    }
+
+    @Test
+    public void setTask_afterRemove_replacesTaskAtShiftedPosition() {
+        taskList.add(TypicalTaskBook.EATING);
+        taskList.add(TypicalTaskBook.SLEEPING);
+        taskList.add(TypicalTaskBook.PARTYING);
+        taskList.remove(TypicalTaskBook.EATING);
+        Task doneSleeping = new TodoBuilder().withPersonName(TypicalTaskBook.BENSON)
+                .withDescription("sleep early").withIsDone(true).withTags("habits").build();
+        taskList.setTask(TypicalTaskBook.SLEEPING, doneSleeping);
+        assertEquals(Arrays.asList(doneSleeping, TypicalTaskBook.PARTYING), taskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getQueryPredicate_afterMutations_matchesIsQueryInTask() {
+        taskList.add(TypicalTaskBook.EATING);
+        taskList.add(TypicalTaskBook.SLEEPING);
+        Predicate<Task> predicate = taskList.getQueryPredicate("EA");
+        assertTrue(predicate.test(TypicalTaskBook.EATING));
+        assertTrue(predicate.test(TypicalTaskBook.SLEEPING));
+
+        Task sleepLate = new TodoBuilder().withPersonName(TypicalTaskBook.BENSON)
+                .withDescription("sleep late").withTags("habits").build();
+        taskList.setTask(TypicalTaskBook.SLEEPING, sleepLate);
+        taskList.add(TypicalTaskBook.PARTYING);
+        assertFalse(predicate.test(sleepLate));
+        assertFalse(predicate.test(TypicalTaskBook.PARTYING));
+        assertTrue(taskList.getQueryPredicate("KEVIN'S").test(TypicalTaskBook.PARTYING));
+        assertTrue(taskList.getQueryPredicate("benson").test(sleepLate));
+    }
+
+    @Test
+    public void getDatePredicate_afterMutations_matchesIsDateInRange() {
+        taskList.add(TypicalTaskBook.EATING);
+        taskList.add(TypicalTaskBook.SLEEPING);
+        taskList.add(TypicalTaskBook.PARTYING);
+        Predicate<Task> predicate = taskList.getDatePredicate(TypicalTaskBook.OCT_ELEVEN, LocalDate.of(2022, 11, 1));
+        assertTrue(predicate.test(TypicalTaskBook.PARTYING));
+        assertFalse(predicate.test(TypicalTaskBook.EATING));
+        assertFalse(predicate.test(TypicalTaskBook.SLEEPING));
+        assertEquals(Arrays.asList(TypicalTaskBook.PARTYING, TypicalTaskBook.EATING),
+                taskList.getTasksBetween(null, null));
+
+        Task eatEarlier = new DeadlineBuilder().withPersonName(TypicalTaskBook.ALICE)
+                .withDescription("eat fruit").withDeadlineDate(LocalDate.of(2022, 10, 20)).build();
+        taskList.setTask(TypicalTaskBook.EATING, eatEarlier);
+        taskList.remove(TypicalTaskBook.PARTYING);
+        assertTrue(predicate.test(eatEarlier));
+        assertFalse(predicate.test(TypicalTaskBook.PARTYING));
+        assertEquals(Collections.singletonList(eatEarlier),
+                taskList.getTasksBetween(LocalDate.of(2022, 10, 20), null));
+    }
+
+    @Test
+    public void getFilterPredicate_afterMutations_matchesAttributes() {
+        taskList.add(TypicalTaskBook.EATING);
+        taskList.add(TypicalTaskBook.SLEEPING);
+        taskList.add(TypicalTaskBook.PARTYING);
+        Predicate<Task> predicate = taskList.getFilterPredicate(true, Assignment.TO, Set.of());
+        assertTrue(predicate.test(TypicalTaskBook.EATING));
+        assertTrue(predicate.test(TypicalTaskBook.PARTYING));
+        assertFalse(predicate.test(TypicalTaskBook.SLEEPING));
+        assertTrue(taskList.getFilterPredicate(null, null, Set.of(Tag.of("habits"))).test(TypicalTaskBook.SLEEPING));
+
+        Task partyUndone = new EventBuilder().withPersonName(TypicalTaskBook.CARL).withAssignment(Assignment.TO)
+                .withDescription("party at kevin's house").withTags("party")
+                .withEventDate(TypicalTaskBook.OCT_ELEVEN).withIsDone(false).build();
+        taskList.setTask(TypicalTaskBook.PARTYING, partyUndone);
+        assertFalse(predicate.test(partyUndone));
+        assertTrue(taskList.getFilterPredicate(false, null, Set.of(Tag.of("party"))).test(partyUndone));
+        assertFalse(taskList.getFilterPredicate(false, Assignment.FROM, Set.of()).test(partyUndone));
+    }
+
+    @Test
+    public void setTask_editedCopy_keepsIdAndPosition() throws Exception {
+        taskList.add(TypicalTaskBook.EATING);
+        taskList.add(TypicalTaskBook.SLEEPING);
+        Task sleepLate = TypicalTaskBook.SLEEPING.createEditedCopy(new EditTaskDescriptor());
+        assertEquals(TypicalTaskBook.SLEEPING.getId(), sleepLate.getId());
+
+        taskList.setTask(TypicalTaskBook.SLEEPING, sleepLate);
+        taskList.remove(TypicalTaskBook.EATING);
+        assertEquals(Collections.singletonList(sleepLate), taskList.asUnmodifiableObservableList());
+        assertTrue(taskList.asUnmodifiableObservableList().get(0) == sleepLate);
+    }
+
+    @Test
+    public void add_taskWithIdInList_storedWithNewId() {
+        taskList.add(TypicalTaskBook.EATING);
+        Task sleepingWithSameId = TypicalTaskBook.SLEEPING.withId(TypicalTaskBook.EATING.getId());
+        taskList.add(sleepingWithSameId);
+
+        Task stored = taskList.asUnmodifiableObservableList().get(1);
+        assertEquals(TypicalTaskBook.SLEEPING, stored);
+        assertFalse(stored.getId() == TypicalTaskBook.EATING.getId());
+        taskList.remove(sleepingWithSameId);
+        assertEquals(Collections.singletonList(TypicalTaskBook.EATING), taskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void applyBatch_addsEditsAndDeletes_singleChange() throws Exception {
+        taskList.setTasks(Arrays.asList(TypicalTaskBook.EATING, TypicalTaskBook.SLEEPING, TypicalTaskBook.PARTYING));
+        EditTaskDescriptor markDone = new EditTaskDescriptor();
+        markDone.setIsDone(true);
+        Task sleepingDone = TypicalTaskBook.SLEEPING.createEditedCopy(markDone);
+        Task dancing = new TodoBuilder().withDescription("dance").build();
+        List<ListChangeListener.Change<? extends Task>> changes = new ArrayList<>();
+        taskList.asUnmodifiableObservableList().addListener((ListChangeListener<Task>) changes::add);
+
+        taskList.applyBatch(new TaskBatch().delete(TypicalTaskBook.EATING).set(TypicalTaskBook.SLEEPING, sleepingDone)
+                .add(dancing));
+        assertEquals(Arrays.asList(sleepingDone, TypicalTaskBook.PARTYING, dancing),
+                taskList.asUnmodifiableObservableList());
+        assertEquals(1, changes.size());
+        assertFalse(taskList.contains(TypicalTaskBook.EATING));
+        assertTrue(taskList.getFilterPredicate(true, null, Set.of()).test(taskList.asUnmodifiableObservableList()
+                .get(0)));
+    }
+
+    @Test
+    public void applyBatch_invalidOperation_changesNothing() {
+        taskList.setTasks(Arrays.asList(TypicalTaskBook.EATING, TypicalTaskBook.SLEEPING));
+        TaskBatch duplicateAdd = new TaskBatch().delete(TypicalTaskBook.EATING).add(TypicalTaskBook.SLEEPING);
+        Assert.assertThrows(DuplicateTaskException.class, () -> taskList.applyBatch(duplicateAdd));
+        TaskBatch missingTarget = new TaskBatch().delete(TypicalTaskBook.EATING).delete(TypicalTaskBook.PARTYING);
+        Assert.assertThrows(TaskNotFoundException.class, () -> taskList.applyBatch(missingTarget));
+        TaskBatch repeatedTarget = new TaskBatch().delete(TypicalTaskBook.EATING).delete(TypicalTaskBook.EATING);
+        Assert.assertThrows(TaskNotFoundException.class, () -> taskList.applyBatch(repeatedTarget));
+
+        assertEquals(Arrays.asList(TypicalTaskBook.EATING, TypicalTaskBook.SLEEPING),
+                taskList.asUnmodifiableObservableList());
+        assertTrue(taskList.contains(TypicalTaskBook.EATING));
+        taskList.remove(TypicalTaskBook.SLEEPING);
+        assertEquals(Collections.singletonList(TypicalTaskBook.EATING), taskList.asUnmodifiableObservableList());
+    }
+}
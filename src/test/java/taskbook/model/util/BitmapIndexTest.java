@@ -0,0 +1,84 @@
+package taskbook.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+public class BitmapIndexTest {
+
+    private final List<String> texts = new ArrayList<>();
+    private final BitmapIndex<String> index = new BitmapIndex<>(texts, BitmapIndexTest::attributesOf);
+
+    @Test
+    public void matching_randomAttributes_sameAsScanning() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 300; i++) {
+            add(randomText(random));
+        }
+        for (int i = 0; i < 100; i++) {
+            remove(texts.get(random.nextInt(texts.size())));
+            add(randomText(random));
+        }
+
+        for (int i = 0; i < 100; i++) {
+            List<String> candidates = attributesOf(randomText(random));
+            List<String> attributes = candidates.subList(0, random.nextInt(Math.min(candidates.size(), 3)));
+            Predicate<String> predicate = index.matching(attributes);
+            for (String text : texts) {
+                boolean isMatch = attributesOf(text).containsAll(attributes);
+                assertEquals(isMatch, predicate.test(text), text + " " + attributes);
+            }
+        }
+    }
+
+    @Test
+    public void matching_indexChanged_seesNewElements() {
+        add("a b");
+        Predicate<String> predicate = index.matching(List.of("b"));
+        assertTrue(predicate.test(texts.get(0)));
+
+        String other = "b c";
+        add(other);
+        remove("a b");
+        assertTrue(predicate.test(other));
+        assertFalse(predicate.test("a b"));
+        assertFalse(index.matching(List.of("a")).test(other));
+        assertTrue(index.matching(List.of()).test(other));
+
+        index.invalidate();
+        assertTrue(predicate.test(other));
+    }
+
+    private void add(String text) {
+        index.add(text);
+        texts.add(text);
+    }
+
+    private void remove(String text) {
+        int position = texts.indexOf(text);
+        index.remove(texts.get(position));
+        texts.remove(position);
+    }
+
+    private static String randomText(Random random) {
+        StringBuilder builder = new StringBuilder();
+        for (String attribute : List.of("a", "b", "c", "d")) {
+            if (random.nextBoolean()) {
+                builder.append(attribute).append(' ');
+            }
+        }
+        return builder.append(random.nextInt(1000)).toString();
+    }
+
+    private static List<String> attributesOf(String text) {
+        return Arrays.asList(text.split(" "));
+    }
+}
@@ -0,0 +1,52 @@
+package taskbook.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    private final Interner<String> interner = new Interner<>();
+
+    @Test
+    public void intern_equalValues_firstValueReturned() {
+        String first = new String("alex");
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(new String("alex")));
+        assertEquals("bernice", interner.intern(new String("bernice")));
+    }
+
+    @Test
+    public void intern_manyThreads_sameCanonicalInstances() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                results.add(executor.submit(() -> {
+                    List<String> canonicals = new ArrayList<>();
+                    for (int i = 0; i < 1000; i++) {
+                        canonicals.add(interner.intern(new String("value " + i)));
+                    }
+                    return canonicals;
+                }));
+            }
+
+            List<String> expected = results.get(0).get();
+            for (Future<List<String>> result : results) {
+                List<String> canonicals = result.get();
+                for (int i = 0; i < canonicals.size(); i++) {
+                    assertSame(expected.get(i), canonicals.get(i));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package taskbook.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import taskbook.testutil.Assert;
+
+public class LongIntMapTest {
+
+    private final LongIntMap map = new LongIntMap();
+
+    @Test
+    public void put_invalidKeyOrValue_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> map.put(0, 1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> map.put(1, -1));
+    }
+
+    @Test
+    public void operations_randomOperations_behaveLikeHashMap() {
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(2103);
+        for (int i = 0; i < 20000; i++) {
+            long key = 1 + random.nextInt(2000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map.remove(key);
+            } else {
+                expected.put(key, i);
+                map.put(key, i);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = 1; key <= 2001; key++) {
+            assertEquals(expected.getOrDefault(key, LongIntMap.NO_VALUE), map.get(key));
+        }
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertEquals(LongIntMap.NO_VALUE, map.get(1));
+    }
+}
@@ -0,0 +1,148 @@
+package taskbook.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class OrderedListTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList();
+    private final RangeIndex<Integer, String> index = new RangeIndex<>(source, OrderedListTest::keyOf);
+    private final OrderedList<String> ordered = new OrderedList<>(source);
+
+    @Test
+    public void setOrdering_sourceChanged_sameAsComparator() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 100; i++) {
+            add(random.nextInt(30) + " " + i);
+        }
+        ordered.setOrdering(index.ordering(true));
+        assertEquals(sortedWith(Comparator.comparing(OrderedListTest::keyOf).reversed()), ordered);
+
+        for (int i = 0; i < 50; i++) {
+            remove(source.get(random.nextInt(source.size())));
+            add(random.nextInt(30) + " " + (100 + i));
+        }
+        assertEquals(sortedWith(Comparator.comparing(OrderedListTest::keyOf).reversed()), ordered);
+        for (int i = 0; i < ordered.size(); i++) {
+            assertEquals(i, ordered.getViewIndex(ordered.getSourceIndex(i)));
+        }
+
+        ordered.setComparator(Comparator.comparing(OrderedListTest::keyOf));
+        assertEquals(sortedWith(Comparator.comparing(OrderedListTest::keyOf)), ordered);
+        ordered.setComparator(null);
+        assertEquals(source, ordered);
+    }
+
+    @Test
+    public void setOrdering_elementsWithoutPosition_keepOrderOfSource() {
+        source.addAll("2 a", "1 b", "3 c", "0 d");
+        ordered.setOrdering(new OrderedList.Ordering<>() {
+            @Override
+            public int applyAsInt(String text) {
+                return hasPosition(text) ? keyOf(text) : -1;
+            }
+
+            @Override
+            public int compare(String first, String second) {
+                return Boolean.compare(!hasPosition(first), !hasPosition(second));
+            }
+
+            private boolean hasPosition(String text) {
+                return !text.startsWith("1") && !text.startsWith("3");
+            }
+        });
+        assertEquals(List.of("0 d", "2 a", "1 b", "3 c"), ordered);
+
+        source.add(1, "1 e");
+        assertEquals(List.of("0 d", "2 a", "1 e", "1 b", "3 c"), ordered);
+    }
+
+    @Test
+    public void sourceChanged_addToSortedView_singleAddAtItsPlace() {
+        for (int i = 0; i < 10; i++) {
+            add((2 * i) + " " + i);
+        }
+        ordered.setOrdering(index.ordering(false));
+        List<String> changes = new ArrayList<>();
+        ordered.addListener((ListChangeListener<String>) change -> changes.add(describe(change)));
+
+        add("5 new");
+        assertEquals(List.of("added [5 new] at 3"), changes);
+        assertEquals(sortedWith(Comparator.comparing(OrderedListTest::keyOf)), ordered);
+
+        changes.clear();
+        set("5 new", "5 edited");
+        assertEquals(List.of("replaced [5 new] with [5 edited] at 3"), changes);
+
+        changes.clear();
+        set("5 edited", "13 moved");
+        assertEquals(List.of("removed [5 edited] at 3, added [13 moved] at 7"), changes);
+        assertEquals(sortedWith(Comparator.comparing(OrderedListTest::keyOf)), ordered);
+    }
+
+    @Test
+    public void sourceChanged_equalKeys_keepOrderOfSource() {
+        ordered.setComparator(Comparator.comparing(OrderedListTest::keyOf));
+        source.addAll("1 a", "0 b", "1 c");
+        source.add(0, "1 d");
+        source.set(2, "1 e");
+        assertEquals(sortedWith(Comparator.comparing(OrderedListTest::keyOf)), ordered);
+        for (int i = 0; i < ordered.size(); i++) {
+            assertEquals(i, ordered.getViewIndex(ordered.getSourceIndex(i)));
+        }
+
+        source.setAll(new ArrayList<>(source.subList(0, 2)));
+        assertEquals(sortedWith(Comparator.comparing(OrderedListTest::keyOf)), ordered);
+    }
+
+    private void add(String text) {
+        index.add(text);
+        source.add(text);
+    }
+
+    private void remove(String text) {
+        index.remove(text);
+        source.remove(text);
+    }
+
+    private void set(String text, String replacement) {
+        index.remove(text);
+        index.add(replacement);
+        source.set(source.indexOf(text), replacement);
+    }
+
+    private static String describe(ListChangeListener.Change<? extends String> change) {
+        List<String> descriptions = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasReplaced()) {
+                descriptions.add("replaced " + change.getRemoved() + " with " + change.getAddedSubList() + " at "
+                        + change.getFrom());
+            } else if (change.wasRemoved()) {
+                descriptions.add("removed " + change.getRemoved() + " at " + change.getFrom());
+            } else if (change.wasAdded()) {
+                descriptions.add("added " + change.getAddedSubList() + " at " + change.getFrom());
+            }
+        }
+        return String.join(", ", descriptions);
+    }
+
+    private List<String> sortedWith(Comparator<String> comparator) {
+        List<String> sorted = new ArrayList<>(source);
+        sorted.sort(comparator);
+        return sorted;
+    }
+
+    private static Integer keyOf(String text) {
+        return Integer.valueOf(text.split(" ")[0]);
+    }
+}
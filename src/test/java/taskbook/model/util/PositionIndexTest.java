@@ -0,0 +1,69 @@
+package taskbook.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PositionIndexTest {
+
+    private final List<Long> ids = new ArrayList<>();
+    private final PositionIndex<Long> index = new PositionIndex<>(ids, Long::longValue);
+    private long nextId = 1;
+
+    @Test
+    public void get_randomAddsAndRemovals_sameAsIndexOf() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 500; i++) {
+            add();
+        }
+        for (int i = 0; i < 5000; i++) {
+            if (random.nextInt(3) == 0) {
+                add();
+            } else if (!ids.isEmpty()) {
+                remove(random.nextInt(ids.size()));
+            }
+            if (random.nextInt(10) == 0) {
+                assertPositions();
+            }
+        }
+        assertPositions();
+        assertEquals(PositionIndex.NO_POSITION, index.get(nextId));
+    }
+
+    @Test
+    public void get_fewerRemovalsThanLimit_positionsNotRecordedAgain() {
+        for (int i = 0; i < 10; i++) {
+            add();
+        }
+        remove(0);
+        remove(3);
+
+        // the positions of the later elements are only found on lookup
+        assertPositions();
+        index.putRange(0, ids.size());
+        assertPositions();
+    }
+
+    private void add() {
+        ids.add(nextId);
+        index.put(nextId, ids.size() - 1);
+        nextId++;
+    }
+
+    private void remove(int position) {
+        long id = ids.remove(position);
+        index.remove(id);
+        index.shiftAfterRemoval(position);
+        assertEquals(PositionIndex.NO_POSITION, index.get(id));
+    }
+
+    private void assertPositions() {
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals(i, index.get(ids.get(i)));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package taskbook.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class RangeIndexTest {
+
+    private final List<String> texts = new ArrayList<>();
+    private final RangeIndex<Integer, String> index = new RangeIndex<>(texts, RangeIndexTest::keyOf);
+
+    @Test
+    public void find_randomRanges_sameAsScanning() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 300; i++) {
+            add(random.nextInt(5) == 0 ? "todo " + i : random.nextInt(50) + " " + i);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            Integer from = random.nextInt(4) == 0 ? null : random.nextInt(60) - 5;
+            Integer to = random.nextInt(4) == 0 ? null : random.nextInt(60) - 5;
+            assertEquals(scan(from, to), index.find(from, to), from + " " + to);
+        }
+    }
+
+    @Test
+    public void find_afterAddAndRemove_sameAsScanning() {
+        add("3 a");
+        add("todo");
+        add("1 b");
+        index.find(null, null);
+
+        add("2 c");
+        remove("3 a");
+        assertEquals(List.of("1 b", "2 c"), index.find(null, null));
+        assertEquals(List.of("2 c"), index.find(2, 3));
+
+        index.invalidate();
+        assertEquals(scan(1, null), index.find(1, null));
+    }
+
+    @Test
+    public void matching_indexChanged_seesNewElements() {
+        add("5 a");
+        Predicate<String> predicate = index.matching(4, 6);
+        assertTrue(predicate.test(texts.get(0)));
+
+        String inRange = "6 b";
+        add(inRange);
+        add("7 c");
+        assertTrue(predicate.test(inRange));
+        assertFalse(predicate.test(texts.get(2)));
+        assertFalse(predicate.test(new String("5 a")));
+    }
+
+    @Test
+    public void ordering_afterAddAndRemove_sameAsSorting() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 200; i++) {
+            add(random.nextInt(5) == 0 ? "todo " + i : random.nextInt(50) + " " + i);
+        }
+        ToIntFunction<String> ascending = index.ordering(false);
+        ToIntFunction<String> descending = index.ordering(true);
+        assertEquals(sorted(false), inOrder(ascending));
+
+        for (int i = 0; i < 50; i++) {
+            remove(texts.get(random.nextInt(texts.size())));
+            add(random.nextInt(5) == 0 ? "todo " + i : random.nextInt(50) + " " + i);
+        }
+        assertEquals(sorted(false), inOrder(ascending));
+        assertEquals(sorted(true), inOrder(descending));
+        assertEquals(-1, ascending.applyAsInt("not in the source"));
+    }
+
+    private void add(String text) {
+        index.add(text);
+        texts.add(text);
+    }
+
+    private void remove(String text) {
+        int position = texts.indexOf(text);
+        index.remove(texts.get(position));
+        texts.remove(position);
+    }
+
+    private List<String> scan(Integer from, Integer to) {
+        return texts.stream()
+                .filter(text -> keyOf(text) != null)
+                .filter(text -> (from == null || keyOf(text) >= from) && (to == null || keyOf(text) <= to))
+                .sorted(Comparator.comparing(RangeIndexTest::keyOf))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the texts sorted by key with a stable sort, with texts without a key last in the order of the source.
+     */
+    private List<String> sorted(boolean isDescending) {
+        Comparator<String> byKey = Comparator.comparing(RangeIndexTest::keyOf,
+                Comparator.nullsLast(isDescending ? Comparator.<Integer>reverseOrder() : Comparator.naturalOrder()));
+        return texts.stream().sorted(byKey).collect(Collectors.toList());
+    }
+
+    private List<String> inOrder(ToIntFunction<String> ordering) {
+        String[] ordered = new String[texts.size()];
+        texts.forEach(text -> ordered[ordering.applyAsInt(text)] = text);
+        return Arrays.asList(ordered);
+    }
+
+    private static Integer keyOf(String text) {
+        String key = text.split(" ")[0];
+        return key.equals("todo") ? null : Integer.valueOf(key);
+    }
+}
@@ -0,0 +1,215 @@
+package taskbook.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import taskbook.model.util.SnapshotList.Snapshot;
+import taskbook.testutil.Assert;
+
+public class SnapshotListTest {
+
+    private final SnapshotList<Integer> list = new SnapshotList<>();
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        list.add(1);
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> list.snapshot().get(-1));
+    }
+
+    @Test
+    public void mutations_randomOperations_behaveLikeArrayList() {
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(2103);
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list.add(index, i);
+            } else if (operation == 1) {
+                expected.add(i);
+                list.add(i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, i), list.set(index, i));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            }
+        }
+        assertEquals(expected, list);
+        assertEquals(expected, list.snapshot());
+    }
+
+    @Test
+    public void snapshot_listModifiedAfterwards_snapshotUnchanged() {
+        List<Integer> expected = fill(200);
+        Snapshot<Integer> snapshot = list.snapshot();
+
+        list.set(0, -1);
+        list.add(100, -2);
+        list.remove(150);
+        list.add(-3);
+
+        assertEquals(expected, snapshot);
+        assertEquals(expected, new ArrayList<>(snapshot));
+        assertNotEquals(snapshot, list.snapshot());
+    }
+
+    @Test
+    public void snapshot_unchangedList_equalSnapshots() {
+        fill(200);
+        Snapshot<Integer> first = list.snapshot();
+        list.set(5, -1);
+        list.set(5, 5);
+        Snapshot<Integer> second = list.snapshot();
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    public void getFingerprint_sameContentsAfterDifferentChanges_equalFingerprints() {
+        fill(100);
+        SnapshotList<Integer> other = new SnapshotList<>();
+        for (int i = 99; i >= 0; i--) {
+            other.add(0, i);
+        }
+        other.add(50, -1);
+        other.set(50, -2);
+        other.remove(50);
+
+        assertEquals(list.getFingerprint(), other.getFingerprint());
+        assertEquals(list.snapshot().getFingerprint(), other.snapshot().getFingerprint());
+        assertEquals(list.snapshot(), other.snapshot());
+
+        other.set(10, -1);
+        assertNotEquals(list.getFingerprint(), other.getFingerprint());
+        assertNotEquals(list.snapshot(), other.snapshot());
+        other.clear();
+        assertEquals(0, other.getFingerprint());
+    }
+
+    @Test
+    public void restore_notifiesListenersOnce() {
+        fill(3);
+        Snapshot<Integer> snapshot = list.snapshot();
+        list.clear();
+        list.add(9);
+
+        List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                changes.add(change.getRemoved() + " -> " + change.getAddedSubList());
+            }
+        });
+        list.restore(snapshot);
+
+        assertEquals(Arrays.asList(0, 1, 2), list);
+        assertEquals(Collections.singletonList("[9] -> [0, 1, 2]"), changes);
+    }
+
+    @Test
+    public void restore_listModifiedAfterwards_snapshotUnchanged() {
+        List<Integer> expected = fill(100);
+        Snapshot<Integer> snapshot = list.snapshot();
+        list.clear();
+        list.restore(snapshot);
+
+        list.remove(0);
+        list.add(0, -1);
+
+        assertEquals(expected, snapshot);
+        assertEquals(-1, list.get(0));
+    }
+
+    @Test
+    public void changedRangeSince_fewChanges_onlyChangedRange() {
+        fill(500);
+        Snapshot<Integer> earlier = list.snapshot();
+        assertNull(list.snapshot().changedRangeSince(earlier));
+
+        list.set(300, -1);
+        list.remove(100);
+        list.add(100, 100);
+        assertArrayEquals(new int[] {300, 301, 301}, list.snapshot().changedRangeSince(earlier));
+
+        list.add(-2);
+        assertArrayEquals(new int[] {300, 500, 501}, list.snapshot().changedRangeSince(earlier));
+    }
+
+    @Test
+    public void changedRangeSince_randomChanges_sameAsComparingWholeSnapshots() {
+        Random random = new Random(2103);
+        List<Snapshot<Integer>> snapshots = new ArrayList<>();
+        fill(100);
+        for (int i = 0; i < 3000; i++) {
+            int operation = random.nextInt(5);
+            if (operation == 0 || list.isEmpty()) {
+                list.add(random.nextInt(list.size() + 1), i);
+            } else if (operation == 1) {
+                list.set(random.nextInt(list.size()), i);
+            } else if (operation == 2) {
+                list.remove(random.nextInt(list.size()));
+            } else if (operation == 3) {
+                int from = random.nextInt(list.size());
+                list.replaceRange(from, Math.min(from + random.nextInt(5), list.size()), List.of(i, i + 1));
+            } else if (random.nextInt(20) == 0) {
+                FXCollections.reverse(list);
+            }
+
+            snapshots.add(list.snapshot());
+            Snapshot<Integer> current = snapshots.get(snapshots.size() - 1);
+            Snapshot<Integer> earlier = snapshots.get(Math.max(snapshots.size() - 1 - random.nextInt(400), 0));
+            assertArrayEquals(changedRange(earlier, current), current.changedRangeSince(earlier));
+        }
+
+        SnapshotList<Integer> other = new SnapshotList<>();
+        other.setAll(list);
+        other.remove(0);
+        assertArrayEquals(changedRange(list.snapshot(), other.snapshot()),
+                other.snapshot().changedRangeSince(list.snapshot()));
+    }
+
+    /**
+     * Returns the range that differs between {@code earlier} and {@code current}, found by comparing them as a whole.
+     */
+    private static int[] changedRange(List<Integer> earlier, List<Integer> current) {
+        int shorter = Math.min(earlier.size(), current.size());
+        int from = 0;
+        while (from < shorter && earlier.get(from) == current.get(from)) {
+            from++;
+        }
+        if (from == shorter && earlier.size() == current.size()) {
+            return null;
+        }
+        int common = 0;
+        while (common < shorter - from
+                && earlier.get(earlier.size() - 1 - common) == current.get(current.size() - 1 - common)) {
+            common++;
+        }
+        return new int[] {from, earlier.size() - common, current.size() - common};
+    }
+
+    private List<Integer> fill(int count) {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            elements.add(i);
+        }
+        list.setAll(elements);
+        return elements;
+    }
+}
@@ -0,0 +1,120 @@
+package taskbook.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+public class TextIndexTest {
+
+    private static final String[] WORDS = {"eat", "Fruit", "sleep", "early", "party", "at", "kevin's", "house",
+        "buy", "Milk.", "read", "a", "book", "ea", "t"};
+
+    private final List<String> texts = new ArrayList<>();
+    private final TextIndex<String> index = new TextIndex<>(texts, Collections::singletonList,
+        TextIndexTest::contains);
+
+    @Test
+    public void find_randomQueries_sameAsScanning() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 200; i++) {
+            add(randomText(random));
+        }
+
+        List<String> queries = new ArrayList<>(List.of("", " ", "a", "EA", "t p", "at ", " at", "y h",
+                "eat fruit", "fruit  sleep", "'s h", "milk. r", "zzz"));
+        for (int i = 0; i < 300; i++) {
+            String text = texts.get(random.nextInt(texts.size()));
+            int start = random.nextInt(text.length());
+            int end = start + random.nextInt(text.length() - start + 1);
+            queries.add(text.substring(start, end));
+        }
+
+        for (String query : queries) {
+            assertEquals(scan(query), index.find(query), query);
+        }
+    }
+
+    @Test
+    public void find_afterAddAndRemove_sameAsScanning() {
+        add("eat fruit");
+        add("sleep early");
+        index.find("ea");
+
+        String party = "party at kevin's house";
+        add(party);
+        remove("eat fruit");
+        assertEquals(scan("ea"), index.find("ea"));
+        assertEquals(Set.of(party), index.find("AT KEV"));
+
+        index.invalidate();
+        assertEquals(scan("e"), index.find("e"));
+    }
+
+    @Test
+    public void find_queryAcrossWords_sameAsScanning() {
+        add("party at kevin's house");
+        add("party at kevin");
+        add("a tkevin's house");
+        add("read a book");
+
+        for (String query : List.of("t kev", "at kevin's", "TY AT", "n's h", "ad a b", "a t", "party  at")) {
+            assertEquals(scan(query), index.find(query), query);
+        }
+    }
+
+    @Test
+    public void matching_indexChanged_seesNewElements() {
+        add("eat fruit");
+        Predicate<String> predicate = index.matching("fruit");
+        assertTrue(predicate.test(texts.get(0)));
+
+        String juice = "drink fruit juice";
+        add(juice);
+        assertTrue(predicate.test(juice));
+        assertFalse(predicate.test(new String("eat fruit")));
+    }
+
+    private void add(String text) {
+        index.add(text);
+        texts.add(text);
+    }
+
+    private void remove(String text) {
+        int position = texts.indexOf(text);
+        index.remove(texts.get(position));
+        texts.remove(position);
+    }
+
+    private Set<String> scan(String query) {
+        Set<String> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String text : texts) {
+            if (contains(text, query)) {
+                matches.add(text);
+            }
+        }
+        return matches;
+    }
+
+    private static String randomText(Random random) {
+        StringBuilder builder = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+        int wordCount = random.nextInt(5);
+        for (int i = 0; i < wordCount; i++) {
+            builder.append(random.nextInt(5) == 0 ? "  " : " ").append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+
+    private static boolean contains(String text, String query) {
+        return text.toUpperCase().contains(query.toUpperCase());
+    }
+}
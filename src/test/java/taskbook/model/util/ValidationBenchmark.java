@@ -0,0 +1,155 @@
+package taskbook.model.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import taskbook.commons.exceptions.DataConversionException;
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.TaskBook;
+import taskbook.model.person.Address;
+import taskbook.model.person.Email;
+import taskbook.model.person.Name;
+import taskbook.model.person.Person;
+import taskbook.model.person.Phone;
+import taskbook.model.tag.Tag;
+import taskbook.model.tag.TagSet;
+import taskbook.model.task.Description;
+import taskbook.model.task.Task;
+import taskbook.model.task.Todo;
+import taskbook.model.task.enums.Assignment;
+import taskbook.storage.JsonTaskBookStorage;
+
+/**
+ * Compares the time taken to load a large generated task book from a json file with the time taken to check its
+ * values with {@link ValidationUtil} and with {@link String#matches(String)}, which the value objects used before.
+ *
+ * The value objects cannot be switched back to regexes, so the load time with regexes is estimated as the measured
+ * load time, less the time the scanners take to check every value of the book, plus the time the regexes take.
+ * Run its {@code main} method by hand; it is not part of the tests.
+ */
+public class ValidationBenchmark {
+
+    private static final int PERSON_COUNT = 100_000;
+    private static final int TASKS_PER_PERSON = 2;
+    private static final int ROUNDS = 5;
+
+    private static final List<Check> CHECKS = List.of(
+            new Check("Name", Name.VALIDATION_REGEX, ValidationUtil::isAlphanumericWithSpaces,
+                    book -> map(book.getPersonList(), person -> person.getName().fullName)),
+            new Check("Phone", Phone.VALIDATION_REGEX, test -> ValidationUtil.isDigits(test, 3),
+                    book -> map(book.getPersonList(), person -> person.getPhone().value)),
+            new Check("Email", Email.VALIDATION_REGEX, ValidationUtil::isEmailAddress,
+                    book -> map(book.getPersonList(), person -> person.getEmail().value)),
+            new Check("Address", Address.VALIDATION_REGEX, ValidationUtil::isSingleLineNonBlank,
+                    book -> map(book.getPersonList(), person -> person.getAddress().value)),
+            new Check("Tag", Tag.VALIDATION_REGEX, ValidationUtil::isAlphanumeric, ValidationBenchmark::tagsOf),
+            new Check("Description", Description.VALIDATION_REGEX, ValidationUtil::isNonBlankAscii,
+                    book -> map(book.getTaskList(), task -> task.getDescription().description)));
+
+    /**
+     * Prints the time taken to load the generated task book, and by each check of all of its values, in milliseconds,
+     * over a few rounds to let the JIT compiler warm up.
+     */
+    public static void main(String[] args) throws IOException, DataConversionException {
+        Path filePath = Files.createTempFile("taskbook", ".json");
+        try {
+            TaskBook taskBook = generateTaskBook();
+            JsonTaskBookStorage storage = new JsonTaskBookStorage(filePath, false);
+            storage.saveTaskBook(taskBook);
+            System.out.printf("%d persons and %d tasks, %d kB%n", taskBook.getPersonList().size(),
+                    taskBook.getTaskList().size(), Files.size(filePath) / 1024);
+
+            for (int round = 1; round <= ROUNDS; round++) {
+                System.out.println("Round " + round);
+                long start = System.nanoTime();
+                ReadOnlyTaskBook loaded = storage.readTaskBook().get();
+                long loadTime = (System.nanoTime() - start) / 1_000_000;
+
+                long totalRegexTime = 0;
+                long totalScannerTime = 0;
+                for (Check check : CHECKS) {
+                    List<String> values = check.valuesOf.apply(loaded);
+                    long regexTime = time(test -> test.matches(check.regex), values);
+                    long scannerTime = time(check.validator, values);
+                    totalRegexTime += regexTime;
+                    totalScannerTime += scannerTime;
+                    System.out.printf("  %-12s regex %6d ms, scanner %6d ms%n", check.name, regexTime, scannerTime);
+                }
+                System.out.printf("  Load         scanner %6d ms, regex estimated %6d ms%n", loadTime,
+                        loadTime - totalScannerTime + totalRegexTime);
+            }
+        } finally {
+            Files.deleteIfExists(filePath);
+        }
+    }
+
+    private static TaskBook generateTaskBook() {
+        TaskBook taskBook = new TaskBook();
+        Tag friends = Tag.of("friends");
+        Tag colleagues = Tag.of("colleagues");
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            Name name = Name.of("Alex Yeoh " + i);
+            taskBook.addPerson(new Person(name, new Phone(String.valueOf(80000000 + i)),
+                    new Email("alexyeoh" + i + "@example.com"), new Address("Blk " + i + " Geylang Street 29, #06-40"),
+                    TagSet.of(List.of(i % 2 == 0 ? friends : colleagues))));
+            for (int j = 0; j < TASKS_PER_PERSON; j++) {
+                taskBook.addTask(new Todo(name, Assignment.values()[j % 2],
+                        new Description("Finish part " + j + " of the user guide before the v1.4 release."), false,
+                        TagSet.of(List.of(colleagues))));
+            }
+        }
+        return taskBook;
+    }
+
+    private static <T> List<String> map(List<T> elements, Function<T, String> field) {
+        List<String> values = new ArrayList<>(elements.size());
+        for (T element : elements) {
+            values.add(field.apply(element));
+        }
+        return values;
+    }
+
+    private static List<String> tagsOf(ReadOnlyTaskBook taskBook) {
+        List<String> values = new ArrayList<>();
+        for (Person person : taskBook.getPersonList()) {
+            person.getTags().forEach(tag -> values.add(tag.tagName));
+        }
+        for (Task task : taskBook.getTaskList()) {
+            task.getTags().forEach(tag -> values.add(tag.tagName));
+        }
+        return values;
+    }
+
+    private static long time(Predicate<String> validator, List<String> values) {
+        long start = System.nanoTime();
+        for (String value : values) {
+            if (!validator.test(value)) {
+                throw new AssertionError(value + " should be valid");
+            }
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    /**
+     * A check of a field, and how to get the values of that field from a task book.
+     */
+    private static class Check {
+        private final String name;
+        private final String regex;
+        private final Predicate<String> validator;
+        private final Function<ReadOnlyTaskBook, List<String>> valuesOf;
+
+        Check(String name, String regex, Predicate<String> validator,
+                Function<ReadOnlyTaskBook, List<String>> valuesOf) {
+            this.name = name;
+            this.regex = regex;
+            this.validator = validator;
+            this.valuesOf = valuesOf;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package taskbook.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import taskbook.model.person.Address;
+import taskbook.model.person.Email;
+import taskbook.model.person.Name;
+import taskbook.model.person.Phone;
+import taskbook.model.tag.Tag;
+import taskbook.model.task.Description;
+
+public class ValidationUtilTest {
+
+    /** Characters from every character class that the regexes tell apart, including non-ASCII and line breaks. */
+    private static final String CHARACTERS = "aZ09 _-.+@'\t\n\r\u000B\u0001\u007F\u0085\u00E9\u2028\uD83D\uDE00";
+    private static final String EMAIL_CHARACTERS = "a0_-.+@ ";
+
+    @Test
+    public void isAlphanumeric_sameAsRegex() {
+        assertSameAsRegex(Tag.VALIDATION_REGEX, ValidationUtil::isAlphanumeric, CHARACTERS, 4);
+    }
+
+    @Test
+    public void isAlphanumericWithSpaces_sameAsRegex() {
+        assertSameAsRegex(Name.VALIDATION_REGEX, ValidationUtil::isAlphanumericWithSpaces, CHARACTERS, 4);
+    }
+
+    @Test
+    public void isDigits_sameAsRegex() {
+        assertSameAsRegex(Phone.VALIDATION_REGEX, test -> ValidationUtil.isDigits(test, 3), CHARACTERS, 4);
+        assertTrue(ValidationUtil.isDigits("123456789", 3));
+        assertFalse(ValidationUtil.isDigits("\u0661\u0662\u0663", 3)); // arabic-indic digits
+    }
+
+    @Test
+    public void isNonBlankAscii_sameAsRegex() {
+        assertSameAsRegex(Description.VALIDATION_REGEX, ValidationUtil::isNonBlankAscii,
+                test -> test.trim().length() > 0, CHARACTERS, 4);
+    }
+
+    @Test
+    public void isSingleLineNonBlank_sameAsRegex() {
+        assertSameAsRegex(Address.VALIDATION_REGEX, ValidationUtil::isSingleLineNonBlank, CHARACTERS, 4);
+    }
+
+    @Test
+    public void isEmailAddress_sameAsRegex() {
+        assertSameAsRegex(Email.VALIDATION_REGEX, ValidationUtil::isEmailAddress, EMAIL_CHARACTERS, 6);
+        assertSameAsRegex(Email.VALIDATION_REGEX, ValidationUtil::isEmailAddress, CHARACTERS, 4);
+
+        List<String> emails = List.of("PeterJack_1190@example.com", "a1+be.d@example1.com", "peter_jack@very-very"
+                + "-very-long-example.com", "e1234567@u.nus.edu", "a@bc", "a@b-c", "a@b.c", "-a@bc", "a..b@cd",
+                "a@bc.", "a@-bc", "a@bc-", "a@b--c", "a@b.c-de", "a@bc@de", "peterjack@exam_ple.com");
+        for (String email : emails) {
+            assertEquals(email.matches(Email.VALIDATION_REGEX), ValidationUtil.isEmailAddress(email), email);
+        }
+    }
+
+    @Test
+    public void isEmailAddress_randomLongStrings_sameAsRegex() {
+        Random random = new Random(0);
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder test = new StringBuilder();
+            int length = 3 + random.nextInt(15);
+            for (int j = 0; j < length; j++) {
+                test.append(random.nextInt(3) == 0
+                        ? EMAIL_CHARACTERS.charAt(random.nextInt(EMAIL_CHARACTERS.length()))
+                        : (char) ('a' + random.nextInt(3)));
+            }
+            assertEquals(test.toString().matches(Email.VALIDATION_REGEX),
+                    ValidationUtil.isEmailAddress(test.toString()), test.toString());
+        }
+    }
+
+    private static void assertSameAsRegex(String regex, Predicate<String> validator, String characters,
+            int maxLength) {
+        assertSameAsRegex(regex, validator, test -> true, characters, maxLength);
+    }
+
+    /**
+     * Asserts that {@code validator} accepts exactly the strings of at most {@code maxLength} characters from
+     * {@code characters} that match {@code regex} and pass {@code otherCheck}.
+     */
+    private static void assertSameAsRegex(String regex, Predicate<String> validator, Predicate<String> otherCheck,
+            String characters, int maxLength) {
+        List<String> tests = new ArrayList<>(List.of(""));
+        List<String> shorterTests = tests;
+        for (int length = 1; length <= maxLength; length++) {
+            List<String> longerTests = new ArrayList<>();
+            for (String shorterTest : shorterTests) {
+                for (int i = 0; i < characters.length(); i++) {
+                    longerTests.add(shorterTest + characters.charAt(i));
+                }
+            }
+            tests.addAll(longerTests);
+            shorterTests = longerTests;
+        }
+
+        for (String test : tests) {
+            assertEquals(test.matches(regex) && otherCheck.test(test), validator.test(test), test);
+        }
+    }
+}
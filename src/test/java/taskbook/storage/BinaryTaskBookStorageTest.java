@@ -0,0 +1,103 @@
+package taskbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static taskbook.testutil.TypicalTaskBook.HOON;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import taskbook.commons.exceptions.DataConversionException;
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.TaskBook;
+import taskbook.testutil.Assert;
+import taskbook.testutil.TypicalTaskBook;
+
+public class BinaryTaskBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readTaskBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryTaskBookStorage(testFolder.resolve("missing.bin")).readTaskBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTaskBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.bin");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        BinaryTaskBookStorage storage = new BinaryTaskBookStorage(filePath);
+
+        storage.saveTaskBook(original);
+        ReadOnlyTaskBook readBack = storage.readTaskBook().get();
+        assertEquals(original, new TaskBook(readBack));
+        for (int i = 0; i < original.getTaskList().size(); i++) {
+            assertEquals(original.getTaskList().get(i).getId(), readBack.getTaskList().get(i).getId());
+        }
+        for (int i = 0; i < original.getPersonList().size(); i++) {
+            assertEquals(original.getPersonList().get(i).getId(), readBack.getPersonList().get(i).getId());
+        }
+
+        original.addPerson(HOON);
+        storage.saveTaskBook(original);
+        assertEquals(original, new TaskBook(storage.readTaskBook().get()));
+    }
+
+    @Test
+    public void saveTaskBook_smallerThanJson() throws Exception {
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        Path binaryPath = testFolder.resolve("taskbook.bin");
+        Path jsonPath = testFolder.resolve("taskbook.json");
+        new BinaryTaskBookStorage(binaryPath).saveTaskBook(original);
+        new JsonTaskBookStorage(jsonPath).saveTaskBook(original);
+
+        assertTrue(Files.size(binaryPath) * 3 < Files.size(jsonPath));
+    }
+
+    @Test
+    public void readTaskBook_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.bin");
+        new BinaryTaskBookStorage(filePath).saveTaskBook(TypicalTaskBook.getTypicalTaskBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        Assert.assertThrows(DataConversionException.class, () -> new BinaryTaskBookStorage(filePath).readTaskBook());
+    }
+
+    @Test
+    public void readTaskBook_unsupportedVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.bin");
+        new BinaryTaskBookStorage(filePath).saveTaskBook(TypicalTaskBook.getTypicalTaskBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[7] = (byte) (BinaryTaskBookStorage.VERSION + 1);
+        Files.write(filePath, bytes);
+
+        Assert.assertThrows(DataConversionException.class, () -> new BinaryTaskBookStorage(filePath).readTaskBook());
+    }
+
+    @Test
+    public void readTaskBook_countLargerThanFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.bin");
+        new BinaryTaskBookStorage(filePath).saveTaskBook(TypicalTaskBook.getTypicalTaskBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        // replaces the count of the string table, which follows the magic number and the version
+        int countEnd = 8;
+        while ((bytes[countEnd] & 0x80) != 0) {
+            countEnd++;
+        }
+        ByteArrayOutputStream corrupted = new ByteArrayOutputStream();
+        corrupted.write(bytes, 0, 8);
+        corrupted.write(new byte[] {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07});
+        corrupted.write(bytes, countEnd + 1, bytes.length - countEnd - 1);
+        Files.write(filePath, corrupted.toByteArray());
+
+        Assert.assertThrows(DataConversionException.class, () -> new BinaryTaskBookStorage(filePath).readTaskBook());
+    }
+}
@@ -0,0 +1,156 @@
+package taskbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static taskbook.testutil.TypicalTaskBook.HOON;
+import static taskbook.testutil.TypicalTaskBook.IDA;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.TaskBook;
+import taskbook.model.TaskBookFormat;
+import taskbook.testutil.TypicalTaskBook;
+
+public class ConvertingTaskBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void detectFormat_filesOfEachFormat_formatOfFile() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        assertEquals(TaskBookFormat.JSON, ConvertingTaskBookStorage.detectFormat(filePath));
+
+        new BinaryTaskBookStorage(filePath).saveTaskBook(original);
+        assertEquals(TaskBookFormat.BINARY, ConvertingTaskBookStorage.detectFormat(filePath));
+        new ShardedTaskBookStorage(filePath).saveTaskBook(original);
+        assertEquals(TaskBookFormat.SHARDED, ConvertingTaskBookStorage.detectFormat(filePath));
+        new JournalTaskBookStorage(filePath).saveTaskBook(original);
+        assertEquals(TaskBookFormat.JSON, ConvertingTaskBookStorage.detectFormat(filePath));
+    }
+
+    @Test
+    public void readTaskBook_jsonFileByBinaryStorage_convertedOnSave() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        JournalTaskBookStorage jsonStorage = new JournalTaskBookStorage(filePath);
+        jsonStorage.saveTaskBook(original);
+        original.addPerson(HOON);
+        jsonStorage.saveTaskBook(original);
+
+        TaskBookStorage binaryStorage = ConvertingTaskBookStorage.create(TaskBookFormat.BINARY, filePath, true);
+        ReadOnlyTaskBook readBack = binaryStorage.readTaskBook().get();
+        assertEquals(original, new TaskBook(readBack));
+
+        binaryStorage.saveTaskBook(readBack);
+        assertTrue(BinaryTaskBookStorage.isBinaryFile(filePath));
+        assertFalse(Files.exists(JournalTaskBookStorage.getJournalPath(filePath)));
+        assertEquals(original, new TaskBook(new BinaryTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void readTaskBook_binaryFileByJsonStorage_convertedOnSave() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        new BinaryTaskBookStorage(filePath).saveTaskBook(original);
+
+        TaskBookStorage jsonStorage = ConvertingTaskBookStorage.create(TaskBookFormat.JSON, filePath, true);
+        assertEquals(original, new TaskBook(jsonStorage.readTaskBook().get()));
+
+        original.addPerson(HOON);
+        jsonStorage.saveTaskBook(original);
+        assertFalse(BinaryTaskBookStorage.isBinaryFile(filePath));
+        assertEquals(original, new TaskBook(new JsonTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void readTaskBook_jsonFileByShardedStorage_splitOnSave() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        JournalTaskBookStorage jsonStorage = new JournalTaskBookStorage(filePath);
+        jsonStorage.saveTaskBook(original);
+        original.addPerson(HOON);
+        jsonStorage.saveTaskBook(original);
+
+        TaskBookStorage shardedStorage = ConvertingTaskBookStorage.create(TaskBookFormat.SHARDED, filePath, true);
+        ReadOnlyTaskBook readBack = shardedStorage.readTaskBook().get();
+        assertEquals(original, new TaskBook(readBack));
+
+        shardedStorage.saveTaskBook(readBack);
+        assertTrue(Files.isDirectory(ShardedTaskBookStorage.getShardDirectory(filePath)));
+        assertFalse(Files.exists(JournalTaskBookStorage.getJournalPath(filePath)));
+        assertEquals(original, new TaskBook(new ShardedTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void readTaskBook_shardedFileByOtherStorages_convertedOnSave() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        new ShardedTaskBookStorage(filePath).saveTaskBook(original);
+
+        assertEquals(original, new TaskBook(ConvertingTaskBookStorage.readDataFile(filePath).get()));
+        TaskBookStorage jsonStorage = ConvertingTaskBookStorage.create(TaskBookFormat.JSON, filePath, true);
+        assertEquals(original, new TaskBook(jsonStorage.readTaskBook().get()));
+
+        original.addPerson(HOON);
+        jsonStorage.saveTaskBook(original);
+        assertFalse(Files.exists(ShardedTaskBookStorage.getShardDirectory(filePath)));
+        assertEquals(original, new TaskBook(new JsonTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void readTaskBook_shardedFileWithJournalLeftOver_tasksOfShardsRead() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        new JournalTaskBookStorage(filePath).saveTaskBook(original);
+        // A sharded storage that was stopped before the journal of the json snapshot was deleted.
+        new ShardedTaskBookStorage(filePath).saveTaskBook(original);
+        assertTrue(Files.exists(JournalTaskBookStorage.getJournalPath(filePath)));
+
+        TaskBookStorage shardedStorage = ConvertingTaskBookStorage.create(TaskBookFormat.SHARDED, filePath, true);
+        assertEquals(original, new TaskBook(shardedStorage.readTaskBook().get()));
+
+        shardedStorage.saveTaskBook(original);
+        assertFalse(Files.exists(JournalTaskBookStorage.getJournalPath(filePath)));
+        assertEquals(original, new TaskBook(new ShardedTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void readTaskBook_sqlDatabaseByJsonStorageAndBack_convertedOnSave() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        Path databasePath = SqlTaskBookStorage.getDatabasePath(filePath);
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        new JsonTaskBookStorage(filePath).saveTaskBook(original);
+
+        TaskBookStorage sqlStorage = ConvertingTaskBookStorage.create(TaskBookFormat.SQL, filePath, true);
+        assertEquals(original, new TaskBook(sqlStorage.readTaskBook().get()));
+        original.addPerson(HOON);
+        sqlStorage.saveTaskBook(original);
+        sqlStorage.close();
+        assertEquals(TaskBookFormat.SQL, ConvertingTaskBookStorage.detectFormat(filePath));
+
+        // the changes made in the database are exported when leaving the SQL format
+        TaskBookStorage jsonStorage = ConvertingTaskBookStorage.create(TaskBookFormat.JSON, filePath, true);
+        assertEquals(original, new TaskBook(jsonStorage.readTaskBook().get()));
+        original.addPerson(IDA);
+        jsonStorage.saveTaskBook(original);
+        jsonStorage.close();
+        assertFalse(Files.exists(databasePath));
+        assertEquals(TaskBookFormat.JSON, ConvertingTaskBookStorage.detectFormat(filePath));
+        assertEquals(original, new TaskBook(new JsonTaskBookStorage(filePath).readTaskBook().get()));
+
+        // and the changes made in the data file are imported when coming back
+        sqlStorage = ConvertingTaskBookStorage.create(TaskBookFormat.SQL, filePath, true);
+        assertEquals(original, new TaskBook(sqlStorage.readTaskBook().get()));
+        sqlStorage.close();
+        assertTrue(Files.exists(databasePath));
+        assertEquals(original, new TaskBook(ConvertingTaskBookStorage.readDataFile(filePath).get()));
+    }
+}
@@ -0,0 +1,176 @@
+package taskbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static taskbook.testutil.TypicalTaskBook.EATING;
+import static taskbook.testutil.TypicalTaskBook.HOON;
+import static taskbook.testutil.TypicalTaskBook.IDA;
+import static taskbook.testutil.TypicalTaskBook.SLEEPING;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import taskbook.commons.exceptions.DataConversionException;
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.TaskBook;
+import taskbook.testutil.Assert;
+import taskbook.testutil.EditTaskDescriptorBuilder;
+import taskbook.testutil.TypicalTaskBook;
+
+public class JournalTaskBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readTaskBook_nullFilePath_throwsNullPointerException() {
+        JournalTaskBookStorage storage = new JournalTaskBookStorage(testFolder.resolve("taskbook.json"));
+        Assert.assertThrows(NullPointerException.class, () -> storage.readTaskBook(null));
+    }
+
+    @Test
+    public void readTaskBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalTaskBookStorage(testFolder.resolve("missing.json")).readTaskBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTaskBook_changesJournaled_readBackByNewStorage() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        JournalTaskBookStorage storage = new JournalTaskBookStorage(filePath);
+        storage.saveTaskBook(original);
+        String snapshot = Files.readString(filePath);
+
+        original.addPerson(HOON);
+        original.deleteTask(SLEEPING);
+        storage.saveTaskBook(original);
+        original.setTask(EATING, EATING.createEditedCopy(new EditTaskDescriptorBuilder().withIsDone(false).build()));
+        original.addPerson(IDA);
+        storage.saveTaskBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(5, journalLines(filePath).size());
+        assertEquals(original, new TaskBook(new JournalTaskBookStorage(filePath).readTaskBook().get()));
+        assertEquals(original, new TaskBook(storage.readTaskBook().get()));
+    }
+
+    @Test
+    public void saveTaskBook_unchanged_nothingAppended() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        JournalTaskBookStorage storage = new JournalTaskBookStorage(filePath);
+        storage.saveTaskBook(original);
+        storage.saveTaskBook(original);
+
+        assertEquals(1, journalLines(filePath).size());
+    }
+
+    @Test
+    public void saveTaskBook_thresholdReached_compacted() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        JournalTaskBookStorage storage = new JournalTaskBookStorage(filePath, 2, false);
+        storage.saveTaskBook(original);
+        original.addPerson(HOON);
+        storage.saveTaskBook(original);
+        original.addPerson(IDA);
+        storage.saveTaskBook(original);
+        assertEquals(3, journalLines(filePath).size());
+
+        original.deleteTask(SLEEPING);
+        storage.saveTaskBook(original);
+        assertEquals(1, journalLines(filePath).size());
+        assertEquals(original, new TaskBook(new JournalTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void readTaskBook_incompleteLastRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        JournalTaskBookStorage storage = new JournalTaskBookStorage(filePath);
+        storage.saveTaskBook(original);
+        original.addPerson(HOON);
+        storage.saveTaskBook(original);
+        TaskBook journaled = new TaskBook(original);
+
+        Files.writeString(JournalTaskBookStorage.getJournalPath(filePath), "{\"from\":0,\"to\":",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        JournalTaskBookStorage newStorage = new JournalTaskBookStorage(filePath);
+        assertEquals(journaled, new TaskBook(newStorage.readTaskBook().get()));
+
+        // The next save starts a new journal instead of appending after the incomplete record
+        original.addPerson(IDA);
+        newStorage.saveTaskBook(original);
+        assertEquals(1, journalLines(filePath).size());
+        assertEquals(original, new TaskBook(new JournalTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void saveTaskBook_partlyAppendedRecord_newJournalStarted() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        JournalTaskBookStorage storage = new JournalTaskBookStorage(filePath);
+        storage.saveTaskBook(original);
+
+        // a record that was cut short by a failed append
+        Files.writeString(JournalTaskBookStorage.getJournalPath(filePath), "{\"from\":0,\"to\":",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        original.addPerson(HOON);
+        storage.saveTaskBook(original);
+        original.addPerson(IDA);
+        storage.saveTaskBook(original);
+
+        assertEquals(2, journalLines(filePath).size());
+        assertEquals(original, new TaskBook(new JournalTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void readTaskBook_invalidRecordBeforeLast_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        JournalTaskBookStorage storage = new JournalTaskBookStorage(filePath);
+        storage.saveTaskBook(original);
+
+        Files.writeString(JournalTaskBookStorage.getJournalPath(filePath),
+                "not json\n{\"from\":0,\"to\":0,\"persons\":[]}\n", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        Assert.assertThrows(DataConversionException.class, () -> new JournalTaskBookStorage(filePath).readTaskBook());
+    }
+
+    @Test
+    public void readTaskBook_journalOfOtherSnapshot_ignored() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        JournalTaskBookStorage storage = new JournalTaskBookStorage(filePath);
+        storage.saveTaskBook(original);
+        original.addPerson(HOON);
+        storage.saveTaskBook(original);
+
+        // Replacing the snapshot without its journal leaves a journal behind that must not be replayed on it
+        TaskBook replacement = TypicalTaskBook.getTypicalTaskBook();
+        replacement.deleteTask(SLEEPING);
+        new JsonTaskBookStorage(filePath).saveTaskBook(replacement);
+        ReadOnlyTaskBook readBack = new JournalTaskBookStorage(filePath).readTaskBook().get();
+        assertEquals(replacement, new TaskBook(readBack));
+    }
+
+    @Test
+    public void saveTaskBook_otherFilePath_snapshotWritten() throws Exception {
+        Path otherPath = testFolder.resolve("other.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        new JournalTaskBookStorage(testFolder.resolve("taskbook.json")).saveTaskBook(original, otherPath);
+
+        assertEquals(original, new TaskBook(new JsonTaskBookStorage(otherPath).readTaskBook().get()));
+    }
+
+    private static List<String> journalLines(Path filePath) throws Exception {
+        return Files.readAllLines(JournalTaskBookStorage.getJournalPath(filePath), StandardCharsets.UTF_8);
+    }
+}
@@ -51,6 +51,15 @@ public class JsonAdaptedDeadlineTest {
         Assertions.assertEquals(TypicalTaskBook.EATING, task.toModelType());
     }
 
+    @Test
+    public void toModelType_idMissing_returnsTaskWithNewId() throws Exception {
+        JsonAdaptedTask task = new JsonAdaptedDeadline(VALID_NAME, VALID_ASSIGNMENT,
+                VALID_DESCRIPTION, true, VALID_DEADLINE, VALID_TAGS);
+        Assertions.assertNotEquals(TypicalTaskBook.EATING.getId(), task.toModelType().getId());
+        Assertions.assertEquals(TypicalTaskBook.EATING.getId(),
+                new JsonAdaptedDeadline(TypicalTaskBook.EATING).toModelType().getId());
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         TaskBook taskBook = new TaskBook();
@@ -0,0 +1,111 @@
+package taskbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import taskbook.commons.exceptions.IllegalValueException;
+import taskbook.commons.util.JsonUtil;
+import taskbook.model.TaskBook;
+import taskbook.testutil.Assert;
+import taskbook.testutil.TypicalTaskBook;
+
+public class JsonTaskBookLoaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableTaskBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsTaskBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonTaskBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonTaskBook.json");
+
+    @Test
+    public void load_typicalPersonsFile_success() throws Exception {
+        try (InputStream in = Files.newInputStream(TYPICAL_PERSONS_FILE)) {
+            assertEquals(TypicalTaskBook.getTypicalTaskBook(), new JsonTaskBookLoader().load(in));
+        }
+    }
+
+    @Test
+    public void load_tasksBeforePersons_success() throws Exception {
+        Map<?, ?> typical = typicalTaskBookJson();
+        Map<Object, Object> reordered = new LinkedHashMap<>();
+        reordered.put("tasks", typical.get("tasks"));
+        reordered.put("persons", typical.get("persons"));
+
+        assertEquals(TypicalTaskBook.getTypicalTaskBook(), load(JsonUtil.toCompactJsonString(reordered)));
+    }
+
+    @Test
+    public void load_tasksOfMissingPersons_leftOut() throws Exception {
+        Map<Object, Object> json = new LinkedHashMap<>(typicalTaskBookJson());
+        json.put("persons", List.of());
+
+        JsonTaskBookLoader loader = new JsonTaskBookLoader();
+        TaskBook taskBook = loader.load(toStream(JsonUtil.toCompactJsonString(json)));
+        assertTrue(taskBook.getTaskList().isEmpty());
+        assertEquals(TypicalTaskBook.getTypicalTasks().size(), loader.getDroppedTaskCount());
+    }
+
+    @Test
+    public void load_personsWithoutIds_idsInFileOrder() throws Exception {
+        List<Map<String, String>> persons = new ArrayList<>();
+        for (int i = 0; i < 3 * ParallelConverter.CHUNK_SIZE; i++) {
+            persons.add(Map.of("name", "Person " + i, "phone", "9876543" + i, "email", "person" + i + "@example.com",
+                    "address", "Street " + i));
+        }
+
+        TaskBook taskBook = load(JsonUtil.toCompactJsonString(Map.of("persons", persons)));
+        for (int i = 1; i < persons.size(); i++) {
+            assertEquals("Person " + i, taskBook.getPersonList().get(i).getName().fullName);
+            assertTrue(taskBook.getPersonList().get(i - 1).getId() < taskBook.getPersonList().get(i).getId());
+        }
+    }
+
+    @Test
+    public void load_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(INVALID_PERSON_FILE)) {
+            Assert.assertThrows(IllegalValueException.class, () -> new JsonTaskBookLoader().load(in));
+        }
+    }
+
+    @Test
+    public void load_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(DUPLICATE_PERSON_FILE)) {
+            Assert.assertThrows(IllegalValueException.class, JsonSerializableTaskBook.MESSAGE_DUPLICATE_PERSON, ()
+                -> new JsonTaskBookLoader().load(in));
+        }
+    }
+
+    @Test
+    public void load_notTaskBook_throwsIoException() {
+        Assert.assertThrows(IOException.class, () -> load("[]"));
+        Assert.assertThrows(IOException.class, () -> load("{\"persons\": 1}"));
+        Assert.assertThrows(IOException.class, () -> load("{\"persons\": [null]}"));
+        Assert.assertThrows(IOException.class, () -> load("{\"persons\": ["));
+    }
+
+    private static Map<?, ?> typicalTaskBookJson() throws IOException {
+        String json = JsonUtil.toCompactJsonString(new JsonSerializableTaskBook(TypicalTaskBook.getTypicalTaskBook()));
+        return JsonUtil.fromJsonString(json, LinkedHashMap.class);
+    }
+
+    private static TaskBook load(String json) throws IOException, IllegalValueException {
+        return new JsonTaskBookLoader().load(toStream(json));
+    }
+
+    private static InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -84,6 +84,22 @@ public class JsonTaskBookStorageTest {
         assertEquals(original, new TaskBook(readBack));
     }
 
+    @Test
+    public void readAndSaveTaskBook_ids_preserved() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        JsonTaskBookStorage jsonTaskBookStorage = new JsonTaskBookStorage(filePath);
+
+        jsonTaskBookStorage.saveTaskBook(original, filePath);
+        ReadOnlyTaskBook readBack = jsonTaskBookStorage.readTaskBook(filePath).get();
+        for (int i = 0; i < original.getTaskList().size(); i++) {
+            assertEquals(original.getTaskList().get(i).getId(), readBack.getTaskList().get(i).getId());
+        }
+        for (int i = 0; i < original.getPersonList().size(); i++) {
+            assertEquals(original.getPersonList().get(i).getId(), readBack.getPersonList().get(i).getId());
+        }
+    }
+
     // TODO: Test if person is removed all his/her tasks are removed such that readAndSaveTaskBook all in order
 
     @Test
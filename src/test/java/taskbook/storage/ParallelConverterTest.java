@@ -0,0 +1,74 @@
+package taskbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import taskbook.commons.exceptions.IllegalValueException;
+import taskbook.testutil.Assert;
+
+public class ParallelConverterTest {
+
+    private static final int RECORD_COUNT = 10 * ParallelConverter.CHUNK_SIZE + 7;
+
+    private final List<String> handedOn = new ArrayList<>();
+
+    @Test
+    public void finish_manyRecords_handedOnInOrder() throws Exception {
+        ParallelConverter<Integer, String> converter =
+                new ParallelConverter<>(String::valueOf, (record, converted) -> handedOn.add(converted));
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            converter.add(i);
+        }
+        converter.finish();
+
+        assertEquals(numbersBelow(RECORD_COUNT), handedOn);
+    }
+
+    @Test
+    public void finish_badRecords_firstBadRecordReported() {
+        ParallelConverter<Integer, String> converter = new ParallelConverter<>(record -> {
+            if (record == 300 || record == 2000) {
+                throw new IllegalValueException("bad record " + record);
+            }
+            return String.valueOf(record);
+        }, (record, converted) -> handedOn.add(converted));
+
+        Assert.assertThrows(IllegalValueException.class, "bad record 300", () -> addAllAndFinish(converter));
+        assertEquals(numbersBelow(300), handedOn);
+    }
+
+    @Test
+    public void finish_handlerFailsBeforeBadRecord_handlerErrorReported() {
+        ParallelConverter<Integer, String> converter = new ParallelConverter<>(record -> {
+            if (record == 500) {
+                throw new IllegalValueException("bad record " + record);
+            }
+            return String.valueOf(record);
+        }, (record, converted) -> {
+            if (record == 100) {
+                throw new IllegalValueException("duplicate record " + record);
+            }
+            handedOn.add(converted);
+        });
+
+        Assert.assertThrows(IllegalValueException.class, "duplicate record 100", () -> addAllAndFinish(converter));
+        assertEquals(numbersBelow(100), handedOn);
+    }
+
+    private static void addAllAndFinish(ParallelConverter<Integer, String> converter) throws IllegalValueException {
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            converter.add(i);
+        }
+        converter.finish();
+    }
+
+    private static List<String> numbersBelow(int end) {
+        return IntStream.range(0, end).mapToObj(String::valueOf).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,139 @@
+package taskbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static taskbook.testutil.TypicalTaskBook.HOON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import taskbook.commons.exceptions.DataConversionException;
+import taskbook.commons.util.FileUtil;
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.TaskBook;
+import taskbook.model.task.Task;
+import taskbook.testutil.Assert;
+import taskbook.testutil.EditTaskDescriptorBuilder;
+import taskbook.testutil.TypicalTaskBook;
+
+public class ShardedTaskBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readTaskBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedTaskBookStorage(testFolder.resolve("missing.json")).readTaskBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTaskBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        ShardedTaskBookStorage storage = new ShardedTaskBookStorage(filePath);
+
+        storage.saveTaskBook(original);
+        ReadOnlyTaskBook readBack = new ShardedTaskBookStorage(filePath).readTaskBook().get();
+        assertEquals(original, new TaskBook(readBack));
+        for (int i = 0; i < original.getTaskList().size(); i++) {
+            assertEquals(original.getTaskList().get(i).getId(), readBack.getTaskList().get(i).getId());
+        }
+
+        original.addPerson(HOON);
+        original.deleteTask(original.getTaskList().get(0));
+        storage.saveTaskBook(original);
+        assertEquals(original, new TaskBook(new ShardedTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void saveTaskBook_taskMarked_onlyItsShardRewritten() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        new ShardedTaskBookStorage(filePath).saveTaskBook(TypicalTaskBook.getTypicalTaskBook());
+        ShardedTaskBookStorage storage = new ShardedTaskBookStorage(filePath);
+        TaskBook taskBook = new TaskBook(storage.readTaskBook().get());
+        Map<Path, String> filesBefore = readFiles(filePath);
+
+        // an unchanged task book rewrites nothing
+        storage.saveTaskBook(taskBook);
+        assertEquals(filesBefore, readFiles(filePath));
+
+        Task task = taskBook.getTaskList().get(0);
+        Task markedTask = task.createEditedCopy(new EditTaskDescriptorBuilder().withIsDone(!task.isDone()).build());
+        taskBook.setTask(task, markedTask);
+        storage.saveTaskBook(taskBook);
+        Map<Path, String> filesAfter = readFiles(filePath);
+
+        Path shardPath = ShardedTaskBookStorage.getShardDirectory(filePath)
+                .resolve(String.format("tasks-%03x.json", ShardedTaskBookStorage.shardOf(task.getName())));
+        assertNotEquals(filesBefore.remove(shardPath), filesAfter.remove(shardPath));
+        assertEquals(filesBefore, filesAfter);
+        assertEquals(taskBook, new TaskBook(new ShardedTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void saveTaskBook_idsNotInListOrder_listOrderKept() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook taskBook = TypicalTaskBook.getTypicalTaskBook();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < taskBook.getTaskList().size(); i++) {
+            tasks.add(taskBook.getTaskList().get(i).withId(taskBook.getTaskList().size() - i));
+        }
+        taskBook.setTasks(tasks);
+        ShardedTaskBookStorage storage = new ShardedTaskBookStorage(filePath);
+        storage.saveTaskBook(taskBook);
+        assertEquals(taskBook.getTaskList(), new ShardedTaskBookStorage(filePath).readTaskBook().get().getTaskList());
+        Map<Path, String> filesBefore = readFiles(filePath);
+
+        // a task added before the others only rewrites its own shard
+        Task first = tasks.get(0);
+        Task addedTask = first.createEditedCopy(new EditTaskDescriptorBuilder()
+                .withDescription("Added before the others").build()).withNewId();
+        tasks.add(0, addedTask);
+        taskBook.setTasks(tasks);
+        storage.saveTaskBook(taskBook);
+        Map<Path, String> filesAfter = readFiles(filePath);
+
+        Path shardPath = ShardedTaskBookStorage.getShardDirectory(filePath)
+                .resolve(String.format("tasks-%03x.json", ShardedTaskBookStorage.shardOf(addedTask.getName())));
+        assertNotEquals(filesBefore.remove(shardPath), filesAfter.remove(shardPath));
+        assertEquals(filesBefore, filesAfter);
+        assertEquals(taskBook.getTaskList(), new ShardedTaskBookStorage(filePath).readTaskBook().get().getTaskList());
+    }
+
+    @Test
+    public void readTaskBook_invalidShard_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        new ShardedTaskBookStorage(filePath).saveTaskBook(TypicalTaskBook.getTypicalTaskBook());
+        try (Stream<Path> shardFiles = Files.list(ShardedTaskBookStorage.getShardDirectory(filePath))) {
+            FileUtil.writeToFile(shardFiles.findFirst().get(), "{\"persons\": [], \"tasks\": [");
+        }
+
+        Assert.assertThrows(DataConversionException.class, () -> new ShardedTaskBookStorage(filePath).readTaskBook());
+    }
+
+    /**
+     * Returns the contents of the persons file at {@code filePath} and of all of its shards.
+     */
+    private static Map<Path, String> readFiles(Path filePath) throws Exception {
+        Map<Path, String> files = new HashMap<>();
+        files.put(filePath, FileUtil.readFromFile(filePath));
+        List<Path> shardFiles;
+        try (Stream<Path> paths = Files.list(ShardedTaskBookStorage.getShardDirectory(filePath))) {
+            shardFiles = paths.collect(Collectors.toList());
+        }
+        for (Path shardFile : shardFiles) {
+            files.put(shardFile, FileUtil.readFromFile(shardFile));
+        }
+        return files;
+    }
+}
@@ -0,0 +1,193 @@
+package taskbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static taskbook.testutil.TypicalTaskBook.HOON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import taskbook.commons.exceptions.DataConversionException;
+import taskbook.commons.util.FileUtil;
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.TaskBook;
+import taskbook.model.task.Task;
+import taskbook.testutil.Assert;
+import taskbook.testutil.EditTaskDescriptorBuilder;
+import taskbook.testutil.TypicalTaskBook;
+
+public class SqlTaskBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readTaskBook_missingFiles_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.json");
+        assertFalse(new SqlTaskBookStorage(filePath).readTaskBook().isPresent());
+        assertFalse(Files.exists(SqlTaskBookStorage.getDatabasePath(filePath)));
+    }
+
+    @Test
+    public void readAndSaveTaskBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        SqlTaskBookStorage storage = new SqlTaskBookStorage(filePath);
+
+        storage.saveTaskBook(original);
+        assertTrue(Files.exists(testFolder.resolve("taskbook" + SqlTaskBookStorage.DATABASE_EXTENSION)));
+        ReadOnlyTaskBook readBack = new SqlTaskBookStorage(filePath).readTaskBook().get();
+        assertEquals(original, new TaskBook(readBack));
+        for (int i = 0; i < original.getTaskList().size(); i++) {
+            assertEquals(original.getTaskList().get(i).getId(), readBack.getTaskList().get(i).getId());
+        }
+
+        original.addPerson(HOON);
+        original.deleteTask(original.getTaskList().get(0));
+        storage.saveTaskBook(original);
+        assertEquals(original, new TaskBook(new SqlTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void saveTaskBook_idsNotInListOrder_listOrderKept() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook taskBook = TypicalTaskBook.getTypicalTaskBook();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < taskBook.getTaskList().size(); i++) {
+            tasks.add(taskBook.getTaskList().get(i).withId(taskBook.getTaskList().size() - i));
+        }
+        taskBook.setTasks(tasks);
+        SqlTaskBookStorage storage = new SqlTaskBookStorage(filePath);
+        storage.saveTaskBook(taskBook);
+        assertEquals(taskBook.getTaskList(), new SqlTaskBookStorage(filePath).readTaskBook().get().getTaskList());
+
+        // tasks added before the others, removed from the middle and swapped are saved in place
+        Task addedTask = tasks.get(0).createEditedCopy(new EditTaskDescriptorBuilder()
+                .withDescription("Added before the others").build()).withNewId();
+        tasks.remove(tasks.size() / 2);
+        Collections.swap(tasks, 0, 1);
+        tasks.add(0, addedTask);
+        taskBook.setTasks(tasks);
+        storage.saveTaskBook(taskBook);
+        assertEquals(taskBook.getTaskList(), new SqlTaskBookStorage(filePath).readTaskBook().get().getTaskList());
+    }
+
+    @Test
+    public void saveTaskBook_taskMarked_onlyItsRowWritten() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        new SqlTaskBookStorage(filePath).saveTaskBook(TypicalTaskBook.getTypicalTaskBook());
+        SqlTaskBookStorage storage = new SqlTaskBookStorage(filePath);
+        TaskBook taskBook = new TaskBook(storage.readTaskBook().get());
+
+        // a change made behind the back of the storage is only overwritten if the task changes
+        Task otherTask = taskBook.getTaskList().get(1);
+        updateTask(filePath, otherTask, "Changed in the database");
+
+        Task task = taskBook.getTaskList().get(0);
+        Task markedTask = task.createEditedCopy(new EditTaskDescriptorBuilder().withIsDone(!task.isDone()).build());
+        taskBook.setTask(task, markedTask);
+        storage.saveTaskBook(taskBook);
+
+        ReadOnlyTaskBook readBack = new SqlTaskBookStorage(filePath).readTaskBook().get();
+        assertEquals(markedTask, readBack.getTaskList().get(0));
+        assertEquals("Changed in the database", readBack.getTaskList().get(1).getDescription().description);
+    }
+
+    @Test
+    public void close_afterSaves_savesKeptAndDatabaseReopenedOnNextUse() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        SqlTaskBookStorage storage = new SqlTaskBookStorage(filePath);
+        storage.saveTaskBook(original.snapshot());
+        original.addPerson(HOON);
+        storage.saveTaskBook(original.snapshot());
+        storage.close();
+        storage.close();
+
+        SqlTaskBookStorage otherStorage = new SqlTaskBookStorage(filePath);
+        assertEquals(original, new TaskBook(otherStorage.readTaskBook().get()));
+        otherStorage.close();
+
+        original.deleteTask(original.getTaskList().get(0));
+        storage.saveTaskBook(original.snapshot());
+        assertEquals(original, new TaskBook(storage.readTaskBook().get()));
+        storage.close();
+    }
+
+    @Test
+    public void readTaskBook_jsonFile_imported() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        JournalTaskBookStorage jsonStorage = new JournalTaskBookStorage(filePath);
+        jsonStorage.saveTaskBook(original);
+        original.addPerson(HOON);
+        jsonStorage.saveTaskBook(original);
+        String json = FileUtil.readFromFile(filePath);
+
+        assertEquals(original, new TaskBook(new SqlTaskBookStorage(filePath).readTaskBook().get()));
+        assertTrue(Files.exists(SqlTaskBookStorage.getDatabasePath(filePath)));
+        assertEquals(json, FileUtil.readFromFile(filePath));
+
+        // the database is read from then on
+        Files.delete(filePath);
+        assertEquals(original, new TaskBook(new SqlTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void readTaskBook_databaseOlderThanDataFile_dataFileReimported() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook original = TypicalTaskBook.getTypicalTaskBook();
+        new JsonTaskBookStorage(filePath).saveTaskBook(original);
+        SqlTaskBookStorage sqlStorage = new SqlTaskBookStorage(filePath);
+        assertEquals(original, new TaskBook(sqlStorage.readTaskBook().get()));
+        sqlStorage.close();
+
+        // the data file is changed by hand after the database was last written
+        original.addPerson(HOON);
+        new JsonTaskBookStorage(filePath).saveTaskBook(original);
+        Path databasePath = SqlTaskBookStorage.getDatabasePath(filePath);
+        Files.setLastModifiedTime(databasePath,
+                FileTime.fromMillis(Files.getLastModifiedTime(filePath).toMillis() - 3_600_000));
+
+        assertEquals(original, new TaskBook(sqlStorage.readTaskBook().get()));
+        sqlStorage.close();
+        Files.delete(filePath);
+        assertEquals(original, new TaskBook(sqlStorage.readTaskBook().get()));
+        sqlStorage.close();
+    }
+
+    @Test
+    public void readTaskBook_invalidValue_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("taskbook.json");
+        TaskBook taskBook = TypicalTaskBook.getTypicalTaskBook();
+        new SqlTaskBookStorage(filePath).saveTaskBook(taskBook);
+        updateTask(filePath, taskBook.getTaskList().get(0), "");
+
+        Assert.assertThrows(DataConversionException.class, () -> new SqlTaskBookStorage(filePath).readTaskBook());
+    }
+
+    /**
+     * Sets the description of {@code task} in the database of the data file at {@code filePath} directly.
+     */
+    private static void updateTask(Path filePath, Task task, String description) throws Exception {
+        Path databasePath = filePath.toAbsolutePath().resolveSibling("taskbook");
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:file:" + databasePath);
+                PreparedStatement update = connection.prepareStatement(
+                        "UPDATE tasks SET description = ? WHERE id = ?")) {
+            update.setString(1, description);
+            update.setLong(2, task.getId());
+            assertEquals(1, update.executeUpdate());
+        }
+    }
+}
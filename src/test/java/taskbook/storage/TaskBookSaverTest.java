@@ -0,0 +1,130 @@
+package taskbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import taskbook.model.ReadOnlyTaskBook;
+import taskbook.model.TaskBook;
+import taskbook.testutil.TypicalTaskBook;
+
+public class TaskBookSaverTest {
+
+    @Test
+    public void save_duringWrite_coalescedIntoOneWrite() throws Exception {
+        TaskBookStorageStub storage = new TaskBookStorageStub();
+        TaskBookSaver saver = new TaskBookSaver(storage);
+        ReadOnlyTaskBook first = new TaskBook();
+        ReadOnlyTaskBook second = TypicalTaskBook.getTypicalTaskBook();
+        ReadOnlyTaskBook third = TypicalTaskBook.getTypicalTaskBook().snapshot();
+
+        saver.save(first);
+        assertTrue(storage.writeStarted.await(10, TimeUnit.SECONDS));
+        saver.save(second);
+        saver.save(third);
+        storage.canFinishWrite.countDown();
+        saver.flush();
+
+        assertEquals(2, storage.saved.size());
+        assertSame(first, storage.saved.get(0));
+        assertSame(third, storage.saved.get(1));
+    }
+
+    @Test
+    public void save_storageThrowsIoException_failureReported() {
+        IOException exception = new IOException("dummy exception");
+        TaskBookStorageStub storage = new TaskBookStorageStub() {
+            @Override
+            public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+                throw exception;
+            }
+        };
+        TaskBookSaver saver = new TaskBookSaver(storage);
+        List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+        saver.setFailureHandler(failures::add);
+
+        saver.save(new TaskBook());
+        saver.flush();
+        assertEquals(List.of(exception), failures);
+    }
+
+    @Test
+    public void save_storageThrowsRuntimeException_failureReportedAndLaterSavesWritten() {
+        IllegalStateException exception = new IllegalStateException("dummy exception");
+        List<ReadOnlyTaskBook> saved = Collections.synchronizedList(new ArrayList<>());
+        TaskBookStorageStub storage = new TaskBookStorageStub() {
+            @Override
+            public void saveTaskBook(ReadOnlyTaskBook taskBook) {
+                if (taskBook.getPersonList().isEmpty()) {
+                    throw exception;
+                }
+                saved.add(taskBook);
+            }
+        };
+        TaskBookSaver saver = new TaskBookSaver(storage);
+        List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+        saver.setFailureHandler(failures::add);
+
+        saver.save(new TaskBook());
+        saver.flush();
+        assertEquals(1, failures.size());
+        assertSame(exception, failures.get(0).getCause());
+
+        ReadOnlyTaskBook taskBook = TypicalTaskBook.getTypicalTaskBook();
+        saver.save(taskBook);
+        saver.flush();
+        assertEquals(List.of(taskBook), saved);
+    }
+
+    /**
+     * A stub that records the task books it saved, and holds up the first write until it is allowed to finish.
+     */
+    private static class TaskBookStorageStub implements TaskBookStorage {
+        private final List<ReadOnlyTaskBook> saved = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch canFinishWrite = new CountDownLatch(1);
+
+        @Override
+        public Path getTaskBookFilePath() {
+            return Paths.get("stub.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyTaskBook> readTaskBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+            saved.add(taskBook);
+            writeStarted.countDown();
+            try {
+                canFinishWrite.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        @Override
+        public void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}